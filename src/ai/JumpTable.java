@@ -0,0 +1,386 @@
+package ai;
+
+// Java standard library imports
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import entities.Player;
+import levels.Level;
+import levels.TileClassMap;
+import physics.PhysicsBody;
+import static utilz.Constants.PLAYER.AIR_RESISTANCE;
+import static utilz.Constants.PLAYER.APEX_ACCEL_MULT;
+import static utilz.Constants.PLAYER.APEX_GRAVITY_MULT;
+import static utilz.Constants.PLAYER.APEX_THRESHOLD;
+import static utilz.Constants.PLAYER.ACCELERATION;
+import static utilz.Constants.PLAYER.GRAVITY;
+import static utilz.Constants.PLAYER.HITBOX.HITBOX_HEIGHT;
+import static utilz.Constants.PLAYER.HITBOX.HITBOX_WIDTH;
+import static utilz.Constants.PLAYER.JUMP_CUT_MULTIPLIER;
+import static utilz.Constants.PLAYER.JUMP_FORCE;
+import static utilz.Constants.PLAYER.JUMP_MAX_TIME;
+import static utilz.Constants.PLAYER.MASS;
+import static utilz.Constants.PLAYER.MAX_FALL_SPEED;
+import static utilz.Constants.PLAYER.MAX_RISE_SPEED;
+import static utilz.Constants.PLAYER.MAX_SPEED_X;
+import static utilz.Constants.WORLD.EMPTY_TILE_ID;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Table des trajectoires de saut, calculée hors ligne avec la vraie physique du joueur
+ *
+ * FONCTIONNEMENT:
+ * - Un motif d'entrée = durée d'appui sur saut (HOLD_FRAMES) x entrée horizontale
+ *   (aucune ou vers l'avant ; la gauche est le miroir de la droite)
+ * - Pour chaque motif, un Player réel saute dans un niveau de test vide (un pilier au
+ *   bord d'un gouffre) : la position de sa hitbox est relevée à chaque update jusqu'à
+ *   l'atterrissage ou MAX_DROP_TILES sous le point de départ
+ * - Les arcs ne dépendent que des constantes de Constants.PLAYER : une signature de ces
+ *   constantes est stockée avec la table, une table périmée est recalculée
+ *
+ * UTILISATION:
+ * - landing() suit un arc dans un niveau réel (murs, plafonds, sols, one-way) en
+ *   O(frames) : NavGraph s'en sert pour ses arêtes de saut, LevelValidator pour
+ *   vérifier qu'un niveau est terminable
+ *
+ * Générée au build par tools.JumpTableBuilder (data/jump_table.bin), recalculée au
+ * premier accès si le fichier manque.
+ *
+ * @author Lounol72
+ */
+public final class JumpTable {
+
+    public static final String RESOURCE = "/data/jump_table.bin";
+    private static final int MAGIC = 0x49434A54; // "ICJT"
+    private static final int VERSION = 1;
+
+    /** Durées d'appui sur saut simulées (en updates) */
+    public static final int[] HOLD_FRAMES = {1, 2, 3, 4, 6, 8, 10, 13, 16, 20, 25, 30, 40, 60};
+    /** Entrées horizontales simulées : 0 = aucune, 1 = vers l'avant */
+    public static final int[] DIRECTIONS = {0, 1};
+
+    private static final int MAX_FRAMES = 600;
+    private static final int MAX_DROP_TILES = 12;
+
+    // Niveau de test : un pilier de PILLAR_WIDTH tiles au bord d'un gouffre
+    private static final int TEST_WIDTH = 48;
+    private static final int TEST_HEIGHT = 40;
+    private static final int TEST_PILLAR_X = 2;
+    private static final int TEST_PILLAR_WIDTH = 2;
+    private static final int TEST_FLOOR_Y = 16;
+    private static final int SOLID_TILE_ID = 1;
+
+    private static volatile JumpTable defaultTable;
+
+    private final long signature;
+    private final int[] holdFrames;  // Par motif
+    private final int[] direction;   // Par motif
+    private final float[][] dx;      // Par motif, par frame : déplacement de la hitbox depuis le départ
+    private final float[][] dy;
+
+    private JumpTable(long signature, int[] holdFrames, int[] direction, float[][] dx, float[][] dy) {
+        this.signature = signature;
+        this.holdFrames = holdFrames;
+        this.direction = direction;
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    // === ACCÈS À LA TABLE ===
+
+    /**
+     * Table du jeu : lue depuis les ressources, recalculée si absente ou périmée
+     */
+    public static JumpTable GetDefault() {
+        JumpTable table = defaultTable;
+        if (table == null) {
+            synchronized (JumpTable.class) {
+                table = defaultTable;
+                if (table == null) {
+                    table = LoadResource();
+                    if (table == null) {
+                        table = Compute();
+                    }
+                    defaultTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    private static JumpTable LoadResource() {
+        try (InputStream is = JumpTable.class.getResourceAsStream(RESOURCE)) {
+            if (is == null) {
+                return null;
+            }
+            JumpTable table = Read(is);
+            if (table.signature != PhysicsSignature()) {
+                System.err.println("Table de sauts périmée (constantes du joueur modifiées), recalcul");
+                return null;
+            }
+            return table;
+        } catch (IOException e) {
+            System.err.println("Erreur lors du chargement de la table de sauts : " + RESOURCE);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // === CALCUL ===
+
+    /**
+     * Simule tous les motifs avec un Player réel dans un niveau de test
+     */
+    public static JumpTable Compute() {
+        int[][] data = new int[TEST_HEIGHT][TEST_WIDTH];
+        for (int[] row : data) {
+            Arrays.fill(row, EMPTY_TILE_ID);
+        }
+        for (int y = TEST_FLOOR_Y + 1; y < TEST_HEIGHT; y++) {
+            for (int x = TEST_PILLAR_X; x < TEST_PILLAR_X + TEST_PILLAR_WIDTH; x++) {
+                data[y][x] = SOLID_TILE_ID;
+            }
+        }
+        Arrays.fill(data[TEST_HEIGHT - 1], SOLID_TILE_ID);
+        Level level = new Level(data);
+
+        // Départ : hitbox au bord droit du pilier, pieds sur le pilier
+        float startX = (TEST_PILLAR_X + TEST_PILLAR_WIDTH) * TILES_SIZE - HITBOX_WIDTH;
+        float startY = (TEST_FLOOR_Y + 1) * TILES_SIZE - HITBOX_HEIGHT;
+        Player player = new Player(startX, startY, TILES_SIZE, TILES_SIZE, level);
+
+        int patterns = HOLD_FRAMES.length * DIRECTIONS.length;
+        int[] holds = new int[patterns];
+        int[] dirs = new int[patterns];
+        float[][] dx = new float[patterns][];
+        float[][] dy = new float[patterns][];
+        float[] bufferX = new float[MAX_FRAMES];
+        float[] bufferY = new float[MAX_FRAMES];
+        int p = 0;
+        for (int dir : DIRECTIONS) {
+            for (int hold : HOLD_FRAMES) {
+                placeOnGround(player, startX, startY);
+                float originX = player.getHitbox().x;
+                float originY = player.getHitbox().y;
+                int frames = 0;
+                boolean leftGround = false;
+                while (frames < MAX_FRAMES) {
+                    player.setJump(frames < hold);
+                    player.setRight(dir > 0);
+                    player.update();
+                    bufferX[frames] = player.getHitbox().x - originX;
+                    bufferY[frames] = player.getHitbox().y - originY;
+                    frames++;
+                    leftGround |= player.isInAir();
+                    if ((leftGround && !player.isInAir()) || bufferY[frames - 1] > MAX_DROP_TILES * TILES_SIZE) {
+                        break;
+                    }
+                }
+                holds[p] = hold;
+                dirs[p] = dir;
+                dx[p] = Arrays.copyOf(bufferX, frames);
+                dy[p] = Arrays.copyOf(bufferY, frames);
+                p++;
+            }
+        }
+        placeOnGround(player, startX, startY);
+        player.dispose();
+        return new JumpTable(PhysicsSignature(), holds, dirs, dx, dy);
+    }
+
+    /**
+     * Remet le joueur immobile au sol, prêt à sauter
+     */
+    private static void placeOnGround(Player player, float x, float y) {
+        player.setJump(false);
+        player.setRight(false);
+        player.setLeft(false);
+        PhysicsBody body = player.getPhysicsBody();
+        body.clearForces();
+        body.stop();
+        player.getHitbox().x = x;
+        player.getHitbox().y = y;
+        body.setPosition(x, y);
+        for (int i = 0; i < 8; i++) {
+            player.update();
+            player.getHitbox().x = x;
+            body.setPosition(x, player.getHitbox().y);
+            body.stop();
+        }
+    }
+
+    /**
+     * Signature des constantes qui influencent les sauts
+     */
+    static long PhysicsSignature() {
+        float[] constants = {JUMP_FORCE, JUMP_MAX_TIME, JUMP_CUT_MULTIPLIER, GRAVITY, MASS,
+            APEX_THRESHOLD, APEX_GRAVITY_MULT, APEX_ACCEL_MULT, AIR_RESISTANCE, ACCELERATION,
+            MAX_FALL_SPEED, MAX_RISE_SPEED, MAX_SPEED_X, HITBOX_WIDTH, HITBOX_HEIGHT, TILES_SIZE};
+        long hash = 1125899906842597L;
+        for (float c : constants) {
+            hash = 31 * hash + Float.floatToIntBits(c);
+        }
+        return hash;
+    }
+
+    // === SUIVI D'UN ARC DANS UN NIVEAU ===
+
+    /**
+     * Suit l'arc d'un motif dans un niveau et retourne la case d'atterrissage
+     * @param tiles Classes de collision du niveau
+     * @param pattern Index du motif
+     * @param facing 1 vers la droite, -1 vers la gauche (miroir de l'arc)
+     * @param x Position X de départ de la boîte (pixels)
+     * @param y Position Y de départ de la boîte (pixels)
+     * @param width Largeur de la boîte
+     * @param height Hauteur de la boîte
+     * @return Index de case (ligne * largeur + colonne) où l'agent se tient après
+     *         l'atterrissage, ou -1 si l'arc heurte un mur ou sort du niveau
+     */
+    public int landing(TileClassMap tiles, int pattern, int facing, float x, float y, float width, float height) {
+        float[] px = dx[pattern], py = dy[pattern];
+        float prevBottom = y + height;
+        for (int f = 0; f < px.length; f++) {
+            float left = x + px[f] * facing;
+            float top = y + py[f];
+            float bottom = top + height;
+            int colMin = (int) Math.floor(left / TILES_SIZE);
+            int colMax = (int) Math.floor((left + width - 1) / TILES_SIZE);
+            int rowMin = (int) Math.floor(top / TILES_SIZE);
+            int rowMax = (int) Math.floor((bottom - 1) / TILES_SIZE);
+            if (colMin < 0 || colMax >= tiles.getWidth() || rowMax >= tiles.getHeight()) {
+                return -1;
+            }
+            if (bottom > prevBottom) {
+                // Descente : le bord bas franchit-il le haut d'une ligne de sol ?
+                int floorRow = (int) Math.floor((bottom - 1) / TILES_SIZE);
+                int prevRow = (int) Math.floor((prevBottom - 1) / TILES_SIZE);
+                if (floorRow > prevRow && floorRow >= 0) {
+                    if (tiles.anyInRange(colMin, floorRow, colMax, floorRow, TileClassMap.SOLID)
+                        || tiles.anyInRange(colMin, floorRow, colMax, floorRow, TileClassMap.ONE_WAY)) {
+                        int centerCol = (int) Math.floor((left + width / 2) / TILES_SIZE);
+                        return (floorRow - 1) * tiles.getWidth() + centerCol;
+                    }
+                }
+            }
+            if (rowMin >= 0 && tiles.anyInRange(colMin, rowMin, colMax, rowMax, TileClassMap.SOLID)) {
+                return -1;
+            }
+            prevBottom = bottom;
+        }
+        return -1;
+    }
+
+    // === ACCÈS ===
+
+    public int getPatternCount() {
+        return holdFrames.length;
+    }
+
+    public int getHoldFrames(int pattern) {
+        return holdFrames[pattern];
+    }
+
+    public int getDirection(int pattern) {
+        return direction[pattern];
+    }
+
+    public int getFrameCount(int pattern) {
+        return dx[pattern].length;
+    }
+
+    /**
+     * Hauteur maximale atteinte par le saut le plus haut (pixels)
+     */
+    public float getMaxRise() {
+        float rise = 0;
+        for (float[] arc : dy) {
+            for (float v : arc) {
+                rise = Math.max(rise, -v);
+            }
+        }
+        return rise;
+    }
+
+    /**
+     * Distance horizontale maximale d'un saut qui retombe à sa hauteur de départ (pixels)
+     */
+    public float getMaxFlatDistance() {
+        float distance = 0;
+        for (int p = 0; p < dx.length; p++) {
+            boolean rose = false;
+            for (int f = 0; f < dx[p].length; f++) {
+                rose |= dy[p][f] < 0;
+                if (rose && dy[p][f] >= 0) {
+                    distance = Math.max(distance, dx[p][f]);
+                    break;
+                }
+            }
+        }
+        return distance;
+    }
+
+    // === FICHIER ===
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream os = Files.newOutputStream(file)) {
+            write(os);
+        }
+    }
+
+    private void write(OutputStream os) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(signature);
+        out.writeInt(holdFrames.length);
+        for (int p = 0; p < holdFrames.length; p++) {
+            out.writeInt(holdFrames[p]);
+            out.writeByte(direction[p]);
+            out.writeInt(dx[p].length);
+            for (int f = 0; f < dx[p].length; f++) {
+                out.writeFloat(dx[p][f]);
+                out.writeFloat(dy[p][f]);
+            }
+        }
+        out.flush();
+    }
+
+    public static JumpTable Read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Fichier de table de sauts invalide");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Version de table de sauts non supportée : " + version);
+        }
+        long signature = in.readLong();
+        int patterns = in.readInt();
+        int[] holds = new int[patterns];
+        int[] dirs = new int[patterns];
+        float[][] dx = new float[patterns][];
+        float[][] dy = new float[patterns][];
+        for (int p = 0; p < patterns; p++) {
+            holds[p] = in.readInt();
+            dirs[p] = in.readByte();
+            int frames = in.readInt();
+            dx[p] = new float[frames];
+            dy[p] = new float[frames];
+            for (int f = 0; f < frames; f++) {
+                dx[p][f] = in.readFloat();
+                dy[p][f] = in.readFloat();
+            }
+        }
+        return new JumpTable(signature, holds, dirs, dx, dy);
+    }
+}
@@ -0,0 +1,324 @@
+package ai;
+
+// Java standard library imports
+import java.util.Arrays;
+
+import levels.TileClassMap;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Graphe de navigation d'un niveau de plateformes, précalculé depuis les tiles
+ *
+ * NŒUDS:
+ * - Une case où un agent (1 tile de large, agentHeight tiles de haut) peut se tenir
+ *   debout : son corps ne touche aucune tile solide et la tile sous ses pieds est
+ *   solide ou one-way
+ *
+ * ARÊTES (stockage compact : tableaux d'int indexés par nœud, sans objet par arête):
+ * - WALK : case voisine à la même hauteur
+ * - FALL : sortie d'un rebord puis chute verticale jusqu'au prochain sol
+ * - DROP : traversée d'une plateforme one-way vers le bas (touche bas)
+ * - JUMP : une arête par case d'atterrissage d'un arc de JumpTable (trajectoires
+ *   réelles du joueur par durée d'appui et direction) ; chaque arc est suivi dans
+ *   le niveau contre les murs et plafonds (les one-way se traversent en montant)
+ *
+ * COÛTS:
+ * - Au moins la distance de Tchebychev entre les deux cases (l'heuristique de
+ *   PathFinder reste admissible), plus une pénalité pour les sauts
+ *
+ * @author Lounol72
+ */
+public final class NavGraph {
+
+    // === TYPES D'ARÊTES ===
+    public static final byte WALK = 0;
+    public static final byte JUMP = 1;
+    public static final byte FALL = 2;
+    public static final byte DROP = 3;
+
+    private static final float JUMP_PENALTY = 2f;
+
+    private final TileClassMap tiles;
+    private final int width;
+    private final int height;
+    private final int agentHeight;
+
+    // === NŒUDS ===
+    private final int[] nodeOfCell; // -1 si la case n'est pas un nœud
+    private final int[] cellOfNode;
+    private final int nodeCount;
+
+    // === ARÊTES (format CSR) ===
+    private int[] edgeStart;     // Arêtes du nœud n : [edgeStart[n], edgeStart[n + 1][
+    private int[] edgeTarget;
+    private float[] edgeCost;
+    private byte[] edgeType;
+    private int edgeCount;
+
+    // === PROFIL DE SAUT ===
+    private final JumpTable jumps;
+    private final int jumpHeight;     // Hauteur maximale (tiles)
+    private final float agentWidth;   // Boîte de l'agent suivie le long des arcs (pixels)
+    private final float agentPixelHeight;
+    private int[] targetStamp;        // Déduplication des cibles de saut d'un nœud
+    private int stamp;
+
+    /**
+     * @param tiles Classes de collision du niveau
+     * @param agentHeight Hauteur de l'agent en tiles
+     */
+    public NavGraph(TileClassMap tiles, int agentHeight) {
+        this(tiles, agentHeight, JumpTable.GetDefault());
+    }
+
+    /**
+     * @param tiles Classes de collision du niveau
+     * @param agentHeight Hauteur de l'agent en tiles
+     * @param jumps Trajectoires de saut
+     */
+    public NavGraph(TileClassMap tiles, int agentHeight, JumpTable jumps) {
+        this.tiles = tiles;
+        this.width = tiles.getWidth();
+        this.height = tiles.getHeight();
+        this.agentHeight = agentHeight;
+        this.jumps = jumps;
+
+        // Profil de saut (boîte à peine plus petite que les cases qu'elle occupe)
+        jumpHeight = (int) (jumps.getMaxRise() / TILES_SIZE);
+        agentWidth = TILES_SIZE - 2;
+        agentPixelHeight = agentHeight * TILES_SIZE - 2;
+
+        // Nœuds
+        nodeOfCell = new int[width * height];
+        Arrays.fill(nodeOfCell, -1);
+        int count = 0;
+        int[] cells = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isStandable(x, y)) {
+                    nodeOfCell[y * width + x] = count;
+                    cells[count++] = y * width + x;
+                }
+            }
+        }
+        nodeCount = count;
+        cellOfNode = Arrays.copyOf(cells, count);
+
+        targetStamp = new int[nodeCount];
+        buildEdges();
+        targetStamp = null;
+    }
+
+    // === CONSTRUCTION ===
+
+    private void buildEdges() {
+        edgeStart = new int[nodeCount + 1];
+        edgeTarget = new int[nodeCount * 8];
+        edgeCost = new float[edgeTarget.length];
+        edgeType = new byte[edgeTarget.length];
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node] = edgeCount;
+            int x = cellOfNode[node] % width;
+            int y = cellOfNode[node] / width;
+
+            for (int dir = -1; dir <= 1; dir += 2) {
+                int nx = x + dir;
+                if (isStandable(nx, y)) {
+                    addEdge(nodeAt(nx, y), 1f, WALK);
+                } else if (isPassable(nx, y)) {
+                    // Sortie de rebord : chute verticale
+                    int landing = fallLanding(nx, y);
+                    if (landing >= 0) {
+                        addEdge(nodeAt(nx, landing), 1f + (landing - y), FALL);
+                    }
+                }
+            }
+
+            // Traversée d'une one-way sous les pieds
+            if (tiles.get(x, y + 1) == TileClassMap.ONE_WAY) {
+                int landing = fallLanding(x, y + 1);
+                if (landing > y) {
+                    addEdge(nodeAt(x, landing), 1f + (landing - y), DROP);
+                }
+            }
+
+            addJumpEdges(x, y);
+        }
+        edgeStart[nodeCount] = edgeCount;
+    }
+
+    private void addJumpEdges(int x, int y) {
+        stamp++;
+        float boxX = x * TILES_SIZE + 1;
+        float boxY = (y + 1) * TILES_SIZE - agentPixelHeight;
+        for (int pattern = 0; pattern < jumps.getPatternCount(); pattern++) {
+            for (int facing = -1; facing <= 1; facing += 2) {
+                if (facing < 0 && jumps.getDirection(pattern) == 0) {
+                    continue; // Saut vertical : arc symétrique
+                }
+                int cell = jumps.landing(tiles, pattern, facing, boxX, boxY, agentWidth, agentPixelHeight);
+                if (cell < 0) {
+                    continue;
+                }
+                int tx = cell % width, ty = cell / width;
+                int target = nodeAt(tx, ty);
+                int dx = tx - x, dy = y - ty;
+                if (target < 0 || targetStamp[target] == stamp
+                    || (dy == 0 && Math.abs(dx) <= 1) || (dx == 0 && dy <= 0)) {
+                    continue; // Déjà couvert par WALK / FALL, ou saut sur place
+                }
+                targetStamp[target] = stamp;
+                float cost = Math.max(Math.abs(dx), Math.abs(dy)) + JUMP_PENALTY;
+                addEdge(target, cost, JUMP);
+            }
+        }
+    }
+
+    /**
+     * Ligne d'atterrissage d'une chute verticale commencée en (x, startRow), -1 si aucun sol
+     */
+    private int fallLanding(int x, int startRow) {
+        for (int row = startRow; row < height; row++) {
+            if (!isPassable(x, row)) {
+                return -1;
+            }
+            if (isStandable(x, row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private void addEdge(int target, float cost, byte type) {
+        if (edgeCount == edgeTarget.length) {
+            int capacity = edgeCount * 2;
+            edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+            edgeCost = Arrays.copyOf(edgeCost, capacity);
+            edgeType = Arrays.copyOf(edgeType, capacity);
+        }
+        edgeTarget[edgeCount] = target;
+        edgeCost[edgeCount] = cost;
+        edgeType[edgeCount] = type;
+        edgeCount++;
+    }
+
+    // === REQUÊTES ===
+
+    /**
+     * Le corps de l'agent tient dans la case (les one-way se traversent)
+     */
+    public boolean isPassable(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        for (int row = y - agentHeight + 1; row <= y; row++) {
+            if (row >= 0 && tiles.get(x, row) == TileClassMap.SOLID) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * L'agent peut se tenir debout dans la case
+     */
+    public boolean isStandable(int x, int y) {
+        if (!isPassable(x, y) || y + 1 >= height) {
+            return false;
+        }
+        int below = tiles.get(x, y + 1);
+        return below == TileClassMap.SOLID || below == TileClassMap.ONE_WAY;
+    }
+
+    /**
+     * Nœud d'une case, -1 si la case n'est pas un nœud
+     */
+    public int nodeAt(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return nodeOfCell[y * width + x];
+    }
+
+    /**
+     * Nœud le plus proche sous une case (l'agent en l'air retombe), -1 si aucun
+     * @param maxDrop Nombre maximal de lignes parcourues vers le bas
+     */
+    public int nodeBelow(int x, int y, int maxDrop) {
+        for (int row = Math.max(0, y); row < height && row <= y + maxDrop; row++) {
+            int node = nodeAt(x, row);
+            if (node >= 0) {
+                return node;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Nœuds atteignables depuis un nœud (parcours en largeur sur toutes les arêtes)
+     * @param start Nœud de départ
+     * @return reachable[n] vrai si le nœud n est atteignable
+     */
+    public boolean[] reachableFrom(int start) {
+        boolean[] reachable = new boolean[nodeCount];
+        int[] queue = new int[nodeCount];
+        int head = 0, tail = 0;
+        reachable[start] = true;
+        queue[tail++] = start;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e = edgeStart[node], end = edgeStart[node + 1]; e < end; e++) {
+                int next = edgeTarget[e];
+                if (!reachable[next]) {
+                    reachable[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int nodeX(int node) {
+        return cellOfNode[node] % width;
+    }
+
+    public int nodeY(int node) {
+        return cellOfNode[node] / width;
+    }
+
+    int edgeStart(int node) {
+        return edgeStart[node];
+    }
+
+    int edgeEnd(int node) {
+        return edgeStart[node + 1];
+    }
+
+    int edgeTarget(int edge) {
+        return edgeTarget[edge];
+    }
+
+    float edgeCost(int edge) {
+        return edgeCost[edge];
+    }
+
+    byte edgeType(int edge) {
+        return edgeType[edge];
+    }
+
+    public int getJumpHeight() {
+        return jumpHeight;
+    }
+
+    public int getAgentHeight() {
+        return agentHeight;
+    }
+}
@@ -0,0 +1,64 @@
+package ai;
+
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Chemin calculé par PathFinder : suite de cases et mouvement pour atteindre chacune
+ * Immuable : un même chemin peut être partagé par plusieurs agents (cache)
+ *
+ * @author Lounol72
+ */
+public final class NavPath {
+
+    private final int[] tileX;
+    private final int[] tileY;
+    private final byte[] moves; // moves[i] : arête (NavGraph.WALK, JUMP...) menant à la case i
+    private final float cost;
+
+    NavPath(int[] tileX, int[] tileY, byte[] moves, float cost) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.moves = moves;
+        this.cost = cost;
+    }
+
+    /**
+     * Nombre de cases (départ et arrivée compris)
+     */
+    public int length() {
+        return tileX.length;
+    }
+
+    public int getTileX(int index) {
+        return tileX[index];
+    }
+
+    public int getTileY(int index) {
+        return tileY[index];
+    }
+
+    /**
+     * Mouvement menant à la case (NavGraph.WALK pour la case de départ)
+     */
+    public byte getMove(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Centre horizontal de la case en pixels
+     */
+    public float getCenterX(int index) {
+        return tileX[index] * TILES_SIZE + TILES_SIZE / 2f;
+    }
+
+    /**
+     * Ordonnée des pieds (haut de la tile de sol) en pixels
+     */
+    public float getFeetY(int index) {
+        return (tileY[index] + 1) * TILES_SIZE;
+    }
+
+    public float getCost() {
+        return cost;
+    }
+}
@@ -0,0 +1,282 @@
+package ai;
+
+// Java standard library imports
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import levels.Level;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Recherche de chemin A* sur le NavGraph d'un niveau, avec cache des chemins
+ *
+ * FONCTIONNEMENT:
+ * - Ensembles ouvert et fermé en tableaux de primitives : tas binaire d'int (clés
+ *   float) et tampons de « génération » par nœud, si bien qu'une recherche ne
+ *   réinitialise aucun tableau et n'alloue que le chemin trouvé
+ * - Heuristique : distance de Tchebychev en tiles (admissible, voir NavGraph)
+ * - Les chemins (et les absences de chemin) sont gardés dans un cache LRU par couple
+ *   (départ, arrivée) : des agents qui suivent la même cible ne relancent pas A*
+ * - Quand le niveau change (Level.setTile), le graphe est reconstruit et le cache
+ *   vidé à la requête suivante
+ *
+ * À utiliser depuis la boucle de jeu uniquement (état de recherche partagé).
+ *
+ * @author Lounol72
+ */
+public class PathFinder {
+
+    private static final int MAX_CACHED_PATHS = 512;
+    private static final int MAX_SNAP_DROP = 8; // Lignes parcourues pour retrouver le sol sous un agent en l'air
+    private static final NavPath NO_PATH = new NavPath(new int[0], new int[0], new byte[0], Float.POSITIVE_INFINITY);
+
+    private final Level level;
+    private final int agentHeight;
+    private NavGraph graph;
+    private int graphVersion;
+
+    // === ÉTAT DE RECHERCHE (réutilisé) ===
+    private float[] gScore;
+    private int[] parent;
+    private byte[] parentMove;
+    private int[] openStamp;   // == search : le nœud a un gScore valide pour la recherche courante
+    private int[] closedStamp; // == search : le nœud est fermé
+    private int search;
+    private int[] heapNode = new int[256];
+    private float[] heapKey = new float[256];
+    private int heapSize;
+
+    private final Map<Long, NavPath> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, NavPath> eldest) {
+            return size() > MAX_CACHED_PATHS;
+        }
+    };
+
+    // === STATISTIQUES ===
+    private long searches;
+    private long cacheHits;
+    private long expandedNodes;
+    private long searchNanos;
+
+    /**
+     * @param level Niveau à parcourir
+     * @param agentHeight Hauteur des agents en tiles
+     */
+    public PathFinder(Level level, int agentHeight) {
+        this.level = level;
+        this.agentHeight = agentHeight;
+        rebuild();
+    }
+
+    // === REQUÊTES ===
+
+    /**
+     * Chemin entre deux positions en pixels (pieds de l'agent)
+     * @return Le chemin, ou null si aucun chemin n'existe
+     */
+    public NavPath findPath(float fromX, float fromFeetY, float toX, float toFeetY) {
+        return findPathTiles((int) (fromX / TILES_SIZE), (int) ((fromFeetY - 1) / TILES_SIZE),
+            (int) (toX / TILES_SIZE), (int) ((toFeetY - 1) / TILES_SIZE));
+    }
+
+    /**
+     * Chemin entre deux cases (un point en l'air est ramené au sol en dessous)
+     * @return Le chemin, ou null si aucun chemin n'existe
+     */
+    public NavPath findPathTiles(int fromX, int fromY, int toX, int toY) {
+        ensureCurrent();
+        int start = graph.nodeBelow(fromX, fromY, MAX_SNAP_DROP);
+        int goal = graph.nodeBelow(toX, toY, MAX_SNAP_DROP);
+        if (start < 0 || goal < 0) {
+            return null;
+        }
+        Long key = ((long) start << 32) | goal;
+        NavPath path = cache.get(key);
+        if (path != null) {
+            cacheHits++;
+        } else {
+            path = search(start, goal);
+            cache.put(key, path == null ? NO_PATH : path);
+        }
+        return path == NO_PATH ? null : path;
+    }
+
+    // === A* ===
+
+    private NavPath search(int start, int goal) {
+        long begin = System.nanoTime();
+        searches++;
+        if (++search == Integer.MAX_VALUE) {
+            resetStamps();
+        }
+        int goalX = graph.nodeX(goal), goalY = graph.nodeY(goal);
+        heapSize = 0;
+        gScore[start] = 0;
+        parent[start] = -1;
+        parentMove[start] = NavGraph.WALK;
+        openStamp[start] = search;
+        push(start, heuristic(start, goalX, goalY));
+
+        NavPath result = null;
+        while (heapSize > 0) {
+            int node = pop();
+            if (closedStamp[node] == search) {
+                continue; // Entrée périmée (nœud déjà fermé avec un meilleur coût)
+            }
+            closedStamp[node] = search;
+            expandedNodes++;
+            if (node == goal) {
+                result = buildPath(goal);
+                break;
+            }
+            float g = gScore[node];
+            for (int e = graph.edgeStart(node), end = graph.edgeEnd(node); e < end; e++) {
+                int next = graph.edgeTarget(e);
+                if (closedStamp[next] == search) {
+                    continue;
+                }
+                float tentative = g + graph.edgeCost(e);
+                if (openStamp[next] != search || tentative < gScore[next]) {
+                    openStamp[next] = search;
+                    gScore[next] = tentative;
+                    parent[next] = node;
+                    parentMove[next] = graph.edgeType(e);
+                    push(next, tentative + heuristic(next, goalX, goalY));
+                }
+            }
+        }
+        searchNanos += System.nanoTime() - begin;
+        return result;
+    }
+
+    private float heuristic(int node, int goalX, int goalY) {
+        return Math.max(Math.abs(graph.nodeX(node) - goalX), Math.abs(graph.nodeY(node) - goalY));
+    }
+
+    private NavPath buildPath(int goal) {
+        int length = 0;
+        for (int n = goal; n >= 0; n = parent[n]) {
+            length++;
+        }
+        int[] xs = new int[length];
+        int[] ys = new int[length];
+        byte[] moves = new byte[length];
+        int i = length;
+        for (int n = goal; n >= 0; n = parent[n]) {
+            i--;
+            xs[i] = graph.nodeX(n);
+            ys[i] = graph.nodeY(n);
+            moves[i] = parentMove[n];
+        }
+        return new NavPath(xs, ys, moves, gScore[goal]);
+    }
+
+    // === TAS BINAIRE (clé minimale en tête) ===
+
+    private void push(int node, float key) {
+        if (heapSize == heapNode.length) {
+            heapNode = Arrays.copyOf(heapNode, heapSize * 2);
+            heapKey = Arrays.copyOf(heapKey, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (heapKey[up] <= key) {
+                break;
+            }
+            heapNode[i] = heapNode[up];
+            heapKey[i] = heapKey[up];
+            i = up;
+        }
+        heapNode[i] = node;
+        heapKey[i] = key;
+    }
+
+    private int pop() {
+        int top = heapNode[0];
+        int lastNode = heapNode[--heapSize];
+        float lastKey = heapKey[heapSize];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child]) {
+                child++;
+            }
+            if (lastKey <= heapKey[child]) {
+                break;
+            }
+            heapNode[i] = heapNode[child];
+            heapKey[i] = heapKey[child];
+            i = child;
+        }
+        heapNode[i] = lastNode;
+        heapKey[i] = lastKey;
+        return top;
+    }
+
+    // === GRAPHE ET CACHE ===
+
+    /**
+     * Reconstruit le graphe si le niveau a changé depuis sa construction
+     */
+    private void ensureCurrent() {
+        if (level.getVersion() != graphVersion) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        graph = new NavGraph(level.getTileClasses(), agentHeight);
+        graphVersion = level.getVersion();
+        int n = graph.getNodeCount();
+        gScore = new float[n];
+        parent = new int[n];
+        parentMove = new byte[n];
+        openStamp = new int[n];
+        closedStamp = new int[n];
+        search = 0;
+        cache.clear();
+    }
+
+    private void resetStamps() {
+        Arrays.fill(openStamp, 0);
+        Arrays.fill(closedStamp, 0);
+        search = 1;
+    }
+
+    public NavGraph getGraph() {
+        ensureCurrent();
+        return graph;
+    }
+
+    // === STATISTIQUES ===
+
+    public long getSearchCount() {
+        return searches;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits;
+    }
+
+    public long getExpandedNodeCount() {
+        return expandedNodes;
+    }
+
+    /**
+     * Durée moyenne d'une recherche A* (hors cache) en microsecondes
+     */
+    public double getAverageSearchMicros() {
+        return searches == 0 ? 0 : searchNanos / 1000.0 / searches;
+    }
+
+    @Override
+    public String toString() {
+        return "PathFinder[nodes=" + graph.getNodeCount() + ", edges=" + graph.getEdgeCount()
+            + ", searches=" + searches + ", cacheHits=" + cacheHits
+            + ", avgSearch=" + String.format("%.1f", getAverageSearchMicros()) + "us]";
+    }
+}
@@ -0,0 +1,318 @@
+package battle;
+
+// Java standard library imports
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Game imports
+import data.GameDataRepository;
+import data.IcmonSpecies;
+import data.LearnableMove;
+import data.MoveData;
+import data.TeamData;
+
+/**
+ * Tables immuables des ICMons, attaques, movepools et équipes utilisées par le moteur de combat
+ *
+ * ORGANISATION:
+ * - Construites à partir du GameDataRepository (records chargés une fois depuis data.json)
+ * - Toutes les données sont stockées en tableaux primitifs indexés (lecture directe par le TurnResolver)
+ * - Les identifiants de data.json commencent à 1 : l'index interne vaut id - 1
+ * - Les types sont convertis en entiers une fois au chargement
+ * - Les facteurs de dégâts constants sont précalculés en tables plates :
+ *   STAB par couple (espèce, attaque), efficacité par couple (attaque, espèce défenseur)
+ *
+ * Les tableaux ne sont jamais exposés : les getters retournent des valeurs.
+ *
+ * @author Lounol72
+ */
+public final class BattleData {
+
+    public static final int DEFAULT_LEVEL = 50;
+
+    // === STATISTIQUES ===
+    public static final int STAT_HP = 0;
+    public static final int STAT_ATTACK = 1;
+    public static final int STAT_DEFENSE = 2;
+    public static final int STAT_SP_ATTACK = 3;
+    public static final int STAT_SP_DEFENSE = 4;
+    public static final int STAT_SPEED = 5;
+    public static final int STAT_COUNT = 6;
+
+    /** Attaques données aux ICMons sans movepool (Quick Attack, Head Butt) */
+    private static final int[] FALLBACK_MOVES = {0, 1};
+
+    private static BattleData defaultData;
+
+    // === TYPES ===
+    private final String[] typeNames;
+    final TypeChart typeChart;
+
+    // === ICMONS ===
+    private final String[] speciesNames;
+    final int[] baseStats;          // [espèce * STAT_COUNT + stat]
+    final int[] speciesType1;
+    final int[] speciesType2;
+
+    // === ATTAQUES ===
+    private final String[] moveNames;
+    final int[] movePower;
+    final int[] moveType;
+    final boolean[] movePhysical;
+    final int[] moveAccuracy;
+    final int[] movePp;
+    final int[] movePriority;
+    final int[] moveTarget;         // 0 = adversaire, 1 = lanceur
+    final int[] moveSecEffect;      // 1 = modification de statistique
+    final int[] moveProbability;    // en %
+    final int[] moveValueEffect;    // statistique visée (1 = attaque ... 5 = vitesse)
+    final int[] moveEffectModifier; // 1 = hausse, sinon baisse
+
+    // === FACTEURS DE DÉGÂTS PRÉCALCULÉS ===
+    final int speciesCount;
+    final int moveCount;
+    final float[] speciesMoveStab;      // [espèce attaquante * nbAttaques + attaque] : 1.5 ou 1
+    final float[] speciesMoveScore;     // [espèce attaquante * nbAttaques + attaque] : puissance x précision x STAB
+    final float[] moveEffectiveness;    // [attaque * nbEspèces + espèce défenseur] : efficacité de type
+
+    // Movepools (recherche dichotomique par niveau)
+    private final GameDataRepository repository;
+
+    // === ÉQUIPES ===
+    private final String[] teamNames;
+    private final int[][] teamSpecies;
+
+    private BattleData(GameDataRepository repository) {
+        this.repository = repository;
+        Map<String, Integer> typeIds = new LinkedHashMap<>();
+
+        int speciesCount = repository.getSpeciesCount();
+        speciesNames = new String[speciesCount];
+        baseStats = new int[speciesCount * STAT_COUNT];
+        speciesType1 = new int[speciesCount];
+        speciesType2 = new int[speciesCount];
+        for (int i = 0; i < speciesCount; i++) {
+            IcmonSpecies icmon = repository.getSpecies(i + 1);
+            speciesNames[i] = icmon.name();
+            int base = i * STAT_COUNT;
+            baseStats[base + STAT_HP] = icmon.hp();
+            baseStats[base + STAT_ATTACK] = icmon.attack();
+            baseStats[base + STAT_DEFENSE] = icmon.defense();
+            baseStats[base + STAT_SP_ATTACK] = icmon.spAttack();
+            baseStats[base + STAT_SP_DEFENSE] = icmon.spDefense();
+            baseStats[base + STAT_SPEED] = icmon.speed();
+            speciesType1[i] = intern(typeIds, icmon.type1());
+            speciesType2[i] = intern(typeIds, icmon.type2());
+        }
+
+        int moveCount = repository.getMoveCount();
+        moveNames = new String[moveCount];
+        movePower = new int[moveCount];
+        moveType = new int[moveCount];
+        movePhysical = new boolean[moveCount];
+        moveAccuracy = new int[moveCount];
+        movePp = new int[moveCount];
+        movePriority = new int[moveCount];
+        moveTarget = new int[moveCount];
+        moveSecEffect = new int[moveCount];
+        moveProbability = new int[moveCount];
+        moveValueEffect = new int[moveCount];
+        moveEffectModifier = new int[moveCount];
+        for (int i = 0; i < moveCount; i++) {
+            MoveData move = repository.getMove(i + 1);
+            moveNames[i] = move.name();
+            movePower[i] = move.power();
+            moveType[i] = intern(typeIds, move.type());
+            movePhysical[i] = move.physical();
+            moveAccuracy[i] = move.accuracy();
+            movePp[i] = move.pp();
+            movePriority[i] = move.priority();
+            moveTarget[i] = move.target();
+            moveSecEffect[i] = move.secondaryEffect();
+            moveProbability[i] = move.probability();
+            moveValueEffect[i] = move.valueEffect();
+            moveEffectModifier[i] = move.effectModifier();
+        }
+
+        teamNames = new String[repository.getTeamCount()];
+        teamSpecies = new int[teamNames.length][];
+        for (int i = 0; i < teamNames.length; i++) {
+            TeamData team = repository.getTeam(i + 1);
+            teamNames[i] = team.name();
+            teamSpecies[i] = team.speciesIds().stream().mapToInt(id -> id - 1).toArray();
+        }
+
+        typeNames = typeIds.keySet().toArray(new String[0]);
+        typeChart = new TypeChart(typeNames);
+
+        this.speciesCount = speciesCount;
+        this.moveCount = moveCount;
+        speciesMoveStab = new float[speciesCount * moveCount];
+        speciesMoveScore = new float[speciesCount * moveCount];
+        moveEffectiveness = new float[moveCount * speciesCount];
+        for (int s = 0; s < speciesCount; s++) {
+            for (int m = 0; m < moveCount; m++) {
+                boolean stab = moveType[m] == speciesType1[s] || moveType[m] == speciesType2[s];
+                speciesMoveStab[s * moveCount + m] = stab ? TurnResolver.STAB : 1f;
+                speciesMoveScore[s * moveCount + m] = movePower[m] * moveAccuracy[m] * speciesMoveStab[s * moveCount + m];
+                moveEffectiveness[m * speciesCount + s] = typeChart.get(moveType[m], speciesType1[s], speciesType2[s]);
+            }
+        }
+    }
+
+    private static int intern(Map<String, Integer> ids, String name) {
+        return ids.computeIfAbsent(name, n -> ids.size());
+    }
+
+    /**
+     * Construit les tables depuis un dépôt de données
+     * @param repository Dépôt chargé
+     * @return Les tables
+     */
+    public static BattleData from(GameDataRepository repository) {
+        return new BattleData(repository);
+    }
+
+    /**
+     * Charge les tables depuis un fichier JSON
+     * @param filePath Chemin du fichier (ex: res/data/data.json)
+     * @return Les tables, ou null en cas d'erreur
+     */
+    public static BattleData load(String filePath) {
+        GameDataRepository repository = GameDataRepository.load(filePath);
+        return repository == null ? null : new BattleData(repository);
+    }
+
+    /**
+     * Tables construites depuis le dépôt de données du jeu (construites une seule fois)
+     */
+    public static synchronized BattleData getDefault() {
+        if (defaultData == null) {
+            GameDataRepository repository = GameDataRepository.getInstance();
+            defaultData = repository == null ? null : new BattleData(repository);
+        }
+        return defaultData;
+    }
+
+    /**
+     * Attaques connues par défaut à un niveau donné : les 4 dernières apprises
+     * @param species Index de l'espèce
+     * @param level Niveau de l'ICMon
+     * @return Index des attaques (1 à 4 attaques)
+     */
+    public int[] getDefaultMoves(int species, int level) {
+        List<LearnableMove> movepool = repository.getMovepool(species + 1);
+        if (movepool.isEmpty()) {
+            return FALLBACK_MOVES.clone();
+        }
+        // Trop bas niveau pour la première attaque : la donner quand même
+        int learned = Math.max(1, repository.countLearnableAt(species + 1, level));
+        int count = Math.min(BattleState.MAX_MOVES, learned);
+        int[] moves = new int[count];
+        for (int i = 0; i < count; i++) {
+            moves[i] = movepool.get(learned - count + i).moveId() - 1;
+        }
+        return moves;
+    }
+
+    /**
+     * Calcule une statistique au niveau donné (formule des jeux de référence, sans IV/EV)
+     */
+    public int computeStat(int species, int stat, int level) {
+        int base = baseStats[species * STAT_COUNT + stat];
+        if (stat == STAT_HP) {
+            return 2 * base * level / 100 + level + 10;
+        }
+        return 2 * base * level / 100 + 5;
+    }
+
+    // === GETTERS ===
+
+    public TypeChart getTypeChart() {
+        return typeChart;
+    }
+
+    public int getTypeCount() {
+        return typeNames.length;
+    }
+
+    public String getTypeName(int type) {
+        return typeNames[type];
+    }
+
+    public int getSpeciesCount() {
+        return speciesNames.length;
+    }
+
+    public String getSpeciesName(int species) {
+        return speciesNames[species];
+    }
+
+    public int getBaseStat(int species, int stat) {
+        return baseStats[species * STAT_COUNT + stat];
+    }
+
+    public int getSpeciesType1(int species) {
+        return speciesType1[species];
+    }
+
+    public int getSpeciesType2(int species) {
+        return speciesType2[species];
+    }
+
+    public int getMoveCount() {
+        return moveNames.length;
+    }
+
+    /**
+     * Multiplicateur de type d'une attaque contre une espèce
+     */
+    public float getEffectiveness(int move, int defenderSpecies) {
+        return moveEffectiveness[move * speciesNames.length + defenderSpecies];
+    }
+
+    public String getMoveName(int move) {
+        return moveNames[move];
+    }
+
+    public int getMovePower(int move) {
+        return movePower[move];
+    }
+
+    public int getMoveType(int move) {
+        return moveType[move];
+    }
+
+    public boolean isMovePhysical(int move) {
+        return movePhysical[move];
+    }
+
+    public int getMoveAccuracy(int move) {
+        return moveAccuracy[move];
+    }
+
+    public int getMovePp(int move) {
+        return movePp[move];
+    }
+
+    public int getMovePriority(int move) {
+        return movePriority[move];
+    }
+
+    public int getTeamCount() {
+        return teamNames.length;
+    }
+
+    public String getTeamName(int team) {
+        return teamNames[team];
+    }
+
+    public int getTeamSize(int team) {
+        return teamSpecies[team].length;
+    }
+
+    public int getTeamMember(int team, int index) {
+        return teamSpecies[team][index];
+    }
+}
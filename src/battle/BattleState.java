@@ -0,0 +1,225 @@
+package battle;
+
+import static battle.BattleData.STAT_COUNT;
+import static battle.BattleData.STAT_HP;
+
+/**
+ * État complet d'un combat, stocké uniquement en tableaux primitifs
+ *
+ * ORGANISATION:
+ * - 2 camps de 6 emplacements maximum ; emplacement = camp * MAX_TEAM + index
+ * - Statistiques et niveaux de boost : [emplacement * STAT_COUNT + stat]
+ * - Attaques et PP : [emplacement * MAX_MOVES + index]
+ * - Générateur aléatoire SplitMix64 intégré (un seul long) : un combat est
+ *   entièrement reproductible à partir de sa graine
+ *
+ * copyFrom() recopie un état sans allocation, ce qui permet aux IA de simuler
+ * des tours sur une copie de travail réutilisée.
+ *
+ * @author Lounol72
+ */
+public final class BattleState {
+
+    public static final int SIDES = 2;
+    public static final int MAX_TEAM = 6;
+    public static final int MAX_MOVES = 4;
+    public static final int SLOTS = SIDES * MAX_TEAM;
+
+    /** Aucun vainqueur pour l'instant */
+    public static final int NO_WINNER = -1;
+    /** Combat interrompu par la limite de tours */
+    public static final int DRAW = 2;
+
+    // === ÉQUIPES ===
+    final int[] teamSize = new int[SIDES];
+    final int[] active = new int[SIDES];
+
+    // === ICMONS (par emplacement) ===
+    final int[] species = new int[SLOTS];
+    final int[] level = new int[SLOTS];
+    final int[] hp = new int[SLOTS];
+    final int[] stats = new int[SLOTS * STAT_COUNT];
+    final int[] stages = new int[SLOTS * STAT_COUNT];
+
+    // === ATTAQUES (par emplacement) ===
+    final int[] moveCount = new int[SLOTS];
+    final int[] moves = new int[SLOTS * MAX_MOVES];
+    final int[] pp = new int[SLOTS * MAX_MOVES];
+
+    // === DÉROULEMENT ===
+    int turn;
+    int winner = NO_WINNER;
+    long rngState;
+
+    /**
+     * Crée un combat entre deux équipes avec les attaques par défaut
+     * @param data Tables de combat
+     * @param teamA Index des espèces du camp 0
+     * @param teamB Index des espèces du camp 1
+     * @param level Niveau de tous les ICMons
+     * @param seed Graine du générateur aléatoire
+     * @return Nouvel état de combat
+     */
+    public static BattleState create(BattleData data, int[] teamA, int[] teamB, int level, long seed) {
+        BattleState state = new BattleState();
+        state.setTeam(data, 0, teamA, level);
+        state.setTeam(data, 1, teamB, level);
+        state.rngState = seed;
+        return state;
+    }
+
+    /**
+     * Crée un combat entre deux équipes de data.json
+     * @param data Tables de combat
+     * @param teamA Index de l'équipe du camp 0
+     * @param teamB Index de l'équipe du camp 1
+     * @param seed Graine du générateur aléatoire
+     * @return Nouvel état de combat
+     */
+    public static BattleState create(BattleData data, int teamA, int teamB, long seed) {
+        BattleState state = new BattleState();
+        state.setTeam(data, 0, teamMembers(data, teamA), BattleData.DEFAULT_LEVEL);
+        state.setTeam(data, 1, teamMembers(data, teamB), BattleData.DEFAULT_LEVEL);
+        state.rngState = seed;
+        return state;
+    }
+
+    private static int[] teamMembers(BattleData data, int team) {
+        int[] members = new int[data.getTeamSize(team)];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = data.getTeamMember(team, i);
+        }
+        return members;
+    }
+
+    /**
+     * Place une équipe dans un camp (PV pleins, boosts à zéro, PP au maximum)
+     */
+    public void setTeam(BattleData data, int side, int[] members, int lvl) {
+        if (members.length == 0 || members.length > MAX_TEAM) {
+            throw new IllegalArgumentException("Taille d'équipe invalide : " + members.length);
+        }
+        teamSize[side] = members.length;
+        active[side] = side * MAX_TEAM;
+        for (int i = 0; i < members.length; i++) {
+            int slot = side * MAX_TEAM + i;
+            species[slot] = members[i];
+            level[slot] = lvl;
+            for (int s = 0; s < STAT_COUNT; s++) {
+                stats[slot * STAT_COUNT + s] = data.computeStat(members[i], s, lvl);
+                stages[slot * STAT_COUNT + s] = 0;
+            }
+            hp[slot] = stats[slot * STAT_COUNT + STAT_HP];
+
+            int[] known = data.getDefaultMoves(members[i], lvl);
+            moveCount[slot] = known.length;
+            for (int m = 0; m < known.length; m++) {
+                moves[slot * MAX_MOVES + m] = known[m];
+                pp[slot * MAX_MOVES + m] = data.movePp[known[m]];
+            }
+        }
+    }
+
+    /**
+     * Recopie un autre état dans celui-ci, sans allocation
+     * @param other État source
+     */
+    public void copyFrom(BattleState other) {
+        System.arraycopy(other.teamSize, 0, teamSize, 0, SIDES);
+        System.arraycopy(other.active, 0, active, 0, SIDES);
+        System.arraycopy(other.species, 0, species, 0, SLOTS);
+        System.arraycopy(other.level, 0, level, 0, SLOTS);
+        System.arraycopy(other.hp, 0, hp, 0, SLOTS);
+        System.arraycopy(other.stats, 0, stats, 0, stats.length);
+        System.arraycopy(other.stages, 0, stages, 0, stages.length);
+        System.arraycopy(other.moveCount, 0, moveCount, 0, SLOTS);
+        System.arraycopy(other.moves, 0, moves, 0, moves.length);
+        System.arraycopy(other.pp, 0, pp, 0, pp.length);
+        turn = other.turn;
+        winner = other.winner;
+        rngState = other.rngState;
+    }
+
+    // === ALÉATOIRE (SplitMix64) ===
+
+    long nextLong() {
+        long z = (rngState += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Entier uniforme dans [0, bound)
+     */
+    int nextInt(int bound) {
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    public void setSeed(long seed) {
+        rngState = seed;
+    }
+
+    // === GETTERS ===
+
+    public boolean isOver() {
+        return winner != NO_WINNER;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getActiveSlot(int side) {
+        return active[side];
+    }
+
+    public int getTeamSize(int side) {
+        return teamSize[side];
+    }
+
+    public int getSpecies(int slot) {
+        return species[slot];
+    }
+
+    public int getHp(int slot) {
+        return hp[slot];
+    }
+
+    public int getMaxHp(int slot) {
+        return stats[slot * STAT_COUNT + STAT_HP];
+    }
+
+    public int getStage(int slot, int stat) {
+        return stages[slot * STAT_COUNT + stat];
+    }
+
+    public int getMoveCount(int slot) {
+        return moveCount[slot];
+    }
+
+    public int getMove(int slot, int index) {
+        return moves[slot * MAX_MOVES + index];
+    }
+
+    public int getPp(int slot, int index) {
+        return pp[slot * MAX_MOVES + index];
+    }
+
+    /**
+     * Nombre d'ICMons encore en état de combattre dans un camp
+     */
+    public int getAliveCount(int side) {
+        int alive = 0;
+        for (int i = 0; i < teamSize[side]; i++) {
+            if (hp[side * MAX_TEAM + i] > 0) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+}
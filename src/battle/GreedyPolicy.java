@@ -0,0 +1,60 @@
+package battle;
+
+import static battle.BattleData.STAT_ATTACK;
+import static battle.BattleData.STAT_DEFENSE;
+import static battle.BattleData.STAT_SP_ATTACK;
+import static battle.BattleData.STAT_SP_DEFENSE;
+import static battle.BattleState.MAX_MOVES;
+
+/**
+ * Politique de choix d'attaque gloutonne : maximise les dégâts espérés ce tour-ci
+ *
+ * Score d'une attaque = puissance x précision x STAB x efficacité x (A / D).
+ * Les attaques sans PP sont ignorées ; si aucune n'est utilisable, STRUGGLE.
+ * Sans allocation : utilisable dans les simulations de masse et les rollouts de l'IA.
+ *
+ * @author Lounol72
+ */
+public final class GreedyPolicy {
+
+    private GreedyPolicy() {}
+
+    /**
+     * Choisit l'attaque du camp donné
+     * @param data Tables de combat
+     * @param state État du combat
+     * @param side Camp qui choisit
+     * @return Index de l'attaque dans le moveset de l'ICMon actif, ou TurnResolver.STRUGGLE
+     */
+    public static int chooseMove(BattleData data, BattleState state, int side) {
+        int attacker = state.active[side];
+        int defender = state.active[1 - side];
+        int best = TurnResolver.STRUGGLE;
+        float bestScore = -1f;
+        for (int i = 0; i < state.moveCount[attacker]; i++) {
+            if (state.pp[attacker * MAX_MOVES + i] <= 0) {
+                continue;
+            }
+            float score = expectedDamage(data, state, attacker, defender, state.moves[attacker * MAX_MOVES + i]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Dégâts espérés (non normalisés) d'une attaque, hors facteur aléatoire
+     */
+    static float expectedDamage(BattleData data, BattleState state, int attacker, int defender, int move) {
+        float score = data.speciesMoveScore[state.species[attacker] * data.moveCount + move];
+        if (score == 0f) {
+            return 0f;
+        }
+        boolean physical = data.movePhysical[move];
+        float ratio = TurnResolver.effectiveStat(state, attacker, physical ? STAT_ATTACK : STAT_SP_ATTACK)
+            / TurnResolver.effectiveStat(state, defender, physical ? STAT_DEFENSE : STAT_SP_DEFENSE);
+        return score * ratio * data.moveEffectiveness[move * data.speciesCount + state.species[defender]];
+    }
+}
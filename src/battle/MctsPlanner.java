@@ -0,0 +1,279 @@
+package battle;
+
+// Java standard library imports
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import static battle.BattleState.MAX_MOVES;
+
+/**
+ * IA de combat par recherche arborescente Monte Carlo (MCTS), bornée en temps
+ *
+ * ALGORITHME:
+ * - Arbre "open-loop" : un noeud représente une suite de choix, l'état est re-simulé
+ *   à chaque itération depuis la racine (gère naturellement l'aléatoire du combat)
+ * - Coups simultanés : sélection UCB1 découplée, chaque camp choisit sur ses propres statistiques
+ * - Rollout : politique gloutonne bruitée jusqu'à la fin du combat ou ROLLOUT_DEPTH tours,
+ *   évaluation par le vainqueur puis par les PV restants
+ *
+ * PARALLÉLISME:
+ * - Parallélisme à la racine : chaque worker du pool construit son propre arbre sur sa copie
+ *   de l'état, les visites de la racine sont additionnées à la fin
+ * - La force de jeu augmente avec le nombre de coeurs (plus d'itérations dans le même budget)
+ * - chooseMoveAsync ne bloque pas l'appelant : la boucle de jeu interroge la future
+ *
+ * @author Lounol72
+ */
+public final class MctsPlanner {
+
+    private static final float EXPLORATION = 1.4f;
+    private static final int ROLLOUT_DEPTH = 40;
+    private static final float ROLLOUT_RANDOM_MOVE_CHANCE = 0.2f;
+
+    /** Action d'un camp sans attaque utilisable */
+    private static final int NO_ACTION = MAX_MOVES;
+
+    private final BattleData data;
+    private final ForkJoinPool pool;
+    private final SplittableRandom seeds;
+
+    /**
+     * Crée un planificateur sur un pool dédié d'un worker par coeur
+     */
+    public MctsPlanner(BattleData data) {
+        this(data, new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+    }
+
+    public MctsPlanner(BattleData data, ForkJoinPool pool) {
+        this.data = data;
+        this.pool = pool;
+        this.seeds = new SplittableRandom(System.nanoTime());
+    }
+
+    /**
+     * Lance la recherche du meilleur coup sans bloquer l'appelant
+     * L'état est copié immédiatement : l'appelant peut continuer à le modifier
+     * @param state État courant du combat
+     * @param side Camp pour lequel chercher
+     * @param budgetMillis Temps de recherche alloué (horloge murale)
+     * @return Future de l'index de l'attaque choisie (ou TurnResolver.STRUGGLE)
+     */
+    public CompletableFuture<Integer> chooseMoveAsync(BattleState state, int side, long budgetMillis) {
+        BattleState root = new BattleState();
+        root.copyFrom(state);
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+
+        int workers = pool.getParallelism();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        CompletableFuture<int[]>[] searches = new CompletableFuture[workers];
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom rng;
+            synchronized (seeds) {
+                rng = seeds.split();
+            }
+            searches[w] = CompletableFuture.supplyAsync(() -> search(root, side, deadline, rng), pool);
+        }
+
+        return CompletableFuture.allOf(searches).thenApply(ignored -> {
+            int[] visits = new int[MAX_MOVES];
+            for (CompletableFuture<int[]> search : searches) {
+                int[] workerVisits = search.join();
+                for (int i = 0; i < MAX_MOVES; i++) {
+                    visits[i] += workerVisits[i];
+                }
+            }
+            int best = TurnResolver.STRUGGLE;
+            for (int i = 0; i < MAX_MOVES; i++) {
+                if (visits[i] > 0 && (best == TurnResolver.STRUGGLE || visits[i] > visits[best])) {
+                    best = i;
+                }
+            }
+            return best;
+        });
+    }
+
+    /**
+     * Version bloquante de chooseMoveAsync (outils, tests de force de jeu)
+     */
+    public int chooseMove(BattleState state, int side, long budgetMillis) {
+        return chooseMoveAsync(state, side, budgetMillis).join();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // === RECHERCHE (un worker) ===
+
+    /**
+     * Construit un arbre jusqu'à l'échéance et retourne les visites de la racine pour le camp cherché
+     */
+    private int[] search(BattleState root, int side, long deadline, SplittableRandom rng) {
+        Node tree = new Node();
+        BattleState scratch = new BattleState();
+        Node[] path = new Node[ROLLOUT_DEPTH + 1];
+        int[] actions0 = new int[ROLLOUT_DEPTH + 1];
+        int[] actions1 = new int[ROLLOUT_DEPTH + 1];
+
+        // Au moins une itération, même avec un budget nul
+        do {
+            scratch.copyFrom(root);
+            scratch.setSeed(rng.nextLong());
+
+            // Sélection / expansion
+            int depth = 0;
+            Node node = tree;
+            while (true) {
+                path[depth] = node;
+                if (scratch.isOver() || depth == ROLLOUT_DEPTH) {
+                    break;
+                }
+                int a0 = node.select(0, legalMask(scratch, 0));
+                int a1 = node.select(1, legalMask(scratch, 1));
+                actions0[depth] = a0;
+                actions1[depth] = a1;
+                TurnResolver.resolveTurn(data, scratch, toChoice(a0), toChoice(a1));
+                depth++;
+
+                int child = a0 * Node.ACTIONS + a1;
+                if (node.children[child] == null) {
+                    node.children[child] = new Node();
+                    path[depth] = node.children[child];
+                    break;
+                }
+                node = node.children[child];
+            }
+
+            float reward = rollout(scratch, rng, ROLLOUT_DEPTH - depth);
+
+            // Rétropropagation (récompense du point de vue du camp 0)
+            for (int d = 0; d < depth; d++) {
+                path[d].update(actions0[d], actions1[d], reward);
+            }
+        } while (System.nanoTime() < deadline);
+
+        int[] visits = new int[MAX_MOVES];
+        for (int i = 0; i < MAX_MOVES; i++) {
+            visits[i] = tree.visits[side][i];
+        }
+        return visits;
+    }
+
+    /**
+     * Termine le combat avec une politique gloutonne bruitée
+     * @return Récompense du camp 0 entre 0 et 1
+     */
+    private float rollout(BattleState state, SplittableRandom rng, int maxTurns) {
+        for (int t = 0; t < maxTurns && !state.isOver(); t++) {
+            TurnResolver.resolveTurn(data, state, rolloutChoice(state, 0, rng), rolloutChoice(state, 1, rng));
+        }
+        // Une victoire compte toujours plus qu'un combat inachevé ; les PV restants départagent
+        if (state.isOver()) {
+            return switch (state.getWinner()) {
+                case 0 -> 0.75f + 0.25f * hpFraction(state, 0);
+                case 1 -> 0.25f - 0.25f * hpFraction(state, 1);
+                default -> 0.5f;
+            };
+        }
+        return 0.5f + 0.25f * (hpFraction(state, 0) - hpFraction(state, 1));
+    }
+
+    private int rolloutChoice(BattleState state, int side, SplittableRandom rng) {
+        if (rng.nextFloat() < ROLLOUT_RANDOM_MOVE_CHANCE) {
+            int mask = legalMask(state, side);
+            if (mask != 0) {
+                int pick = rng.nextInt(Integer.bitCount(mask));
+                for (int i = 0; i < MAX_MOVES; i++) {
+                    if ((mask & (1 << i)) != 0 && pick-- == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return GreedyPolicy.chooseMove(data, state, side);
+    }
+
+    /**
+     * Fraction des PV totaux restant à un camp
+     */
+    private static float hpFraction(BattleState state, int side) {
+        int hp = 0, maxHp = 0;
+        for (int i = 0; i < state.teamSize[side]; i++) {
+            int slot = side * BattleState.MAX_TEAM + i;
+            hp += state.getHp(slot);
+            maxHp += state.getMaxHp(slot);
+        }
+        return maxHp == 0 ? 0f : (float) hp / maxHp;
+    }
+
+    /**
+     * Masque des attaques utilisables par l'ICMon actif (bit i = attaque i)
+     */
+    private static int legalMask(BattleState state, int side) {
+        int slot = state.active[side];
+        int mask = 0;
+        for (int i = 0; i < state.moveCount[slot]; i++) {
+            if (state.pp[slot * MAX_MOVES + i] > 0) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static int toChoice(int action) {
+        return action == NO_ACTION ? TurnResolver.STRUGGLE : action;
+    }
+
+    /**
+     * Noeud de l'arbre : statistiques UCB1 séparées pour chaque camp
+     */
+    private static final class Node {
+        static final int ACTIONS = MAX_MOVES + 1;
+
+        final int[][] visits = new int[2][ACTIONS];
+        final float[][] rewards = new float[2][ACTIONS];
+        final Node[] children = new Node[ACTIONS * ACTIONS];
+        int total;
+
+        /**
+         * Choisit l'action d'un camp par UCB1 parmi les attaques légales
+         */
+        int select(int side, int legalMask) {
+            if (legalMask == 0) {
+                return NO_ACTION;
+            }
+            float logTotal = (float) Math.log(total + 1);
+            int best = NO_ACTION;
+            float bestScore = Float.NEGATIVE_INFINITY;
+            for (int a = 0; a < MAX_MOVES; a++) {
+                if ((legalMask & (1 << a)) == 0) {
+                    continue;
+                }
+                int n = visits[side][a];
+                if (n == 0) {
+                    return a; // Essayer chaque action au moins une fois
+                }
+                // Le camp 1 maximise 1 - récompense du camp 0
+                float mean = rewards[side][a] / n;
+                if (side == 1) {
+                    mean = 1f - mean;
+                }
+                float score = mean + EXPLORATION * (float) Math.sqrt(logTotal / n);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = a;
+                }
+            }
+            return best;
+        }
+
+        void update(int action0, int action1, float reward) {
+            total++;
+            visits[0][action0]++;
+            rewards[0][action0] += reward;
+            visits[1][action1]++;
+            rewards[1][action1] += reward;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package battle;
+
+import static battle.BattleData.STAT_ATTACK;
+import static battle.BattleData.STAT_COUNT;
+import static battle.BattleData.STAT_DEFENSE;
+import static battle.BattleData.STAT_SPEED;
+import static battle.BattleData.STAT_SP_ATTACK;
+import static battle.BattleData.STAT_SP_DEFENSE;
+import static battle.BattleState.MAX_MOVES;
+import static battle.BattleState.MAX_TEAM;
+
+/**
+ * Résolution d'un tour de combat, sans aucune allocation
+ *
+ * DÉROULEMENT D'UN TOUR:
+ * 1. Ordre d'action : priorité de l'attaque, puis vitesse effective, puis tirage au sort
+ * 2. Pour chaque attaquant encore debout : PP, précision, dégâts, effet secondaire
+ * 3. Un ICMon K.O. est remplacé par le premier membre valide de son équipe
+ * 4. Le combat se termine quand un camp n'a plus d'ICMon (ou à la limite de tours)
+ *
+ * DÉGÂTS (formule des jeux de référence):
+ * ((2 * niveau / 5 + 2) * puissance * A / D) / 50 + 2, multiplié par le STAB (x1.5),
+ * l'efficacité de type et un facteur aléatoire entre 0.85 et 1.
+ *
+ * EFFETS SECONDAIRES (ind_secEffect = 1):
+ * avec une chance de probability %, la statistique value_effect (1 = attaque,
+ * 2 = défense, 3 = attaque spé., 4 = défense spé., 5 = vitesse) gagne un niveau
+ * si effect_modifier = 1, en perd un sinon. La cible est l'adversaire (target = 0)
+ * ou le lanceur (target = 1).
+ *
+ * @author Lounol72
+ */
+public final class TurnResolver {
+
+    /** Choix utilisé quand l'ICMon n'a plus de PP : attaque neutre sans type */
+    public static final int STRUGGLE = -1;
+    public static final int STRUGGLE_POWER = 50;
+
+    public static final int MAX_TURNS = 500;
+    public static final int MAX_STAGE = 6;
+
+    static final float STAB = 1.5f;
+
+    /** Multiplicateur par niveau de boost, index = niveau + 6 (de -6 à +6) */
+    private static final float[] STAGE_MULTIPLIERS = {
+        2f / 8, 2f / 7, 2f / 6, 2f / 5, 2f / 4, 2f / 3, 1f, 3f / 2, 4f / 2, 5f / 2, 6f / 2, 7f / 2, 8f / 2
+    };
+
+    private TurnResolver() {}
+
+    /**
+     * Joue un tour complet
+     * @param data Tables de combat
+     * @param state État du combat (modifié)
+     * @param choice0 Index de l'attaque du camp 0 (ou STRUGGLE)
+     * @param choice1 Index de l'attaque du camp 1 (ou STRUGGLE)
+     */
+    public static void resolveTurn(BattleData data, BattleState state, int choice0, int choice1) {
+        if (state.isOver()) {
+            return;
+        }
+        int move0 = resolveMove(state, 0, choice0);
+        int move1 = resolveMove(state, 1, choice1);
+
+        if (firstToAct(data, state, move0, move1) == 0) {
+            act(data, state, 0, choice0, move0);
+            act(data, state, 1, choice1, move1);
+        } else {
+            act(data, state, 1, choice1, move1);
+            act(data, state, 0, choice0, move0);
+        }
+
+        replaceFainted(state, 0);
+        replaceFainted(state, 1);
+        state.turn++;
+        if (!state.isOver() && state.turn >= MAX_TURNS) {
+            state.winner = BattleState.DRAW;
+        }
+    }
+
+    /**
+     * Attaque réellement utilisée pour un choix (STRUGGLE si choix invalide ou sans PP)
+     */
+    private static int resolveMove(BattleState state, int side, int choice) {
+        int slot = state.active[side];
+        if (choice < 0 || choice >= state.moveCount[slot] || state.pp[slot * MAX_MOVES + choice] <= 0) {
+            return STRUGGLE;
+        }
+        return state.moves[slot * MAX_MOVES + choice];
+    }
+
+    /**
+     * Détermine le camp qui agit en premier
+     */
+    private static int firstToAct(BattleData data, BattleState state, int move0, int move1) {
+        int priority0 = move0 == STRUGGLE ? 0 : data.movePriority[move0];
+        int priority1 = move1 == STRUGGLE ? 0 : data.movePriority[move1];
+        if (priority0 != priority1) {
+            return priority0 > priority1 ? 0 : 1;
+        }
+        float speed0 = effectiveStat(state, state.active[0], STAT_SPEED);
+        float speed1 = effectiveStat(state, state.active[1], STAT_SPEED);
+        if (speed0 != speed1) {
+            return speed0 > speed1 ? 0 : 1;
+        }
+        return state.nextInt(2);
+    }
+
+    private static void act(BattleData data, BattleState state, int side, int choice, int move) {
+        int attacker = state.active[side];
+        int defender = state.active[1 - side];
+        // Un ICMon K.O. avant son action ne joue pas
+        if (state.hp[attacker] <= 0 || state.hp[defender] <= 0) {
+            return;
+        }
+
+        if (move == STRUGGLE) {
+            applyDamage(state, defender, computeDamage(data, state, attacker, defender, STRUGGLE));
+            return;
+        }
+
+        state.pp[attacker * MAX_MOVES + choice]--;
+        if (state.nextInt(100) >= data.moveAccuracy[move]) {
+            return; // Attaque ratée
+        }
+
+        if (data.movePower[move] > 0) {
+            applyDamage(state, defender, computeDamage(data, state, attacker, defender, move));
+        }
+
+        if (data.moveSecEffect[move] == 1 && state.nextInt(100) < data.moveProbability[move]) {
+            int target = data.moveTarget[move] == 1 ? attacker : defender;
+            int stat = data.moveValueEffect[move];
+            if (stat >= STAT_ATTACK && stat <= STAT_SPEED && state.hp[target] > 0) {
+                int delta = data.moveEffectModifier[move] == 1 ? 1 : -1;
+                int index = target * STAT_COUNT + stat;
+                state.stages[index] = Math.max(-MAX_STAGE, Math.min(MAX_STAGE, state.stages[index] + delta));
+            }
+        }
+    }
+
+    /**
+     * Calcule les dégâts d'une attaque
+     * STAB et efficacité sont lus dans les tables précalculées de BattleData
+     * @param move Index de l'attaque, ou STRUGGLE (attaque physique sans type)
+     */
+    static int computeDamage(BattleData data, BattleState state, int attacker, int defender, int move) {
+        boolean physical = move == STRUGGLE || data.movePhysical[move];
+        int power = move == STRUGGLE ? STRUGGLE_POWER : data.movePower[move];
+        float attack = effectiveStat(state, attacker, physical ? STAT_ATTACK : STAT_SP_ATTACK);
+        float defense = effectiveStat(state, defender, physical ? STAT_DEFENSE : STAT_SP_DEFENSE);
+        float damage = ((2f * state.level[attacker] / 5f + 2f) * power * attack / defense) / 50f + 2f;
+
+        if (move != STRUGGLE) {
+            float effectiveness = data.moveEffectiveness[move * data.speciesCount + state.species[defender]];
+            if (effectiveness == 0f) {
+                return 0;
+            }
+            damage *= data.speciesMoveStab[state.species[attacker] * data.moveCount + move] * effectiveness;
+        }
+
+        damage = damage * (85 + state.nextInt(16)) / 100f;
+        return Math.max(1, (int) damage);
+    }
+
+    private static void applyDamage(BattleState state, int defender, int damage) {
+        state.hp[defender] = Math.max(0, state.hp[defender] - damage);
+    }
+
+    /**
+     * Statistique tenant compte des niveaux de boost
+     */
+    static float effectiveStat(BattleState state, int slot, int stat) {
+        int index = slot * STAT_COUNT + stat;
+        return state.stats[index] * STAGE_MULTIPLIERS[state.stages[index] + MAX_STAGE];
+    }
+
+    /**
+     * Remplace l'ICMon actif K.O. par le premier membre encore debout
+     * S'il n'en reste aucun, l'autre camp gagne
+     */
+    private static void replaceFainted(BattleState state, int side) {
+        if (state.hp[state.active[side]] > 0) {
+            return;
+        }
+        int first = side * MAX_TEAM;
+        for (int slot = first; slot < first + state.teamSize[side]; slot++) {
+            if (state.hp[slot] > 0) {
+                state.active[side] = slot;
+                return;
+            }
+        }
+        // Si les deux camps sont vaincus au même tour : match nul
+        state.winner = state.winner == BattleState.NO_WINNER ? 1 - side : BattleState.DRAW;
+    }
+}
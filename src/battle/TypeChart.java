@@ -0,0 +1,111 @@
+package battle;
+
+// Java standard library imports
+import java.util.Arrays;
+
+/**
+ * Table d'efficacité des types ICMon
+ *
+ * Les types sont identifiés par des entiers (index dans BattleData.getTypeName).
+ * La table est une matrice aplatie : chart[typeAttaque * nbTypes + typeDefense]
+ * donne le multiplicateur de dégâts (une seule lecture, aucun tableau imbriqué).
+ *
+ * data.json ne définit que les noms de types : la table ci-dessous est la table
+ * de référence du jeu, à ajuster par les game designers. Un type absent de la table
+ * est neutre (x1) contre tout.
+ *
+ * @author Lounol72
+ */
+public final class TypeChart {
+
+    public static final float SUPER_EFFECTIVE = 2f;
+    public static final float NOT_VERY_EFFECTIVE = 0.5f;
+    public static final float NEUTRAL = 1f;
+
+    /**
+     * Relations non neutres : {attaque, défense, multiplicateur}
+     * - Triangle élémentaire : feu > plante > eau > feu
+     * - Triangle numérique : malware > data > net > malware
+     * - electrique : fort contre eau et net, faible contre plante
+     * - waifu : fort contre malware, faible contre data
+     */
+    private static final Object[][] RELATIONS = {
+        {"feu", "plante", SUPER_EFFECTIVE},
+        {"feu", "eau", NOT_VERY_EFFECTIVE},
+        {"feu", "feu", NOT_VERY_EFFECTIVE},
+        {"plante", "eau", SUPER_EFFECTIVE},
+        {"plante", "feu", NOT_VERY_EFFECTIVE},
+        {"plante", "plante", NOT_VERY_EFFECTIVE},
+        {"eau", "feu", SUPER_EFFECTIVE},
+        {"eau", "plante", NOT_VERY_EFFECTIVE},
+        {"eau", "eau", NOT_VERY_EFFECTIVE},
+        {"electrique", "eau", SUPER_EFFECTIVE},
+        {"electrique", "net", SUPER_EFFECTIVE},
+        {"electrique", "plante", NOT_VERY_EFFECTIVE},
+        {"electrique", "electrique", NOT_VERY_EFFECTIVE},
+        {"malware", "data", SUPER_EFFECTIVE},
+        {"malware", "net", NOT_VERY_EFFECTIVE},
+        {"malware", "malware", NOT_VERY_EFFECTIVE},
+        {"data", "net", SUPER_EFFECTIVE},
+        {"data", "malware", NOT_VERY_EFFECTIVE},
+        {"data", "waifu", SUPER_EFFECTIVE},
+        {"net", "malware", SUPER_EFFECTIVE},
+        {"net", "data", NOT_VERY_EFFECTIVE},
+        {"net", "net", NOT_VERY_EFFECTIVE},
+        {"waifu", "malware", SUPER_EFFECTIVE},
+        {"waifu", "data", NOT_VERY_EFFECTIVE},
+    };
+
+    private final int typeCount;
+    private final float[] chart;
+
+    /**
+     * Construit la table pour les types donnés
+     * @param typeNames Noms des types, dans l'ordre de leurs identifiants
+     */
+    TypeChart(String[] typeNames) {
+        typeCount = typeNames.length;
+        chart = new float[typeCount * typeCount];
+        Arrays.fill(chart, NEUTRAL);
+        for (Object[] relation : RELATIONS) {
+            int attack = indexOf(typeNames, (String) relation[0]);
+            int defense = indexOf(typeNames, (String) relation[1]);
+            if (attack >= 0 && defense >= 0) {
+                chart[attack * typeCount + defense] = (Float) relation[2];
+            }
+        }
+    }
+
+    /**
+     * Multiplicateur d'un type d'attaque contre un type de défense
+     */
+    public float get(int attackType, int defenseType) {
+        return chart[attackType * typeCount + defenseType];
+    }
+
+    /**
+     * Multiplicateur d'un type d'attaque contre un ICMon à deux types
+     * Un ICMon dont les deux types sont identiques ne compte qu'une fois
+     */
+    public float get(int attackType, int defenseType1, int defenseType2) {
+        int row = attackType * typeCount;
+        float multiplier = chart[row + defenseType1];
+        if (defenseType2 != defenseType1) {
+            multiplier *= chart[row + defenseType2];
+        }
+        return multiplier;
+    }
+
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
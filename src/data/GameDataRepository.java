@@ -0,0 +1,211 @@
+package data;
+
+// Java standard library imports
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Third-party library imports
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import static utilz.Constants.PATHS.DATA_FILE;
+
+/**
+ * Dépôt typé des données du jeu (data.json), chargé une seule fois
+ *
+ * ORGANISATION:
+ * - Les ICMons, attaques et équipes sont convertis en records au chargement
+ * - Accès par identifiant en O(1) (tableaux indexés par id - 1, les ids de data.json commencent à 1)
+ * - Movepools triés par niveau : "attaques apprises au niveau N" est une recherche dichotomique
+ *
+ * Remplace les appels répétés à HelpMethods.loadResource (parcours de l'arbre JSON
+ * et réflexion Gson à chaque accès).
+ *
+ * @author Lounol72
+ */
+public final class GameDataRepository {
+
+    private static final LearnableMove[] NO_MOVES = new LearnableMove[0];
+
+    private static GameDataRepository instance;
+
+    private final IcmonSpecies[] species;
+    private final MoveData[] moves;
+    private final TeamData[] teams;
+
+    // Movepools par espèce : entrées triées par niveau et niveaux correspondants
+    private final LearnableMove[][] movepools;
+    private final int[][] movepoolLevels;
+
+    private GameDataRepository(JsonObject root) {
+        JsonArray icmonArray = root.getAsJsonArray("icmons");
+        species = new IcmonSpecies[icmonArray.size()];
+        for (int i = 0; i < species.length; i++) {
+            JsonObject icmon = icmonArray.get(i).getAsJsonObject();
+            JsonObject stats = icmon.getAsJsonObject("stats");
+            JsonArray types = icmon.getAsJsonArray("types");
+            String type1 = types.get(0).getAsString();
+            String type2 = types.size() > 1 ? types.get(1).getAsString() : type1;
+            species[i] = new IcmonSpecies(i + 1, icmon.get("name").getAsString(),
+                stats.get("hp").getAsInt(), stats.get("attack").getAsInt(), stats.get("defense").getAsInt(),
+                stats.get("spAttack").getAsInt(), stats.get("spDefense").getAsInt(), stats.get("speed").getAsInt(),
+                type1, type2);
+        }
+
+        JsonArray moveArray = root.getAsJsonArray("moves");
+        moves = new MoveData[moveArray.size()];
+        for (int i = 0; i < moves.length; i++) {
+            JsonObject move = moveArray.get(i).getAsJsonObject();
+            moves[i] = new MoveData(i + 1, move.get("name").getAsString(),
+                move.get("power").getAsInt(), move.get("type").getAsString(),
+                "physical".equals(move.get("categ").getAsString()),
+                move.get("accuracy").getAsInt(), move.get("PP").getAsInt(), move.get("priority").getAsInt(),
+                move.get("target").getAsInt(), move.get("ind_secEffect").getAsInt(),
+                move.get("probability").getAsInt(), move.get("value_effect").getAsInt(),
+                move.get("effect_modifier").getAsInt());
+        }
+
+        JsonArray teamArray = root.getAsJsonArray("teams");
+        teams = new TeamData[teamArray.size()];
+        for (int i = 0; i < teams.length; i++) {
+            JsonObject team = teamArray.get(i).getAsJsonObject();
+            List<Integer> ids = new ArrayList<>();
+            for (JsonElement id : team.getAsJsonArray("ids")) {
+                ids.add(id.getAsInt());
+            }
+            teams[i] = new TeamData(i + 1, team.get("name").getAsString(), ids);
+        }
+
+        movepools = new LearnableMove[species.length][];
+        movepoolLevels = new int[species.length][];
+        Arrays.fill(movepools, NO_MOVES);
+        Arrays.fill(movepoolLevels, new int[0]);
+        for (JsonElement element : root.getAsJsonArray("movepool")) {
+            JsonObject pool = element.getAsJsonObject();
+            int speciesIndex = pool.get("idPoke").getAsInt() - 1;
+            JsonArray learnArray = pool.getAsJsonArray("moves");
+            LearnableMove[] entries = new LearnableMove[learnArray.size()];
+            for (int i = 0; i < entries.length; i++) {
+                JsonObject entry = learnArray.get(i).getAsJsonObject();
+                entries[i] = new LearnableMove(entry.get("lvl").getAsInt(), entry.get("idMove").getAsInt());
+            }
+            // Tri stable : l'ordre du fichier est conservé à niveau égal
+            Arrays.sort(entries, Comparator.comparingInt(LearnableMove::level));
+            movepools[speciesIndex] = entries;
+            movepoolLevels[speciesIndex] = Arrays.stream(entries).mapToInt(LearnableMove::level).toArray();
+        }
+    }
+
+    /**
+     * Charge un dépôt depuis un fichier JSON
+     * @param filePath Chemin du fichier (ex: res/data/data.json)
+     * @return Le dépôt, ou null en cas d'erreur
+     */
+    public static GameDataRepository load(String filePath) {
+        try (Reader reader = new FileReader(filePath)) {
+            return new GameDataRepository(JsonParser.parseReader(reader).getAsJsonObject());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Erreur lors du chargement des données du jeu : " + filePath);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Dépôt chargé depuis le fichier de données du jeu (chargé une seule fois)
+     */
+    public static synchronized GameDataRepository getInstance() {
+        if (instance == null) {
+            instance = load(DATA_FILE);
+        }
+        return instance;
+    }
+
+    // === ACCÈS PAR IDENTIFIANT ===
+
+    /**
+     * @param id Identifiant de l'espèce (à partir de 1)
+     * @return L'espèce
+     * @throws IndexOutOfBoundsException si l'identifiant n'existe pas
+     */
+    public IcmonSpecies getSpecies(int id) {
+        return species[id - 1];
+    }
+
+    /**
+     * @param id Identifiant de l'attaque (à partir de 1)
+     * @return L'attaque
+     * @throws IndexOutOfBoundsException si l'identifiant n'existe pas
+     */
+    public MoveData getMove(int id) {
+        return moves[id - 1];
+    }
+
+    /**
+     * @param id Identifiant de l'équipe (à partir de 1)
+     * @return L'équipe
+     * @throws IndexOutOfBoundsException si l'identifiant n'existe pas
+     */
+    public TeamData getTeam(int id) {
+        return teams[id - 1];
+    }
+
+    public int getSpeciesCount() {
+        return species.length;
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public int getTeamCount() {
+        return teams.length;
+    }
+
+    // === MOVEPOOLS ===
+
+    /**
+     * Movepool complet d'une espèce, trié par niveau (vide si l'espèce n'en a pas)
+     * @param speciesId Identifiant de l'espèce
+     */
+    public List<LearnableMove> getMovepool(int speciesId) {
+        return Collections.unmodifiableList(Arrays.asList(movepools[speciesId - 1]));
+    }
+
+    /**
+     * Nombre d'attaques apprises jusqu'au niveau donné inclus (recherche dichotomique)
+     * @param speciesId Identifiant de l'espèce
+     * @param level Niveau
+     */
+    public int countLearnableAt(int speciesId, int level) {
+        int[] levels = movepoolLevels[speciesId - 1];
+        // Premier index dont le niveau dépasse level
+        int low = 0, high = levels.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (levels[mid] <= level) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Attaques apprises jusqu'au niveau donné inclus, dans l'ordre d'apprentissage
+     * @param speciesId Identifiant de l'espèce
+     * @param level Niveau
+     */
+    public List<LearnableMove> getMovesLearnableAt(int speciesId, int level) {
+        return getMovepool(speciesId).subList(0, countLearnableAt(speciesId, level));
+    }
+}
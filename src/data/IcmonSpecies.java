@@ -0,0 +1,22 @@
+package data;
+
+/**
+ * Espèce d'ICMon telle que définie dans data.json (tableau "icmons")
+ *
+ * @param id Identifiant (à partir de 1, position dans data.json)
+ * @param name Nom de l'espèce
+ * @param hp Statistique de base PV
+ * @param attack Statistique de base attaque
+ * @param defense Statistique de base défense
+ * @param spAttack Statistique de base attaque spéciale
+ * @param spDefense Statistique de base défense spéciale
+ * @param speed Statistique de base vitesse
+ * @param type1 Premier type
+ * @param type2 Second type (égal au premier pour un ICMon à type unique)
+ *
+ * @author Lounol72
+ */
+public record IcmonSpecies(int id, String name,
+                           int hp, int attack, int defense, int spAttack, int spDefense, int speed,
+                           String type1, String type2) {
+}
@@ -0,0 +1,12 @@
+package data;
+
+/**
+ * Entrée de movepool : attaque apprise à un niveau donné
+ *
+ * @param level Niveau d'apprentissage
+ * @param moveId Identifiant de l'attaque (à partir de 1)
+ *
+ * @author Lounol72
+ */
+public record LearnableMove(int level, int moveId) {
+}
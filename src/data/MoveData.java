@@ -0,0 +1,25 @@
+package data;
+
+/**
+ * Attaque telle que définie dans data.json (tableau "moves")
+ *
+ * @param id Identifiant (à partir de 1, position dans data.json)
+ * @param name Nom de l'attaque
+ * @param power Puissance (0 pour une attaque de statut)
+ * @param type Type de l'attaque
+ * @param physical true si l'attaque est physique, false si spéciale
+ * @param accuracy Précision en %
+ * @param pp Nombre d'utilisations
+ * @param priority Priorité (de -7 à 7)
+ * @param target Cible de l'effet secondaire (0 = adversaire, 1 = lanceur)
+ * @param secondaryEffect Indicateur d'effet secondaire (ind_secEffect)
+ * @param probability Probabilité de l'effet secondaire en %
+ * @param valueEffect Statistique visée par l'effet (value_effect)
+ * @param effectModifier Sens de l'effet (effect_modifier, 1 = hausse)
+ *
+ * @author Lounol72
+ */
+public record MoveData(int id, String name, int power, String type, boolean physical,
+                       int accuracy, int pp, int priority, int target,
+                       int secondaryEffect, int probability, int valueEffect, int effectModifier) {
+}
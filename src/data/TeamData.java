@@ -0,0 +1,20 @@
+package data;
+
+// Java standard library imports
+import java.util.List;
+
+/**
+ * Équipe de dresseur telle que définie dans data.json (tableau "teams")
+ *
+ * @param id Identifiant (à partir de 1, position dans data.json)
+ * @param name Nom du dresseur
+ * @param speciesIds Identifiants des espèces de l'équipe (liste immuable)
+ *
+ * @author Lounol72
+ */
+public record TeamData(int id, String name, List<Integer> speciesIds) {
+
+    public TeamData {
+        speciesIds = List.copyOf(speciesIds);
+    }
+}
@@ -0,0 +1,28 @@
+package ecs;
+
+import static utilz.Constants.PLAYER.ANI_SPEED;
+
+/**
+ * Animation des sprites : avance d'une image toutes les ANI_SPEED updates
+ *
+ * @author Lounol72
+ */
+public class AnimationSystem implements EcsSystem {
+
+    @Override
+    public int getRequiredMask() {
+        return Components.SPRITE;
+    }
+
+    @Override
+    public void update(EcsWorld world, Archetype a) {
+        int[] sprite = a.sprite, frame = a.frame, tick = a.tick;
+        for (int i = 0, n = a.size(); i < n; i++) {
+            if (++tick[i] >= ANI_SPEED) {
+                tick[i] = 0;
+                int frameCount = world.getSpriteFrames(sprite[i]).length;
+                frame[i] = frame[i] + 1 >= frameCount ? 0 : frame[i] + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package ecs;
+
+// Java standard library imports
+import java.util.Arrays;
+
+/**
+ * Ensemble dense des entités partageant le même masque de composants
+ *
+ * STOCKAGE (structure de tableaux):
+ * - Une colonne par champ de composant, allouée seulement si le composant est présent
+ * - Les entités occupent les lignes [0, count[ sans trou : une suppression déplace
+ *   la dernière ligne à la place de la ligne libérée
+ * - Les systèmes parcourent les colonnes directement (boucles sur des tableaux primitifs)
+ *
+ * @author Lounol72
+ */
+public final class Archetype {
+
+    // Drapeaux d'état (colonne flags)
+    public static final byte ON_GROUND = 1;
+    public static final byte BLOCKED_X = 1 << 1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    final int mask;
+    int count;
+    int capacity;
+
+    // Entité de chaque ligne
+    int[] entities;
+
+    // === COLONNES ===
+    public float[] x, y;            // POSITION
+    public float[] vx, vy;          // VELOCITY
+    public float[] w, h;            // BOUNDS
+    public byte[] flags;            // GRAVITY / VELOCITY
+    public int[] sprite, frame, tick; // SPRITE
+    public float[] patrolSpeed;     // PATROL (le signe donne la direction)
+
+    Archetype(int mask) {
+        this.mask = mask;
+        this.capacity = INITIAL_CAPACITY;
+        this.entities = new int[capacity];
+        if (has(Components.POSITION)) {
+            x = new float[capacity];
+            y = new float[capacity];
+        }
+        if (has(Components.VELOCITY)) {
+            vx = new float[capacity];
+            vy = new float[capacity];
+            flags = new byte[capacity];
+        }
+        if (has(Components.BOUNDS)) {
+            w = new float[capacity];
+            h = new float[capacity];
+        }
+        if (has(Components.SPRITE)) {
+            sprite = new int[capacity];
+            frame = new int[capacity];
+            tick = new int[capacity];
+        }
+        if (has(Components.PATROL)) {
+            patrolSpeed = new float[capacity];
+        }
+    }
+
+    /**
+     * Ajoute une ligne (colonnes à zéro) pour une entité
+     * @return Index de la ligne
+     */
+    int add(int entity) {
+        if (count == capacity) {
+            grow();
+        }
+        int row = count++;
+        entities[row] = entity;
+        return row;
+    }
+
+    /**
+     * Supprime une ligne en y déplaçant la dernière
+     * @return Entité déplacée dans la ligne, ou -1 si la ligne supprimée était la dernière
+     */
+    int remove(int row) {
+        int last = --count;
+        if (row == last) {
+            clear(row);
+            return -1;
+        }
+        entities[row] = entities[last];
+        move(x, last, row);
+        move(y, last, row);
+        move(vx, last, row);
+        move(vy, last, row);
+        move(w, last, row);
+        move(h, last, row);
+        move(patrolSpeed, last, row);
+        if (flags != null) {
+            flags[row] = flags[last];
+        }
+        if (sprite != null) {
+            sprite[row] = sprite[last];
+            frame[row] = frame[last];
+            tick[row] = tick[last];
+        }
+        clear(last);
+        return entities[row];
+    }
+
+    public boolean has(int components) {
+        return Components.has(mask, components);
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Entité occupant une ligne
+     */
+    public int entityAt(int row) {
+        return entities[row];
+    }
+
+    // === INTERNE ===
+
+    private void grow() {
+        capacity *= 2;
+        entities = Arrays.copyOf(entities, capacity);
+        x = grow(x);
+        y = grow(y);
+        vx = grow(vx);
+        vy = grow(vy);
+        w = grow(w);
+        h = grow(h);
+        patrolSpeed = grow(patrolSpeed);
+        if (flags != null) {
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        if (sprite != null) {
+            sprite = Arrays.copyOf(sprite, capacity);
+            frame = Arrays.copyOf(frame, capacity);
+            tick = Arrays.copyOf(tick, capacity);
+        }
+    }
+
+    private float[] grow(float[] column) {
+        return column == null ? null : Arrays.copyOf(column, capacity);
+    }
+
+    private static void move(float[] column, int from, int to) {
+        if (column != null) {
+            column[to] = column[from];
+        }
+    }
+
+    /**
+     * Remet une ligne libérée à zéro (une nouvelle entité part de valeurs neutres)
+     */
+    private void clear(int row) {
+        if (x != null) { x[row] = 0; y[row] = 0; }
+        if (vx != null) { vx[row] = 0; vy[row] = 0; flags[row] = 0; }
+        if (w != null) { w[row] = 0; h[row] = 0; }
+        if (sprite != null) { sprite[row] = 0; frame[row] = 0; tick[row] = 0; }
+        if (patrolSpeed != null) { patrolSpeed[row] = 0; }
+    }
+}
@@ -0,0 +1,84 @@
+package ecs;
+
+// Java standard library imports
+import java.awt.geom.Rectangle2D;
+
+/**
+ * Collisions entre entités : phase large (SweepAndPrune) puis phase étroite
+ *
+ * FONCTIONNEMENT:
+ * - Exécuté par EcsWorld après les systèmes de logique (positions finales de la frame)
+ * - La phase large ne garde que les paires qui se recouvrent en X : le coût est
+ *   proche de O(n) par frame au lieu de O(n²) comparaisons
+ * - La phase étroite teste l'intersection des hitboxes (Rectangle2D.Float, comme
+ *   pour le Player contre le niveau) et prévient le listener pour chaque contact
+ *
+ * @author Lounol72
+ */
+public class CollisionSystem {
+
+    /**
+     * Réaction à un contact entre deux entités (appelée pendant l'update du monde :
+     * les destructions doivent passer par EcsWorld.destroyLater)
+     */
+    @FunctionalInterface
+    public interface CollisionListener {
+        void onCollision(EcsWorld world, int entityA, int entityB);
+    }
+
+    private final SweepAndPrune broadPhase = new SweepAndPrune();
+    private final CollisionListener listener;
+
+    // Hitboxes de travail de la phase étroite (réutilisées)
+    private final Rectangle2D.Float boxA = new Rectangle2D.Float();
+    private final Rectangle2D.Float boxB = new Rectangle2D.Float();
+
+    private int lastContacts;
+
+    public CollisionSystem(CollisionListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Détecte les contacts de la frame et les transmet au listener
+     */
+    public void update(EcsWorld world) {
+        broadPhase.update(world);
+        int contacts = 0;
+        for (int i = 0, n = broadPhase.getPairCount(); i < n; i++) {
+            int a = broadPhase.getPairA(i);
+            int b = broadPhase.getPairB(i);
+            loadHitbox(world, a, boxA);
+            loadHitbox(world, b, boxB);
+            if (boxA.intersects(boxB)) {
+                contacts++;
+                listener.onCollision(world, a, b);
+            }
+        }
+        lastContacts = contacts;
+    }
+
+    private static void loadHitbox(EcsWorld world, int entity, Rectangle2D.Float box) {
+        Archetype a = world.archetypeOf(entity);
+        int row = world.rowOf(entity);
+        box.setRect(a.x[row], a.y[row], a.w[row], a.h[row]);
+    }
+
+    public SweepAndPrune getBroadPhase() {
+        return broadPhase;
+    }
+
+    /**
+     * Nombre de paires candidates de la dernière frame (phase large)
+     */
+    public int getLastPairCount() {
+        return broadPhase.getPairCount();
+    }
+
+    /**
+     * Nombre de contacts confirmés de la dernière frame (phase étroite)
+     */
+    public int getLastContactCount() {
+        return lastContacts;
+    }
+}
@@ -0,0 +1,42 @@
+package ecs;
+
+/**
+ * Composants de l'ECS, identifiés par un bit
+ *
+ * Le masque d'une entité (OU des bits) détermine son archétype ; chaque composant
+ * correspond à une ou plusieurs colonnes denses de l'Archetype :
+ * - POSITION : x, y (coin haut-gauche, en pixels)
+ * - VELOCITY : vx, vy (pixels par update)
+ * - BOUNDS : w, h (boîte de collision)
+ * - GRAVITY : soumis à la gravité, état au sol dans les drapeaux
+ * - SPRITE : sprite, image courante, compteur d'animation
+ * - PATROL : marche à vitesse constante, demi-tour contre un mur
+ * - PLAYER : reflet du Player (position recopiée à chaque update)
+ *
+ * @author Lounol72
+ */
+public final class Components {
+
+    public static final int POSITION = 1;
+    public static final int VELOCITY = 1 << 1;
+    public static final int BOUNDS = 1 << 2;
+    public static final int GRAVITY = 1 << 3;
+    public static final int SPRITE = 1 << 4;
+    public static final int PATROL = 1 << 5;
+    public static final int PLAYER = 1 << 6;
+
+    // === ARCHÉTYPES COURANTS ===
+    public static final int BODY = POSITION | VELOCITY | BOUNDS;
+    public static final int WALKER = BODY | GRAVITY | SPRITE | PATROL;
+    public static final int PROJECTILE = BODY | SPRITE;
+    public static final int PLAYER_MIRROR = POSITION | BOUNDS | PLAYER;
+
+    private Components() {}
+
+    /**
+     * Vérifie qu'un masque contient tous les composants demandés
+     */
+    public static boolean has(int mask, int required) {
+        return (mask & required) == required;
+    }
+}
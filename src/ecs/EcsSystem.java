@@ -0,0 +1,20 @@
+package ecs;
+
+/**
+ * Système de l'ECS : traite toutes les lignes des archétypes qui possèdent ses composants
+ *
+ * @author Lounol72
+ */
+public interface EcsSystem {
+
+    /**
+     * Composants requis (masque) : seuls les archétypes les possédant tous sont traités
+     */
+    int getRequiredMask();
+
+    /**
+     * Traite les lignes [0, archetype.size()[ d'un archétype
+     * Les suppressions doivent passer par EcsWorld.destroyLater pendant le parcours
+     */
+    void update(EcsWorld world, Archetype archetype);
+}
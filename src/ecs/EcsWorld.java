@@ -0,0 +1,338 @@
+package ecs;
+
+// Java standard library imports
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Monde ECS : entités, archétypes et systèmes
+ *
+ * ENTITÉS:
+ * - Une entité est un int : index de slot (INDEX_BITS bits) + génération
+ * - Détruire une entité incrémente la génération de son slot : un identifiant
+ *   périmé est détecté (isAlive) au lieu de désigner la nouvelle occupante du slot
+ * - Chaque slot mémorise son archétype et sa ligne : accès à un composant en O(1)
+ *
+ * SYSTÈMES:
+ * - update() appelle chaque système, dans l'ordre d'enregistrement, sur chaque
+ *   archétype compatible ; les destructions demandées pendant le parcours sont
+ *   appliquées à la fin (les lignes ne bougent pas pendant une itération)
+ * - Les requêtes (masque -> archétypes compatibles) sont mises en cache
+ * - Les collisions entre entités (CollisionSystem) sont détectées après les systèmes,
+ *   sur les positions finales de la frame
+ *
+ * @author Lounol72
+ */
+public class EcsWorld {
+
+    public static final int INDEX_BITS = 20;
+    public static final int MAX_ENTITIES = 1 << INDEX_BITS;
+    private static final int INDEX_MASK = MAX_ENTITIES - 1;
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - 1 - INDEX_BITS)) - 1;
+    public static final int NO_ENTITY = -1;
+
+    // === SLOTS ===
+    private int[] generations = new int[64];
+    private Archetype[] archetypeOf = new Archetype[64];
+    private int[] rowOf = new int[64];
+    private int slotCount;
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private int aliveCount;
+
+    // === ARCHÉTYPES ET REQUÊTES ===
+    private final Map<Integer, Archetype> archetypes = new HashMap<>();
+    private final List<Archetype> archetypeList = new ArrayList<>();
+    private final Map<Integer, Archetype[]> queries = new HashMap<>();
+
+    private final List<EcsSystem> systems = new ArrayList<>();
+    private final List<EcsSystem> renderSystems = new ArrayList<>();
+    private CollisionSystem collisions;
+
+    // Destructions différées
+    private int[] pendingDestroy = new int[16];
+    private int pendingCount;
+
+    // Sprites référencés par la colonne sprite (index dans cette liste)
+    private final List<BufferedImage[]> sprites = new ArrayList<>();
+    private final Map<String, Integer> spriteIds = new HashMap<>();
+
+    // Contexte de rendu courant (lu par les systèmes de rendu)
+    private Graphics renderGraphics;
+    private int renderOffsetX, renderOffsetY;
+
+    // === ENTITÉS ===
+
+    /**
+     * Crée une entité avec les composants donnés (colonnes à zéro)
+     * @param mask Composants (voir Components)
+     * @return Identifiant de l'entité
+     */
+    public int create(int mask) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == MAX_ENTITIES) {
+                throw new IllegalStateException("Trop d'entités : " + MAX_ENTITIES);
+            }
+            if (slotCount == generations.length) {
+                int capacity = Math.min(MAX_ENTITIES, slotCount * 2);
+                generations = Arrays.copyOf(generations, capacity);
+                archetypeOf = Arrays.copyOf(archetypeOf, capacity);
+                rowOf = Arrays.copyOf(rowOf, capacity);
+            }
+            slot = slotCount++;
+        }
+        int entity = (generations[slot] << INDEX_BITS) | slot;
+        Archetype archetype = archetypeFor(mask);
+        archetypeOf[slot] = archetype;
+        rowOf[slot] = archetype.add(entity);
+        aliveCount++;
+        return entity;
+    }
+
+    /**
+     * Détruit une entité immédiatement (hors parcours d'un système)
+     */
+    public void destroy(int entity) {
+        if (!isAlive(entity)) {
+            return;
+        }
+        int slot = entity & INDEX_MASK;
+        int moved = archetypeOf[slot].remove(rowOf[slot]);
+        if (moved != NO_ENTITY) {
+            rowOf[moved & INDEX_MASK] = rowOf[slot];
+        }
+        archetypeOf[slot] = null;
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        aliveCount--;
+    }
+
+    /**
+     * Demande la destruction d'une entité à la fin de l'update en cours
+     */
+    public void destroyLater(int entity) {
+        if (pendingCount == pendingDestroy.length) {
+            pendingDestroy = Arrays.copyOf(pendingDestroy, pendingCount * 2);
+        }
+        pendingDestroy[pendingCount++] = entity;
+    }
+
+    /**
+     * Index de slot d'une entité (stable pendant toute sa vie)
+     */
+    public static int slotOf(int entity) {
+        return entity & INDEX_MASK;
+    }
+
+    public boolean isAlive(int entity) {
+        if (entity < 0) {
+            return false;
+        }
+        int slot = entity & INDEX_MASK;
+        return slot < slotCount && archetypeOf[slot] != null
+            && generations[slot] == (entity >>> INDEX_BITS);
+    }
+
+    /**
+     * Archétype d'une entité vivante
+     */
+    public Archetype archetypeOf(int entity) {
+        return archetypeOf[entity & INDEX_MASK];
+    }
+
+    /**
+     * Ligne d'une entité vivante dans son archétype
+     */
+    public int rowOf(int entity) {
+        return rowOf[entity & INDEX_MASK];
+    }
+
+    public int getEntityCount() {
+        return aliveCount;
+    }
+
+    // === ACCÈS AUX COMPOSANTS ===
+
+    public void setPosition(int entity, float x, float y) {
+        Archetype a = archetypeOf(entity);
+        int row = rowOf(entity);
+        a.x[row] = x;
+        a.y[row] = y;
+    }
+
+    public void setVelocity(int entity, float vx, float vy) {
+        Archetype a = archetypeOf(entity);
+        int row = rowOf(entity);
+        a.vx[row] = vx;
+        a.vy[row] = vy;
+    }
+
+    public void setBounds(int entity, float w, float h) {
+        Archetype a = archetypeOf(entity);
+        int row = rowOf(entity);
+        a.w[row] = w;
+        a.h[row] = h;
+    }
+
+    public void setSprite(int entity, int spriteId) {
+        Archetype a = archetypeOf(entity);
+        int row = rowOf(entity);
+        a.sprite[row] = spriteId;
+        a.frame[row] = 0;
+        a.tick[row] = 0;
+    }
+
+    public void setPatrolSpeed(int entity, float speed) {
+        archetypeOf(entity).patrolSpeed[rowOf(entity)] = speed;
+    }
+
+    public float getX(int entity) {
+        return archetypeOf(entity).x[rowOf(entity)];
+    }
+
+    public float getY(int entity) {
+        return archetypeOf(entity).y[rowOf(entity)];
+    }
+
+    // === SPRITES ===
+
+    /**
+     * Enregistre les images d'un sprite animé
+     * @return Identifiant du sprite (pour setSprite)
+     */
+    public int registerSprite(BufferedImage[] frames) {
+        sprites.add(frames);
+        return sprites.size() - 1;
+    }
+
+    /**
+     * Identifiant d'un sprite nommé, chargé et enregistré au premier appel seulement
+     * @param name Nom du sprite (ex: fichier de l'image)
+     * @param loader Chargement des images si le sprite est inconnu
+     */
+    public int getOrRegisterSprite(String name, Supplier<BufferedImage[]> loader) {
+        Integer id = spriteIds.get(name);
+        if (id == null) {
+            id = registerSprite(loader.get());
+            spriteIds.put(name, id);
+        }
+        return id;
+    }
+
+    public BufferedImage[] getSpriteFrames(int spriteId) {
+        return sprites.get(spriteId);
+    }
+
+    // === SYSTÈMES ===
+
+    public void addSystem(EcsSystem system) {
+        systems.add(system);
+    }
+
+    public void addRenderSystem(EcsSystem system) {
+        renderSystems.add(system);
+    }
+
+    /**
+     * Détection des collisions entre entités (null pour la désactiver)
+     */
+    public void setCollisionSystem(CollisionSystem collisions) {
+        this.collisions = collisions;
+    }
+
+    public CollisionSystem getCollisionSystem() {
+        return collisions;
+    }
+
+    /**
+     * Exécute tous les systèmes de logique, les collisions, puis applique les destructions différées
+     */
+    public void update() {
+        run(systems);
+        if (collisions != null) {
+            collisions.update(this);
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            destroy(pendingDestroy[i]);
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Exécute les systèmes de rendu
+     * @param g Contexte graphique
+     * @param xOffset Décalage horizontal de la caméra
+     * @param yOffset Décalage vertical de la caméra
+     */
+    public void render(Graphics g, int xOffset, int yOffset) {
+        renderGraphics = g;
+        renderOffsetX = xOffset;
+        renderOffsetY = yOffset;
+        run(renderSystems);
+        renderGraphics = null;
+    }
+
+    public Graphics getRenderGraphics() {
+        return renderGraphics;
+    }
+
+    public int getRenderOffsetX() {
+        return renderOffsetX;
+    }
+
+    public int getRenderOffsetY() {
+        return renderOffsetY;
+    }
+
+    /**
+     * Archétypes possédant tous les composants demandés (résultat mis en cache)
+     */
+    public Archetype[] query(int mask) {
+        Archetype[] result = queries.get(mask);
+        if (result == null) {
+            List<Archetype> matching = new ArrayList<>();
+            for (Archetype archetype : archetypeList) {
+                if (archetype.has(mask)) {
+                    matching.add(archetype);
+                }
+            }
+            result = matching.toArray(new Archetype[0]);
+            queries.put(mask, result);
+        }
+        return result;
+    }
+
+    private void run(List<EcsSystem> list) {
+        for (EcsSystem system : list) {
+            for (Archetype archetype : query(system.getRequiredMask())) {
+                if (archetype.count > 0) {
+                    system.update(this, archetype);
+                }
+            }
+        }
+    }
+
+    private Archetype archetypeFor(int mask) {
+        Archetype archetype = archetypes.get(mask);
+        if (archetype == null) {
+            archetype = new Archetype(mask);
+            archetypes.put(mask, archetype);
+            archetypeList.add(archetype);
+            // Un nouvel archétype peut répondre aux requêtes déjà calculées
+            queries.clear();
+        }
+        return archetype;
+    }
+}
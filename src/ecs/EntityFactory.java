@@ -0,0 +1,89 @@
+package ecs;
+
+// Java standard library imports
+import java.awt.image.BufferedImage;
+
+import entities.Player;
+import levels.TileClassMap;
+import static utilz.Constants.PLAYER.PLAYER_SPEED_RUN;
+import static utilz.Constants.WORLD.TILES_SIZE;
+import utilz.LoadSave;
+
+/**
+ * Construction des entités du jeu et du monde ECS standard
+ *
+ * @author Lounol72
+ */
+public final class EntityFactory {
+
+    private static final float WILD_ICMON_SPEED = 0.4f * PLAYER_SPEED_RUN;
+
+    private EntityFactory() {}
+
+    /**
+     * Monde avec les systèmes du jeu, dans l'ordre : reflet du joueur, patrouille,
+     * physique, animation, collisions entre entités ; puis rendu des sprites
+     * @param tiles Carte des collisions du niveau
+     * @param player Joueur à refléter (null pour un monde sans joueur)
+     */
+    public static EcsWorld createWorld(TileClassMap tiles, Player player) {
+        EcsWorld world = new EcsWorld();
+        if (player != null) {
+            world.addSystem(new PlayerMirrorSystem(player));
+        }
+        world.addSystem(new PatrolSystem());
+        world.addSystem(new PhysicsSystem(tiles));
+        world.addSystem(new AnimationSystem());
+        world.setCollisionSystem(new CollisionSystem(EntityFactory::onCollision));
+        world.addRenderSystem(new SpriteRenderSystem());
+        if (player != null) {
+            world.create(Components.PLAYER_MIRROR);
+        }
+        return world;
+    }
+
+    /**
+     * Fait apparaître un ICMon sauvage qui patrouille
+     * @param world Monde ECS
+     * @param x Position X (pixels)
+     * @param y Position Y (pixels)
+     * @param spriteFile Fichier du sprite dans le dossier des ICMons (chargé une fois par monde)
+     * @return L'entité créée
+     */
+    public static int spawnWildIcmon(EcsWorld world, float x, float y, String spriteFile) {
+        int spriteId = world.getOrRegisterSprite(spriteFile,
+            () -> new BufferedImage[] {LoadSave.GetICMonSprite(spriteFile)});
+        int entity = world.create(Components.WALKER);
+        world.setPosition(entity, x, y);
+        world.setBounds(entity, TILES_SIZE, TILES_SIZE);
+        world.setSprite(entity, spriteId);
+        world.setPatrolSpeed(entity, WILD_ICMON_SPEED);
+        return entity;
+    }
+
+    /**
+     * Contacts du jeu : deux entités qui patrouillent font demi-tour l'une devant l'autre
+     */
+    private static void onCollision(EcsWorld world, int a, int b) {
+        Archetype archetypeA = world.archetypeOf(a);
+        Archetype archetypeB = world.archetypeOf(b);
+        if (archetypeA.has(Components.PATROL) && archetypeB.has(Components.PATROL)) {
+            float ax = world.getX(a);
+            float bx = world.getX(b);
+            turnAwayFrom(archetypeA, world.rowOf(a), bx - ax);
+            turnAwayFrom(archetypeB, world.rowOf(b), ax - bx);
+        }
+    }
+
+    /**
+     * Fait demi-tour si l'entité avance vers l'obstacle (pas de demi-tours répétés
+     * tant que les boîtes se recouvrent)
+     */
+    private static void turnAwayFrom(Archetype archetype, int row, float towardObstacle) {
+        float speed = archetype.patrolSpeed[row];
+        if (speed * towardObstacle > 0) {
+            archetype.patrolSpeed[row] = -speed;
+            archetype.vx[row] = -speed;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ecs;
+
+/**
+ * Patrouille : marche à vitesse constante et fait demi-tour contre un mur
+ * S'exécute avant PhysicsSystem (lit le drapeau BLOCKED_X de l'update précédent)
+ *
+ * @author Lounol72
+ */
+public class PatrolSystem implements EcsSystem {
+
+    @Override
+    public int getRequiredMask() {
+        return Components.VELOCITY | Components.PATROL;
+    }
+
+    @Override
+    public void update(EcsWorld world, Archetype a) {
+        float[] vx = a.vx, speed = a.patrolSpeed;
+        byte[] flags = a.flags;
+        for (int i = 0, n = a.size(); i < n; i++) {
+            if ((flags[i] & Archetype.BLOCKED_X) != 0) {
+                speed[i] = -speed[i];
+            }
+            vx[i] = speed[i];
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ecs;
+
+import levels.TileClassMap;
+import static utilz.Constants.PLAYER.GRAVITY;
+import static utilz.Constants.PLAYER.MAX_FALL_SPEED;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Physique simplifiée des entités ECS : gravité, déplacement et collisions avec les tiles
+ *
+ * FONCTIONNEMENT:
+ * - Déplacement axe par axe (X puis Y) contre la TileClassMap du niveau
+ * - Un mur bloque le déplacement horizontal (drapeau BLOCKED_X pour les patrouilles)
+ * - En chute, les tiles solides et one-way arrêtent l'entité (drapeau ON_GROUND) ;
+ *   une plateforme one-way n'est franchie que par le bas
+ *
+ * Le Player garde sa physique complète (PhysicsService) ; ce système sert aux
+ * ennemis, ICMons sauvages et projectiles, pour quelques lectures de tableau par entité.
+ *
+ * @author Lounol72
+ */
+public class PhysicsSystem implements EcsSystem {
+
+    private TileClassMap tiles;
+
+    public PhysicsSystem(TileClassMap tiles) {
+        this.tiles = tiles;
+    }
+
+    public void setTiles(TileClassMap tiles) {
+        this.tiles = tiles;
+    }
+
+    @Override
+    public int getRequiredMask() {
+        return Components.BODY;
+    }
+
+    @Override
+    public void update(EcsWorld world, Archetype a) {
+        boolean gravity = a.has(Components.GRAVITY);
+        float[] x = a.x, y = a.y, vx = a.vx, vy = a.vy, w = a.w, h = a.h;
+        byte[] flags = a.flags;
+        for (int i = 0, n = a.size(); i < n; i++) {
+            byte state = 0;
+            if (gravity) {
+                vy[i] = Math.min(vy[i] + GRAVITY, MAX_FALL_SPEED);
+            }
+
+            // === AXE X === (colonnes franchies par le bord avant)
+            if (vx[i] != 0) {
+                float nextX = x[i] + vx[i];
+                int top = tileOf(y[i]);
+                int bottom = lastTileOf(y[i] + h[i]);
+                if (vx[i] > 0) {
+                    for (int c = firstTileAtOrAfter(x[i] + w[i]); c * TILES_SIZE < nextX + w[i]; c++) {
+                        if (isWall(c, top, bottom)) {
+                            nextX = c * TILES_SIZE - w[i];
+                            vx[i] = 0;
+                            state |= Archetype.BLOCKED_X;
+                            break;
+                        }
+                    }
+                } else {
+                    for (int c = firstTileAtOrAfter(x[i]) - 1; (c + 1) * TILES_SIZE > nextX; c--) {
+                        if (isWall(c, top, bottom)) {
+                            nextX = (c + 1) * TILES_SIZE;
+                            vx[i] = 0;
+                            state |= Archetype.BLOCKED_X;
+                            break;
+                        }
+                    }
+                }
+                x[i] = nextX;
+            }
+
+            // === AXE Y === (lignes franchies par le bord avant)
+            if (vy[i] != 0) {
+                float nextY = y[i] + vy[i];
+                int left = tileOf(x[i]);
+                int right = lastTileOf(x[i] + w[i]);
+                if (vy[i] > 0) {
+                    for (int r = firstTileAtOrAfter(y[i] + h[i]); r * TILES_SIZE < nextY + h[i]; r++) {
+                        if (isFloor(r, left, right)) {
+                            nextY = r * TILES_SIZE - h[i];
+                            vy[i] = 0;
+                            state |= Archetype.ON_GROUND;
+                            break;
+                        }
+                    }
+                } else {
+                    for (int r = firstTileAtOrAfter(y[i]) - 1; (r + 1) * TILES_SIZE > nextY; r--) {
+                        if (r < 0 || tiles.anyInRange(left, r, right, r, TileClassMap.SOLID)) {
+                            nextY = (r + 1) * TILES_SIZE;
+                            vy[i] = 0;
+                            break;
+                        }
+                    }
+                }
+                y[i] = nextY;
+            }
+            flags[i] = state;
+        }
+    }
+
+    /**
+     * Colonne pleine (un bord du niveau compte comme un mur)
+     */
+    private boolean isWall(int column, int top, int bottom) {
+        return column < 0 || column >= tiles.getWidth()
+            || tiles.anyInRange(column, top, column, bottom, TileClassMap.SOLID);
+    }
+
+    /**
+     * Ligne sur laquelle on peut atterrir (solide, one-way, ou bas du niveau)
+     */
+    private boolean isFloor(int row, int left, int right) {
+        return row >= tiles.getHeight()
+            || tiles.anyInRange(left, row, right, row, TileClassMap.SOLID)
+            || tiles.anyInRange(left, row, right, row, TileClassMap.ONE_WAY);
+    }
+
+    /**
+     * Tile contenant le pixel
+     */
+    private static int tileOf(float pixel) {
+        return (int) Math.floor(pixel / TILES_SIZE);
+    }
+
+    /**
+     * Dernière tile touchée par un segment se terminant (exclu) en end
+     */
+    private static int lastTileOf(float end) {
+        return (int) Math.ceil(end / TILES_SIZE) - 1;
+    }
+
+    /**
+     * Première tile dont le bord de départ est en pos ou après
+     */
+    private static int firstTileAtOrAfter(float pos) {
+        return (int) Math.ceil(pos / TILES_SIZE);
+    }
+}
@@ -0,0 +1,40 @@
+package ecs;
+
+// Java standard library imports
+import java.awt.geom.Rectangle2D;
+
+import entities.Player;
+
+/**
+ * Reflète le Player dans l'ECS : sa hitbox est recopiée dans les colonnes
+ * POSITION et BOUNDS de l'entité PLAYER à chaque update
+ *
+ * Le Player garde sa logique (états, PhysicsService, AnimationService) ; les autres
+ * systèmes (collisions, IA, caméra) le voient comme une entité parmi les autres.
+ *
+ * @author Lounol72
+ */
+public class PlayerMirrorSystem implements EcsSystem {
+
+    private final Player player;
+
+    public PlayerMirrorSystem(Player player) {
+        this.player = player;
+    }
+
+    @Override
+    public int getRequiredMask() {
+        return Components.PLAYER_MIRROR;
+    }
+
+    @Override
+    public void update(EcsWorld world, Archetype a) {
+        Rectangle2D.Float hitbox = player.getHitbox();
+        for (int i = 0, n = a.size(); i < n; i++) {
+            a.x[i] = hitbox.x;
+            a.y[i] = hitbox.y;
+            a.w[i] = hitbox.width;
+            a.h[i] = hitbox.height;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ecs;
+
+// Java standard library imports
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import static utilz.Constants.WORLD.GAME_HEIGHT;
+import static utilz.Constants.WORLD.GAME_WIDTH;
+
+/**
+ * Rendu des sprites ECS dans leur boîte, avec la caméra du monde
+ * Les entités hors de l'écran ne sont pas dessinées ; un sprite marchant vers
+ * la gauche est retourné horizontalement
+ *
+ * @author Lounol72
+ */
+public class SpriteRenderSystem implements EcsSystem {
+
+    @Override
+    public int getRequiredMask() {
+        return Components.POSITION | Components.BOUNDS | Components.SPRITE;
+    }
+
+    @Override
+    public void update(EcsWorld world, Archetype a) {
+        Graphics g = world.getRenderGraphics();
+        int xOffset = world.getRenderOffsetX();
+        int yOffset = world.getRenderOffsetY();
+        boolean moving = a.has(Components.VELOCITY);
+        for (int i = 0, n = a.size(); i < n; i++) {
+            int dx = (int) a.x[i] - xOffset;
+            int dy = (int) a.y[i] - yOffset;
+            int dw = (int) a.w[i];
+            int dh = (int) a.h[i];
+            if (dx + dw < 0 || dy + dh < 0 || dx > GAME_WIDTH || dy > GAME_HEIGHT) {
+                continue;
+            }
+            BufferedImage image = world.getSpriteFrames(a.sprite[i])[a.frame[i]];
+            if (moving && a.vx[i] < 0) {
+                g.drawImage(image, dx + dw, dy, -dw, dh, null);
+            } else {
+                g.drawImage(image, dx, dy, dw, dh, null);
+            }
+        }
+    }
+}
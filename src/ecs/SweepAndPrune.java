@@ -0,0 +1,213 @@
+package ecs;
+
+// Java standard library imports
+import java.util.Arrays;
+
+/**
+ * Phase large des collisions entre entités : tri et balayage sur l'axe X
+ *
+ * FONCTIONNEMENT:
+ * - Les entités ayant POSITION et BOUNDS sont gardées dans un ordre trié par bord
+ *   gauche, conservé d'une frame à l'autre
+ * - Les entités bougent peu entre deux frames : l'ordre précédent est presque trié
+ *   et un tri par insertion le remet en ordre en O(n) (O(n²) seulement au premier
+ *   remplissage ou après une téléportation massive)
+ * - Le balayage ne compare une entité qu'aux suivantes dont le bord gauche est avant
+ *   son bord droit : les paires candidates sont celles qui se recouvrent en X
+ *
+ * Les paires produites (getPairA / getPairB) sont à confirmer par une phase étroite
+ * (voir CollisionSystem).
+ *
+ * @author Lounol72
+ */
+public final class SweepAndPrune {
+
+    public static final int REQUIRED_MASK = Components.POSITION | Components.BOUNDS;
+
+    // === ORDRE PERSISTANT ===
+    private int[] order = new int[64];  // Entités triées par bord gauche
+    private float[] keys = new float[64]; // Bord gauche de order[i]
+    private int count;
+
+    // === DONNÉES PAR SLOT D'ENTITÉ ===
+    private int[] trackedEntity = new int[64]; // Entité suivie dans ce slot (NO_ENTITY sinon)
+    private int[] seenFrame = new int[64];     // Dernière frame où le slot a été vu
+    private float[] minX = new float[64];
+    private float[] maxX = new float[64];
+    private int frame;
+
+    // === PAIRES CANDIDATES ===
+    private int[] pairA = new int[64];
+    private int[] pairB = new int[64];
+    private int pairCount;
+
+    // Statistique du dernier tri
+    private int lastSwaps;
+
+    public SweepAndPrune() {
+        Arrays.fill(trackedEntity, EcsWorld.NO_ENTITY);
+    }
+
+    /**
+     * Met à jour l'ordre et calcule les paires candidates de la frame
+     * @param world Monde ECS (positions après la physique)
+     */
+    public void update(EcsWorld world) {
+        frame++;
+        collect(world);
+        compact();
+        sort();
+        sweep();
+    }
+
+    /**
+     * Relève les boîtes de la frame et ajoute les nouvelles entités à la fin de l'ordre
+     */
+    private void collect(EcsWorld world) {
+        for (Archetype a : world.query(REQUIRED_MASK)) {
+            float[] x = a.x, w = a.w;
+            for (int row = 0, n = a.size(); row < n; row++) {
+                int entity = a.entityAt(row);
+                int slot = EcsWorld.slotOf(entity);
+                ensureSlot(slot);
+                minX[slot] = x[row];
+                maxX[slot] = x[row] + w[row];
+                seenFrame[slot] = frame;
+                if (trackedEntity[slot] != entity) {
+                    // Nouvelle entité (ou slot réutilisé : l'ancienne sera retirée par compact)
+                    if (trackedEntity[slot] != EcsWorld.NO_ENTITY) {
+                        removeFromOrder(trackedEntity[slot]);
+                    }
+                    trackedEntity[slot] = entity;
+                    append(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retire de l'ordre les entités disparues, sans changer l'ordre des autres
+     */
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int entity = order[i];
+            int slot = EcsWorld.slotOf(entity);
+            if (seenFrame[slot] == frame && trackedEntity[slot] == entity) {
+                order[kept] = entity;
+                keys[kept] = minX[slot];
+                kept++;
+            } else if (trackedEntity[slot] == entity) {
+                trackedEntity[slot] = EcsWorld.NO_ENTITY;
+            }
+        }
+        count = kept;
+    }
+
+    /**
+     * Tri par insertion sur le bord gauche (quasi linéaire sur un ordre presque trié)
+     */
+    private void sort() {
+        int swaps = 0;
+        for (int i = 1; i < count; i++) {
+            float key = keys[i];
+            int entity = order[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+                swaps++;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = entity;
+        }
+        lastSwaps = swaps;
+    }
+
+    /**
+     * Balayage : paires dont les intervalles X se recouvrent
+     */
+    private void sweep() {
+        pairCount = 0;
+        for (int i = 0; i < count; i++) {
+            float right = maxX[EcsWorld.slotOf(order[i])];
+            for (int j = i + 1; j < count && keys[j] < right; j++) {
+                addPair(order[i], order[j]);
+            }
+        }
+    }
+
+    // === RÉSULTATS ===
+
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    public int getPairA(int index) {
+        return pairA[index];
+    }
+
+    public int getPairB(int index) {
+        return pairB[index];
+    }
+
+    /**
+     * Nombre d'entités suivies
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Nombre d'échanges du dernier tri (proche de 0 quand l'ordre est stable)
+     */
+    public int getLastSwapCount() {
+        return lastSwaps;
+    }
+
+    // === INTERNE ===
+
+    private void append(int entity) {
+        if (count == order.length) {
+            order = Arrays.copyOf(order, count * 2);
+            keys = Arrays.copyOf(keys, count * 2);
+        }
+        order[count++] = entity;
+    }
+
+    /**
+     * Cas rare (slot réutilisé dans la même frame que la destruction) : retrait direct
+     */
+    private void removeFromOrder(int entity) {
+        for (int i = 0; i < count; i++) {
+            if (order[i] == entity) {
+                System.arraycopy(order, i + 1, order, i, count - i - 1);
+                count--;
+                return;
+            }
+        }
+    }
+
+    private void addPair(int a, int b) {
+        if (pairCount == pairA.length) {
+            pairA = Arrays.copyOf(pairA, pairCount * 2);
+            pairB = Arrays.copyOf(pairB, pairCount * 2);
+        }
+        pairA[pairCount] = a;
+        pairB[pairCount] = b;
+        pairCount++;
+    }
+
+    private void ensureSlot(int slot) {
+        if (slot >= trackedEntity.length) {
+            int capacity = Math.max(slot + 1, trackedEntity.length * 2);
+            int previous = trackedEntity.length;
+            trackedEntity = Arrays.copyOf(trackedEntity, capacity);
+            Arrays.fill(trackedEntity, previous, capacity, EcsWorld.NO_ENTITY);
+            seenFrame = Arrays.copyOf(seenFrame, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+        }
+    }
+}
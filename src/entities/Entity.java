@@ -57,6 +57,14 @@ public abstract class Entity {
         this.y = hitbox.y;
     }
 
+    /**
+     * Fin de vie de l'entité : rend ses objets de réserve (forces du PhysicsBody)
+     * L'entité ne doit plus être mise à jour ensuite
+     */
+    public void dispose() {
+        physicsBody.clearForces();
+    }
+
     public Rectangle2D.Float getHitbox() {
         return hitbox;
     }
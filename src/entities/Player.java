@@ -8,6 +8,10 @@ import java.awt.image.BufferedImage;
 import static entities.PlayerStateEnum.IDLE;
 import static entities.PlayerStateEnum.JUMP;
 import static entities.PlayerStateEnum.RUN;
+import events.AttackEvent;
+import events.EventBus;
+import events.LandingEvent;
+import levels.TileClassMap;
 import physics.ForceType;
 import physics.Vector2D;
 import static utilz.Constants.PLAYER.ACCELERATION;
@@ -79,6 +83,9 @@ public class Player extends Entity {
     // ================================
     private int playerAction = IDLE.ordinal();
     private int direction = 1;
+
+    // Effets visuels des événements du joueur (null : aucun effet)
+    private EventBus events; // Atterrissages et attaques (particules, sons...), livrés en fin d'update
     private boolean moving = false;
     private boolean inAir = false;
 
@@ -299,7 +306,7 @@ public class Player extends Entity {
         // Vérifier si le joueur est debout sur une plateforme one-way
         if (down && !inAir && dropThroughGraceFrames == 0) {
             // Créer une hitbox de test légèrement en dessous pour détecter la plateforme
-            Rectangle2D.Float groundCheckHitbox = new Rectangle2D.Float(
+            Rectangle2D.Float groundCheckHitbox = HelpMethods.ObtainHitbox(
                 hitbox.x, 
                 hitbox.y + hitbox.height + 1, 
                 hitbox.width, 
@@ -307,7 +314,13 @@ public class Player extends Entity {
             );
             
             // Vérifier s'il y a une plateforme one-way sous les pieds
-            if (HelpMethods.checkOneWayPlatformCollision(groundCheckHitbox, currentLevel, physicsBody.getVelocity(), false)) {
+            boolean onOneWay;
+            try {
+                onOneWay = HelpMethods.checkOneWayPlatformCollision(groundCheckHitbox, currentLevel, physicsBody.getVelocity(), false);
+            } finally {
+                HelpMethods.FreeHitbox(groundCheckHitbox);
+            }
+            if (onOneWay) {
                 // DROP-THROUGH DÉTECTÉ → Forcer le passage à travers
                 PhysicsDebugger.logPhysicsState("DROP THROUGH ONE-WAY", inAir, isJumping, physicsBody.getVelocity());
                 
@@ -348,8 +361,7 @@ public class Player extends Entity {
             }
             
             // Application de la force de gravité
-            Vector2D gravityForce = new Vector2D(0, GRAVITY * gravityMultiplier);
-            physicsBody.replaceForceOfType(gravityForce, ForceType.GRAVITY);
+            physicsBody.replaceForceOfType(0, GRAVITY * gravityMultiplier, ForceType.GRAVITY);
             
             // Debug: Logger la force appliquée
             PhysicsDebugger.logForceApplied("GRAVITY", 0, GRAVITY * gravityMultiplier);
@@ -397,7 +409,7 @@ public class Player extends Entity {
         }
         
         // AMÉLIORATION : Utilise replaceForceOfType pour éviter l'accumulation
-        physicsBody.replaceForceOfType(new Vector2D(acceleration, 0), ForceType.INPUT);
+        physicsBody.replaceForceOfType(acceleration, 0, ForceType.INPUT);
     }
 
     /**
@@ -577,7 +589,7 @@ public class Player extends Entity {
             float currentY = hitbox.y + velocity.y * progress;
             
             // Créer une hitbox de test pour cette position intermédiaire
-            Rectangle2D.Float testHitbox = new Rectangle2D.Float(
+            Rectangle2D.Float testHitbox = HelpMethods.ObtainHitbox(
                 currentX,
                 currentY,
                 hitbox.width,
@@ -585,12 +597,17 @@ public class Player extends Entity {
             );
             
             // Vérifier s'il y a une plateforme one-way qui bloque à cette position
-            Rectangle2D.Float blockingPlatform = HelpMethods.getBlockingOneWayPlatform(
-                testHitbox, 
-                currentLevel, 
-                velocity, 
-                down
-            );
+            Rectangle2D.Float blockingPlatform;
+            try {
+                blockingPlatform = HelpMethods.getBlockingOneWayPlatform(
+                    testHitbox, 
+                    currentLevel, 
+                    velocity, 
+                    down
+                );
+            } finally {
+                HelpMethods.FreeHitbox(testHitbox);
+            }
             
             if (blockingPlatform != null) {
                 return blockingPlatform;
@@ -625,7 +642,7 @@ public class Player extends Entity {
      */
     private void cleanupAndSync() {
         updatePhysicsFromHitbox();
-        physicsBody.getForces().removeIf(force -> !force.update());
+        physicsBody.updateForces();
     }
 
     /**
@@ -727,31 +744,33 @@ public class Player extends Entity {
         PhysicsDebugger.logJump(JUMP_FORCE, physicsBody.getVelocity().y);
         
         // APPLICATION DE LA FORCE DE SAUT
-        physicsBody.addForce(
-            new Vector2D(0, JUMP_FORCE), 
-            ForceType.JUMP, 
-            JUMP_MAX_TIME
-        );
+        physicsBody.addForce(0, JUMP_FORCE, ForceType.JUMP, JUMP_MAX_TIME);
     }
 
     /**
      * Vérifie s'il y a une collision avec le plafond
      */
     private boolean checkCeilingCollision() {
-        Rectangle2D.Float ceilingCheckHitbox = new Rectangle2D.Float(
+        Rectangle2D.Float ceilingCheckHitbox = HelpMethods.ObtainHitbox(
             hitbox.x, 
             hitbox.y,
             hitbox.width, 
             1
         );
         
-        for (Rectangle2D.Float collisionRect : currentLevel.getSolidCollisions()) {
-            if (ceilingCheckHitbox.intersects(collisionRect)) {
-                return true;
+        boolean blocked = false;
+        try {
+            for (Rectangle2D.Float collisionRect : currentLevel.getSolidCollisions()) {
+                if (ceilingCheckHitbox.intersects(collisionRect)) {
+                    blocked = true;
+                    break;
+                }
             }
+        } finally {
+            HelpMethods.FreeHitbox(ceilingCheckHitbox);
         }
         
-        return false;
+        return blocked;
     }
 
     /**
@@ -769,6 +788,10 @@ public class Player extends Entity {
      * Remet le joueur au sol
      */
     private void resetInAir() {
+        if (inAir && events != null) {
+            events.post(events.obtain(LandingEvent.TYPE)
+                .set(hitbox.x + hitbox.width / 2, hitbox.y + hitbox.height, physicsBody.getVelocity().y));
+        }
         inAir = false;
         isJumping = false;
         coyoteTimeCounter = COYOTE_TIME_FRAMES;
@@ -879,6 +902,11 @@ public class Player extends Entity {
         
         // Reset de l'animation pour recommencer l'attaque
         animManager.reset();
+
+        if (events != null) {
+            float frontX = direction > 0 ? hitbox.x + hitbox.width : hitbox.x;
+            events.post(events.obtain(AttackEvent.TYPE).set(frontX, hitbox.y + hitbox.height / 2, direction));
+        }
         
         // Debug: Logger le début de l'attaque
         System.out.println("Starting attack animation - non-interruptible");
@@ -1017,7 +1045,10 @@ public class Player extends Entity {
     @Deprecated
     public void loadLvlData(int[][] lvlData) {
         this.levelData = lvlData;
-        if (!IsEntityOnFloor(hitbox, lvlData, physicsBody.getVelocity())) {
+        // Carte du niveau courant si c'est la même matrice, sinon carte construite une fois ici
+        TileClassMap tiles = currentLevel != null && currentLevel.getLevelData() == lvlData
+            ? currentLevel.getTileClasses() : new TileClassMap(lvlData);
+        if (!IsEntityOnFloor(hitbox, tiles, physicsBody.getVelocity())) {
             inAir = true;
         }
     }
@@ -1066,6 +1097,8 @@ public class Player extends Entity {
     // ================================
     
     public boolean isLeft() { return left; }
+    public void setEvents(EventBus events) { this.events = events; }
+
     public void setLeft(boolean left) { this.left = left; }
 
     public boolean isUp() { return up; }
@@ -1079,6 +1112,8 @@ public class Player extends Entity {
 
     public void setJump(boolean jump) { this.jump = jump; }
 
+    public boolean isInAir() { return inAir; }
+
     public boolean isAttack() {
         return attack;
     }
@@ -0,0 +1,33 @@
+package events;
+
+/**
+ * Le joueur commence une attaque
+ *
+ * @author Lounol72
+ */
+public final class AttackEvent extends GameEvent {
+
+    public static final EventType<AttackEvent> TYPE = new EventType<>("attack", AttackEvent::new);
+
+    public float x;         // Bord avant de la hitbox (pixels du niveau)
+    public float y;         // Milieu de la hitbox
+    public int direction;   // 1 vers la droite, -1 vers la gauche
+
+    public AttackEvent set(float x, float y, int direction) {
+        this.x = x;
+        this.y = y;
+        this.direction = direction;
+        return this;
+    }
+
+    @Override
+    public EventType<AttackEvent> getType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void reset() {
+        x = y = 0;
+        direction = 0;
+    }
+}
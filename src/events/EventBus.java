@@ -0,0 +1,196 @@
+package events;
+
+// Java standard library imports
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bus d'événements de jeu typé (atterrissage, attaque, changement d'état, langue...)
+ *
+ * FONCTIONNEMENT:
+ * - Un tableau d'abonnés par type d'événement, indexé par EventType.getId() :
+ *   publier parcourt un tableau, sans verrou, sans itérateur ni allocation
+ * - Les abonnements remplacent le tableau par une copie (copie à l'écriture) : un
+ *   abonnement pendant une publication ne change pas la liste en cours de parcours,
+ *   et les tableaux publiés sont lus sans verrou depuis n'importe quel thread
+ * - publish() livre tout de suite un événement dont l'appelant reste propriétaire
+ *   (une instance réutilisée par l'émetteur) ; il peut être appelé depuis n'importe
+ *   quel thread (ex: changement de langue depuis un clic souris), les compteurs de
+ *   publication sont atomiques
+ * - post() met en file un événement obtenu par obtain() ; flush() livre la file en
+ *   fin d'update puis rend les événements à la réserve de leur type
+ *
+ * post(), obtain() et flush() s'appellent depuis la boucle de jeu uniquement.
+ *
+ * @author Lounol72
+ */
+public final class EventBus {
+
+    /**
+     * Abonné à un type d'événement
+     * @param <E> Classe de l'événement
+     */
+    @FunctionalInterface
+    public interface Listener<E extends GameEvent> {
+        void onEvent(E event);
+    }
+
+    private static final Listener<?>[] NO_LISTENERS = new Listener<?>[0];
+
+    // Abonnés par type (remplacés par copie, jamais modifiés sur place)
+    private volatile Listener<?>[][] listeners = new Listener<?>[8][];
+
+    // File des événements différés
+    private GameEvent[] queue = new GameEvent[64];
+    private int queued;
+
+    // === STATISTIQUES (par type) ===
+    // Compteurs partagés entre les copies du tableau : un agrandissement ne perd aucun incrément
+    private volatile AtomicLong[] published = newCounters(new AtomicLong[0], 8);
+
+    // === ABONNEMENTS ===
+
+    public synchronized <E extends GameEvent> void subscribe(EventType<E> type, Listener<? super E> listener) {
+        Listener<?>[][] all = ensureType(type.getId());
+        Listener<?>[] current = all[type.getId()] == null ? NO_LISTENERS : all[type.getId()];
+        Listener<?>[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = listener;
+        all[type.getId()] = grown;
+        listeners = all;
+        if (type.getId() >= published.length) {
+            published = newCounters(published, all.length);
+        }
+    }
+
+    public synchronized <E extends GameEvent> void unsubscribe(EventType<E> type, Listener<? super E> listener) {
+        Listener<?>[][] all = listeners;
+        if (type.getId() >= all.length || all[type.getId()] == null) {
+            return;
+        }
+        Listener<?>[] current = all[type.getId()];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                Listener<?>[] shrunk = new Listener<?>[current.length - 1];
+                System.arraycopy(current, 0, shrunk, 0, i);
+                System.arraycopy(current, i + 1, shrunk, i, current.length - i - 1);
+                all = all.clone();
+                all[type.getId()] = shrunk;
+                listeners = all;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copie de la table des abonnés assez grande pour le type
+     */
+    private Listener<?>[][] ensureType(int id) {
+        Listener<?>[][] all = listeners;
+        return Arrays.copyOf(all, Math.max(all.length, id + 1));
+    }
+
+    // === PUBLICATION ===
+
+    /**
+     * Livre un événement immédiatement à tous les abonnés de son type
+     * L'appelant reste propriétaire de l'instance (réutilisable dès le retour)
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(GameEvent event) {
+        int id = event.getType().getId();
+        Listener<?>[][] all = listeners;
+        countPublished(id);
+        if (id >= all.length || all[id] == null) {
+            return;
+        }
+        for (Listener<?> listener : all[id]) {
+            try {
+                ((Listener<GameEvent>) listener).onEvent(event);
+            } catch (RuntimeException e) {
+                System.err.println("Erreur dans un abonné à l'événement " + event.getType());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Événement vide de la réserve de son type, à remplir puis passer à post()
+     */
+    public <E extends GameEvent> E obtain(EventType<E> type) {
+        return type.pool.obtain();
+    }
+
+    /**
+     * Met en file un événement obtenu par obtain() : livré au prochain flush()
+     * (ne plus utiliser l'instance ensuite)
+     */
+    public void post(GameEvent event) {
+        if (queued == queue.length) {
+            queue = Arrays.copyOf(queue, queued * 2);
+        }
+        queue[queued++] = event;
+    }
+
+    /**
+     * Livre les événements en file (y compris ceux postés pendant la livraison)
+     * et les rend à leur réserve
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void flush() {
+        for (int i = 0; i < queued; i++) {
+            GameEvent event = queue[i];
+            queue[i] = null;
+            publish(event);
+            ((EventType) event.getType()).pool.free(event);
+        }
+        queued = 0;
+    }
+
+    // === STATISTIQUES ===
+
+    private void countPublished(int id) {
+        AtomicLong[] counters = published;
+        if (id >= counters.length) {
+            counters = growCounters(id);
+        }
+        counters[id].incrementAndGet();
+    }
+
+    /**
+     * Agrandit les compteurs pour un type publié sans abonné (rare : une fois par type)
+     */
+    private synchronized AtomicLong[] growCounters(int id) {
+        if (id >= published.length) {
+            published = newCounters(published, Math.max(published.length * 2, id + 1));
+        }
+        return published;
+    }
+
+    /**
+     * Copie des compteurs existants (mêmes instances) complétée de compteurs neufs
+     */
+    private static AtomicLong[] newCounters(AtomicLong[] current, int length) {
+        AtomicLong[] counters = Arrays.copyOf(current, length);
+        for (int i = current.length; i < length; i++) {
+            counters[i] = new AtomicLong();
+        }
+        return counters;
+    }
+
+    /**
+     * Nombre d'événements publiés d'un type (immédiats et différés)
+     */
+    public long getPublishedCount(EventType<?> type) {
+        AtomicLong[] counters = published;
+        return type.getId() < counters.length ? counters[type.getId()].get() : 0;
+    }
+
+    public int getListenerCount(EventType<?> type) {
+        Listener<?>[][] all = listeners;
+        return type.getId() < all.length && all[type.getId()] != null ? all[type.getId()].length : 0;
+    }
+
+    public int getQueuedCount() {
+        return queued;
+    }
+}
@@ -0,0 +1,47 @@
+package events;
+
+// Java standard library imports
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import utilz.ObjectPool;
+
+/**
+ * Type d'événement : index dense dans les tableaux d'abonnés de l'EventBus et
+ * réserve des instances utilisées en livraison différée
+ *
+ * @param <E> Classe de l'événement
+ * @author Lounol72
+ */
+public final class EventType<E extends GameEvent> {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final int POOL_SIZE = 64;
+
+    private final int id;
+    private final String name;
+    final ObjectPool<E> pool;
+
+    /**
+     * @param name Nom du type (statistiques, messages)
+     * @param factory Création d'une instance vide
+     */
+    public EventType(String name, Supplier<E> factory) {
+        this.id = NEXT_ID.getAndIncrement();
+        this.name = name;
+        this.pool = new ObjectPool<>("event:" + name, POOL_SIZE, factory, GameEvent::reset);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
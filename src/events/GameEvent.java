@@ -0,0 +1,22 @@
+package events;
+
+/**
+ * Événement de jeu réutilisable (données mutables, remises à zéro entre deux usages)
+ *
+ * Chaque sous-classe déclare son EventType en constante TYPE ; les instances de
+ * livraison différée viennent de la réserve du type (EventBus.obtain).
+ *
+ * @author Lounol72
+ */
+public abstract class GameEvent {
+
+    /**
+     * Type de l'événement (clé des abonnements)
+     */
+    public abstract EventType<?> getType();
+
+    /**
+     * Remet les champs à zéro avant le retour dans la réserve
+     */
+    protected abstract void reset();
+}
@@ -0,0 +1,32 @@
+package events;
+
+/**
+ * Le joueur touche le sol après avoir été en l'air
+ *
+ * @author Lounol72
+ */
+public final class LandingEvent extends GameEvent {
+
+    public static final EventType<LandingEvent> TYPE = new EventType<>("landing", LandingEvent::new);
+
+    public float centerX;     // Centre horizontal des pieds (pixels du niveau)
+    public float feetY;       // Ordonnée des pieds
+    public float fallSpeed;   // Vitesse verticale à l'impact (pixels par update)
+
+    public LandingEvent set(float centerX, float feetY, float fallSpeed) {
+        this.centerX = centerX;
+        this.feetY = feetY;
+        this.fallSpeed = fallSpeed;
+        return this;
+    }
+
+    @Override
+    public EventType<LandingEvent> getType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void reset() {
+        centerX = feetY = fallSpeed = 0;
+    }
+}
@@ -0,0 +1,19 @@
+package events;
+
+/**
+ * La langue a changé : les textes affichés doivent être rechargés
+ *
+ * @author Lounol72
+ */
+public final class LanguageChangedEvent extends GameEvent {
+
+    public static final EventType<LanguageChangedEvent> TYPE = new EventType<>("language-changed", LanguageChangedEvent::new);
+
+    @Override
+    public EventType<LanguageChangedEvent> getType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void reset() {}
+}
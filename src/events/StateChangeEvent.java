@@ -0,0 +1,32 @@
+package events;
+
+import states.GameState;
+
+/**
+ * Changement de GameState, signalé en fin d'update
+ *
+ * @author Lounol72
+ */
+public final class StateChangeEvent extends GameEvent {
+
+    public static final EventType<StateChangeEvent> TYPE = new EventType<>("state-change", StateChangeEvent::new);
+
+    public GameState from;
+    public GameState to;
+
+    public StateChangeEvent set(GameState from, GameState to) {
+        this.from = from;
+        this.to = to;
+        return this;
+    }
+
+    @Override
+    public EventType<StateChangeEvent> getType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void reset() {
+        from = to = null;
+    }
+}
@@ -0,0 +1,270 @@
+package game;
+
+// Java standard library imports
+import java.awt.geom.Rectangle2D;
+
+import static utilz.Constants.CAMERA.BOTTOM_BORDER;
+import static utilz.Constants.CAMERA.CHUNK_TILES;
+import static utilz.Constants.CAMERA.LEFT_BORDER;
+import static utilz.Constants.CAMERA.LOOK_AHEAD_MAX;
+import static utilz.Constants.CAMERA.LOOK_AHEAD_SMOOTHING;
+import static utilz.Constants.CAMERA.LOOK_AHEAD_UPDATES;
+import static utilz.Constants.CAMERA.RIGHT_BORDER;
+import static utilz.Constants.CAMERA.SMOOTHING;
+import static utilz.Constants.CAMERA.TOP_BORDER;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Caméra du monde : suit une cible avec zone morte, anticipation et lissage
+ *
+ * FONCTIONNEMENT:
+ * - La cible peut se déplacer librement dans une zone morte (bordures en fraction
+ *   de l'écran) ; au-delà, la position visée est décalée juste assez pour l'y ramener
+ * - Anticipation : la position visée est avancée dans le sens de la vitesse
+ *   horizontale (elle-même lissée pour ne pas sauter au demi-tour)
+ * - Lissage : la position réelle (flottante, sous-pixel) rejoint la position visée
+ *   d'une fraction SMOOTHING par update, puis est bornée au niveau
+ * - Le rendu utilise des décalages entiers arrondis ; getVersion() change seulement
+ *   quand ces décalages changent, si bien que les couches statiques et l'interface
+ *   peuvent sauter leur redessin tant que la vue ne bouge pas
+ * - Décalages, plages visibles et version sont publiés ensemble dans un View immuable :
+ *   le rendu lit getView() une fois par frame et obtient des valeurs d'un même update
+ *
+ * PLAGES VISIBLES:
+ * - Tiles visibles (bornes incluses) et tronçons de CHUNK_TILES x CHUNK_TILES tiles,
+ *   pour le tri des tiles à dessiner et les caches par tronçon
+ *
+ * Mise à jour depuis la boucle de jeu ; les décalages sont lus par le rendu.
+ *
+ * @author Lounol72
+ */
+public final class Camera {
+
+    private final int viewWidth;
+    private final int viewHeight;
+    private int levelWidth;
+    private int levelHeight;
+
+    // === POSITION (coin haut gauche de la vue, pixels du niveau) ===
+    private float x, y;
+    private float targetX, targetY;
+    private float lookAhead;
+
+    // === DÉCALAGES DE RENDU (instantané publié pour le thread de rendu) ===
+    private volatile View view = new View(0, 0, 0, 0, -1, -1, 0);
+    private boolean moved;
+
+    /**
+     * Vue publiée par un update : décalages de rendu, tiles visibles (bornes incluses) et version
+     */
+    public record View(int offsetX, int offsetY, int firstTileX, int firstTileY,
+                       int lastTileX, int lastTileY, int version) {
+
+        public int getFirstChunkX() {
+            return firstTileX / CHUNK_TILES;
+        }
+
+        public int getFirstChunkY() {
+            return firstTileY / CHUNK_TILES;
+        }
+
+        public int getLastChunkX() {
+            return lastTileX / CHUNK_TILES;
+        }
+
+        public int getLastChunkY() {
+            return lastTileY / CHUNK_TILES;
+        }
+    }
+
+    /**
+     * @param viewWidth Largeur de la vue (pixels)
+     * @param viewHeight Hauteur de la vue
+     * @param levelWidth Largeur du niveau (pixels)
+     * @param levelHeight Hauteur du niveau
+     */
+    public Camera(int viewWidth, int viewHeight, int levelWidth, int levelHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        setLevelBounds(levelWidth, levelHeight);
+    }
+
+    /**
+     * Change les dimensions du niveau (changement de niveau)
+     */
+    public void setLevelBounds(int levelWidth, int levelHeight) {
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+        x = clampX(x);
+        y = clampY(y);
+        publishOffsets();
+    }
+
+    // === SUIVI ===
+
+    /**
+     * Place la caméra directement sur la cible, sans lissage (apparition, téléportation)
+     */
+    public void snapTo(Rectangle2D.Float target) {
+        lookAhead = 0;
+        targetX = x = clampX(target.x + target.width / 2 - viewWidth / 2f);
+        targetY = y = clampY(target.y + target.height / 2 - viewHeight / 2f);
+        publishOffsets();
+    }
+
+    /**
+     * Avance la caméra d'un update vers la cible
+     * @param target Hitbox suivie
+     * @param velocityX Vitesse horizontale de la cible (pixels par update)
+     */
+    public void follow(Rectangle2D.Float target, float velocityX) {
+        // Zone morte : décalage minimal qui ramène la cible entre les bordures
+        float screenX = target.x - targetX;
+        float screenY = target.y - targetY;
+        if (screenX > RIGHT_BORDER * viewWidth) {
+            targetX += screenX - RIGHT_BORDER * viewWidth;
+        } else if (screenX < LEFT_BORDER * viewWidth) {
+            targetX += screenX - LEFT_BORDER * viewWidth;
+        }
+        if (screenY > BOTTOM_BORDER * viewHeight) {
+            targetY += screenY - BOTTOM_BORDER * viewHeight;
+        } else if (screenY < TOP_BORDER * viewHeight) {
+            targetY += screenY - TOP_BORDER * viewHeight;
+        }
+        targetX = clampX(targetX);
+        targetY = clampY(targetY);
+
+        // Anticipation dans le sens de la marche
+        float wanted = Math.max(-LOOK_AHEAD_MAX, Math.min(LOOK_AHEAD_MAX, velocityX * LOOK_AHEAD_UPDATES));
+        lookAhead += (wanted - lookAhead) * LOOK_AHEAD_SMOOTHING;
+
+        // Lissage sous-pixel
+        x = clampX(x + (targetX + lookAhead - x) * SMOOTHING);
+        y = clampY(y + (targetY - y) * SMOOTHING);
+        publishOffsets();
+    }
+
+    private void publishOffsets() {
+        int ox = Math.round(x), oy = Math.round(y);
+        View current = view;
+        moved = ox != current.offsetX() || oy != current.offsetY();
+        if (moved || current.lastTileX() != lastTile(ox, viewWidth, levelWidth)
+                || current.lastTileY() != lastTile(oy, viewHeight, levelHeight)) {
+            view = new View(ox, oy, Math.max(0, ox / TILES_SIZE), Math.max(0, oy / TILES_SIZE),
+                lastTile(ox, viewWidth, levelWidth), lastTile(oy, viewHeight, levelHeight),
+                moved ? current.version() + 1 : current.version());
+        }
+    }
+
+    /**
+     * Dernière tile visible (incluse) sur un axe
+     */
+    private static int lastTile(int offset, int viewSize, int levelSize) {
+        return Math.min(levelSize / TILES_SIZE - 1, (offset + viewSize - 1) / TILES_SIZE);
+    }
+
+    private float clampX(float value) {
+        return Math.max(0, Math.min(Math.max(0, levelWidth - viewWidth), value));
+    }
+
+    private float clampY(float value) {
+        return Math.max(0, Math.min(Math.max(0, levelHeight - viewHeight), value));
+    }
+
+    // === DÉCALAGES ===
+
+    /**
+     * Instantané cohérent des décalages et des plages visibles : à lire une seule fois
+     * par frame côté rendu, plutôt que d'enchaîner les accesseurs ci-dessous
+     */
+    public View getView() {
+        return view;
+    }
+
+    public int getOffsetX() {
+        return view.offsetX();
+    }
+
+    public int getOffsetY() {
+        return view.offsetY();
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Les décalages de rendu ont changé lors du dernier update
+     */
+    public boolean hasMoved() {
+        return moved;
+    }
+
+    /**
+     * Compteur incrémenté à chaque changement des décalages de rendu : un consommateur
+     * garde la version de son dernier dessin et ne redessine que si elle a changé
+     */
+    public int getVersion() {
+        return view.version();
+    }
+
+    // === PLAGES VISIBLES (chacune lue dans l'instantané courant) ===
+
+    public int getFirstTileX() {
+        return view.firstTileX();
+    }
+
+    public int getFirstTileY() {
+        return view.firstTileY();
+    }
+
+    /**
+     * Dernière colonne visible (incluse)
+     */
+    public int getLastTileX() {
+        return view.lastTileX();
+    }
+
+    /**
+     * Dernière ligne visible (incluse)
+     */
+    public int getLastTileY() {
+        return view.lastTileY();
+    }
+
+    public int getFirstChunkX() {
+        return view.getFirstChunkX();
+    }
+
+    public int getFirstChunkY() {
+        return view.getFirstChunkY();
+    }
+
+    public int getLastChunkX() {
+        return view.getLastChunkX();
+    }
+
+    public int getLastChunkY() {
+        return view.getLastChunkY();
+    }
+
+    /**
+     * Un rectangle (pixels du niveau) est au moins en partie visible
+     */
+    public boolean isVisible(float rx, float ry, float rw, float rh) {
+        View v = view;
+        return rx + rw > v.offsetX() && rx < v.offsetX() + viewWidth && ry + rh > v.offsetY() && ry < v.offsetY() + viewHeight;
+    }
+
+    public int getViewWidth() {
+        return viewWidth;
+    }
+
+    public int getViewHeight() {
+        return viewHeight;
+    }
+}
@@ -31,13 +31,39 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import events.EventBus;
+import events.LanguageChangedEvent;
+import events.StateChangeEvent;
+import save.AutosaveService;
+import save.SaveFileIO;
+import save.SaveGame;
+import save.SaveJson;
+
+import states.GameState;
 import static states.GameState.currentState;
 import states.Menu;
 import states.Settings;
 import states.Splash;
 import states.Start;
 import states.World;
+import ui.BitmapFont;
+import ui.FontCache;
+import ui.RetainedScreen;
+import utilz.AssetManager;
+import static utilz.Constants.DEBUG.POOL_LEAK_DETECTION;
+import static utilz.Constants.PATHS.SAVE_FILE;
+import static utilz.Constants.PATHS.SAVE_JSON_FILE;
+import static utilz.Constants.SAVE.AUTOSAVE_INTERVAL_UPDATES;
+import static utilz.Constants.SAVE.QUIT_FLUSH_TIMEOUT_MS;
+import static utilz.Constants.TIMERS.UPS;
+import utilz.ObjectPool;
+import utilz.TimerWheel;
 
 public class Game implements Runnable{
     // Composants principaux du jeu
@@ -47,44 +73,105 @@ public class Game implements Runnable{
 
     // Paramètres de performance
     private final int FPS_SET = 120;        // Images par seconde cible
-    private final int UPS_SET = 200;        // Mises à jour par seconde cible
+    private final int UPS_SET = UPS;        // Mises à jour par seconde cible
 
 
     private Menu menu;
     private World world;
     private Start start;
     private Settings settings;
-    private final ScreenFader fader = new ScreenFader();
+    private final TimerWheel timers = new TimerWheel(); // Minuteries du jeu, avancées à chaque update
+    private final ScreenFader fader = new ScreenFader(timers);
+    // Transition demandée depuis les entrées (thread AWT), démarrée au prochain update
+    private final AtomicReference<Transition> pendingTransition = new AtomicReference<>();
+    private final EventBus events = new EventBus();   // Événements de jeu, file différée livrée en fin d'update
+    private final LanguageChangedEvent languageChanged = new LanguageChangedEvent();
+    private GameState observedState = currentState;  // Dernier état signalé par StateChangeEvent
     private Splash splash;
     
     // FPS/UPS tracking
+    private static final BitmapFont DEBUG_FONT = BitmapFont.Get(FontCache.Get(Font.PLAIN, 14), Color.WHITE);
     private int currentFPS = 0;
     private int currentUPS = 0;
+    private volatile String fpsText = "FPS: 0 | UPS: 0"; // Reconstruit une fois par seconde
+    private static final Rectangle FPS_TEXT_BOUNDS = new Rectangle(0, 0, 240, 28);
+
+    // Rendu retenu des écrans d'interface (zone du panneau à repeindre)
+    private final Rectangle repaintRegion = new Rectangle();
+    private RetainedScreen shownScreen;
+    private boolean wasFading;
+
+    // Sauvegarde : partie en cours et écriture en arrière-plan
+    private SaveGame saveGame;
+    private final AutosaveService autosave = new AutosaveService(Path.of(SAVE_FILE));
+    private int updatesSinceAutosave = 0;
+
+    // Passe à true quand tous les états sont construits (le Splash attend ce signal)
+    private volatile boolean ready = false;
 
 
     /**
      * Constructeur qui initialise et démarre le jeu.
-     * Crée les composants nécessaires et lance la boucle de jeu.
+     * Lance le préchargement des images, affiche la fenêtre avec le Splash,
+     * puis construit les autres états pendant que la boucle de jeu tourne.
      */
     public Game() {
-        initClasses();
+        AssetManager.getInstance().preloadAll();
+        this.splash = new Splash(this);
+        events.subscribe(LanguageChangedEvent.TYPE, e -> splash.UpdateStrings());
+
         gamePanel = new GamePanel(this);
         gameWindow = new GameWindow(gamePanel);
         gamePanel.setFocusable(true);
         gamePanel.requestFocus();
 
         startGameLoop();
+        initClasses();
     }
 
     /**
      * Initialise les différents états du jeu.
+     * Les images sont fournies par les futures de l'AssetManager.
      */
     private void initClasses() {
         this.menu = new Menu(this);
         this.world = new World(this);
         this.start = new Start(this);
         this.settings = new Settings(this);
-        this.splash = new Splash(this);
+        // Abonnés au changement de langue, une fois les états entièrement construits
+        events.subscribe(LanguageChangedEvent.TYPE, e -> menu.UpdateStrings());
+        events.subscribe(LanguageChangedEvent.TYPE, e -> settings.UpdateStrings());
+        this.saveGame = loadSave();
+        ready = true;
+    }
+
+    /**
+     * Charge la sauvegarde binaire, ou importe l'ancienne sauvegarde JSON à défaut
+     * @return La partie chargée (vide si aucune sauvegarde n'est lisible)
+     */
+    private SaveGame loadSave() {
+        try {
+            if (Files.exists(Path.of(SAVE_FILE))) {
+                return SaveFileIO.read(Path.of(SAVE_FILE));
+            }
+            if (Files.exists(Path.of(SAVE_JSON_FILE))) {
+                return SaveJson.importFrom(Path.of(SAVE_JSON_FILE));
+            }
+        } catch (IOException e) {
+            System.err.println("Erreur lors du chargement de la sauvegarde");
+            e.printStackTrace();
+        }
+        return new SaveGame();
+    }
+
+    /**
+     * Demande une sauvegarde si la partie a changé (instantané seulement, l'écriture
+     * se fait sur le thread de l'AutosaveService)
+     */
+    private void autosaveIfNeeded() {
+        if (saveGame != null && saveGame.hasChanges()) {
+            autosave.requestSave(saveGame);
+        }
     }
 
     /**
@@ -100,6 +187,11 @@ public class Game implements Runnable{
      * Délègue la mise à jour à l'état approprié.
      */
     private void update() {
+        timers.advance();
+        Transition transition = pendingTransition.getAndSet(null);
+        if (transition != null) {
+            fader.start(transition.target(), 400, 400, transition.color());
+        }
         switch(currentState){
             case SPLASH -> {
                 splash.update();
@@ -121,12 +213,31 @@ public class Game implements Runnable{
             case INFOS -> {
             }
             case QUIT -> {
+                autosaveIfNeeded();
+                autosave.flush(QUIT_FLUSH_TIMEOUT_MS);
+                world.dispose();
+                if (POOL_LEAK_DETECTION) {
+                    ObjectPool.ReportLeaks();
+                    System.out.print(ObjectPool.StatsReport());
+                }
                 System.exit(0);
             }
             default -> {throw new IllegalStateException("État de jeu non géré"); }
         }
         // update fader last
         fader.update(this);
+
+        // Événements différés de l'update (dont le changement d'état éventuel)
+        if (currentState != observedState) {
+            events.post(events.obtain(StateChangeEvent.TYPE).set(observedState, currentState));
+            observedState = currentState;
+        }
+        events.flush();
+
+        if (++updatesSinceAutosave >= AUTOSAVE_INTERVAL_UPDATES) {
+            updatesSinceAutosave = 0;
+            autosaveIfNeeded();
+        }
     }
 
     /**
@@ -167,9 +278,7 @@ public class Game implements Runnable{
         // Draw FPS/UPS overlay if enabled
         if (utilz.Constants.DEBUG.RENDER_FPS_UPS) {
             Graphics2D g2d = (Graphics2D) g;
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
-            g2d.drawString("FPS: " + currentFPS + " | UPS: " + currentUPS, 10, 20);
+            DEBUG_FONT.draw(g2d, fpsText, 10, 20);
         }
     }
 
@@ -208,10 +317,11 @@ public class Game implements Runnable{
                 deltaU--;
             }
 
-            // Rendu à l'écran si nécessaire
+            // Rendu à l'écran si nécessaire (rien à repeindre pour un écran d'interface immobile)
             if (deltaF >= 1) {
-                gamePanel.repaint();
-                frames++;
+                if (requestRepaint()) {
+                    frames++;
+                }
                 deltaF--;
             }
 
@@ -220,22 +330,75 @@ public class Game implements Runnable{
                 lastCheck = System.currentTimeMillis();
                 currentFPS = frames;
                 currentUPS = updates;
+                fpsText = "FPS: " + currentFPS + " | UPS: " + currentUPS;
+                RetainedScreen screen = currentScreen();
+                if (screen != null && utilz.Constants.DEBUG.RENDER_FPS_UPS) {
+                    screen.invalidate(FPS_TEXT_BOUNDS);
+                }
                 frames = 0;
                 updates = 0;
             }
         }
     }
 
+    /**
+     * Demande le repeint du panneau : tout l'écran pour le monde et pendant un fondu,
+     * seulement la zone sale pour les écrans d'interface en rendu retenu
+     * @return false si rien n'a été demandé (écran immobile)
+     */
+    private boolean requestRepaint() {
+        RetainedScreen screen = currentScreen();
+        if (screen != shownScreen) {
+            // Entrée dans un autre état : son tampon peut dater d'une visite précédente
+            shownScreen = screen;
+            if (screen != null) {
+                screen.invalidate();
+            }
+        }
+        boolean fading = fader.isActive();
+        if (screen == null || fading || wasFading) {
+            // Un dernier repeint complet efface le voile du fondu
+            wasFading = fading;
+            gamePanel.repaint();
+            return true;
+        }
+        if (!screen.takeRepaintRegion(repaintRegion)) {
+            return false;
+        }
+        gamePanel.repaint(repaintRegion.x, repaintRegion.y, repaintRegion.width, repaintRegion.height);
+        return true;
+    }
+
+    /**
+     * Écran en rendu retenu de l'état courant, null pour le monde
+     */
+    private RetainedScreen currentScreen() {
+        return switch (currentState) {
+            case SPLASH -> splash.getScreen();
+            case START -> start == null ? null : start.getScreen();
+            case MENU -> menu == null ? null : menu.getScreen();
+            case SETTINGS -> settings == null ? null : settings.getScreen();
+            default -> null;
+        };
+    }
+
+    /**
+     * Indique si tous les états du jeu sont construits
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
     public Menu getMenu() {
         return menu;
     }
 
+    /**
+     * Signale le changement de langue aux états abonnés (Menu, Settings, Splash)
+     */
     public void UpdateEveryStrings() {
         System.out.println("Every Strings Updated");
-        menu.UpdateStrings();
-        settings.UpdateStrings();
-        splash.UpdateStrings();
-        
+        events.publish(languageChanged);
     }
 
     public World getWorld() {return world;
@@ -249,11 +412,37 @@ public class Game implements Runnable{
         return start;
     }
 
+    public SaveGame getSaveGame() {
+        return saveGame;
+    }
+
+    public AutosaveService getAutosave() {
+        return autosave;
+    }
+
+    public EventBus getEvents() {
+        return events;
+    }
+
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
     public Splash getSplash() {
         return splash;
     }
 
+    /**
+     * Demande un fondu vers un état (appelable depuis les gestionnaires d'entrées)
+     * Le fondu démarre au prochain update : la TimerWheel n'est touchée que par la boucle de jeu
+     */
     public void startTransition(states.GameState target, Color color) {
-        fader.start(target, 400, 400, color);
+        pendingTransition.set(new Transition(target, color));
+    }
+
+    /**
+     * Transition en attente de démarrage
+     */
+    private record Transition(states.GameState target, Color color) {
     }
 }
\ No newline at end of file
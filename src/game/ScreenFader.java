@@ -7,6 +7,7 @@ import java.awt.Graphics2D;
 
 import states.GameState;
 import static states.GameState.setState;
+import utilz.TimerWheel;
 import static utilz.Constants.WORLD.GAME_HEIGHT;
 import static utilz.Constants.WORLD.GAME_WIDTH;
 
@@ -14,54 +15,64 @@ public class ScreenFader {
 
     private enum Phase { IDLE, FADING_OUT, FADING_IN }
 
+    // Durées en updates : les changements de phase sont des minuteries de la TimerWheel du jeu
+    private final TimerWheel timers;
+    private long phaseTimer = TimerWheel.NONE;
+
     private Phase phase = Phase.IDLE;
     private float alpha = 0f; // 0..1
-    private long phaseStartMs = 0L;
-    private long fadeOutMs = 400L;
-    private long fadeInMs = 400L;
+    private long phaseStartTick = 0L;
+    private long fadeOutTicks;
+    private long fadeInTicks;
     private Color overlayColor = Color.black;
     private GameState targetState;
 
+    public ScreenFader(TimerWheel timers) {
+        this.timers = timers;
+    }
+
     public boolean isActive() {
         return phase != Phase.IDLE || alpha > 0f;
     }
 
+    /**
+     * Démarre un fondu (boucle de jeu uniquement : programme des minuteries de la TimerWheel)
+     */
     public void start(GameState target, long fadeOutMs, long fadeInMs, Color color) {
         this.targetState = target;
-        this.fadeOutMs = Math.max(1L, fadeOutMs);
-        this.fadeInMs = Math.max(1L, fadeInMs);
+        this.fadeOutTicks = TimerWheel.MillisToTicks(fadeOutMs);
+        this.fadeInTicks = TimerWheel.MillisToTicks(fadeInMs);
         this.overlayColor = color == null ? Color.black : color;
-        this.phase = Phase.FADING_OUT;
-        this.phaseStartMs = System.currentTimeMillis();
+        startPhase(Phase.FADING_OUT, fadeOutTicks, this::onFadedOut);
     }
 
-    public void update(Game game) {
-        if (phase == Phase.IDLE) return;
+    private void startPhase(Phase next, long durationTicks, Runnable onEnd) {
+        timers.cancel(phaseTimer);
+        phase = next;
+        phaseStartTick = timers.getTick();
+        phaseTimer = timers.schedule(durationTicks, onEnd);
+    }
 
-        long now = System.currentTimeMillis();
-        long elapsed = now - phaseStartMs;
+    private void onFadedOut() {
+        // switch state at full black
+        alpha = 1f;
+        if (targetState != null) {
+            setState(targetState);
+        }
+        startPhase(Phase.FADING_IN, fadeInTicks, this::onFadedIn);
+    }
 
+    private void onFadedIn() {
+        alpha = 0f;
+        phase = Phase.IDLE;
+        phaseTimer = TimerWheel.NONE;
+    }
+
+    public void update(Game game) {
+        long elapsed = timers.getTick() - phaseStartTick;
         switch (phase) {
-            case FADING_OUT -> {
-                float t = Math.min(1f, elapsed / (float) fadeOutMs);
-                alpha = t;
-                if (t >= 1f) {
-                    // switch state at full black
-                    if (targetState != null) {
-                        setState(targetState);
-                    }
-                    phase = Phase.FADING_IN;
-                    phaseStartMs = now;
-                }
-            }
-            case FADING_IN -> {
-                float t = Math.min(1f, elapsed / (float) fadeInMs);
-                alpha = 1f - t;
-                if (t >= 1f) {
-                    alpha = 0f;
-                    phase = Phase.IDLE;
-                }
-            }
+            case FADING_OUT -> alpha = Math.min(1f, elapsed / (float) fadeOutTicks);
+            case FADING_IN -> alpha = 1f - Math.min(1f, elapsed / (float) fadeInTicks);
             default -> {}
         }
     }
@@ -5,18 +5,24 @@ import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
 import java.util.List;
 
-import static utilz.Constants.WORLD.ONE_WAY_PLATFORMS.ONE_WAY_TILE_IDS;
 import static utilz.Constants.WORLD.TILES_SIZE;
 
 public class Level {
     private int [][] levelData;
     
+    // Classes de collision compactées (2 bits par tile)
+    private TileClassMap tileClasses;
+    
     // Collision rectangles for optimized AABB collision detection
     private List<Rectangle2D.Float> solidCollisions;
     private List<Rectangle2D.Float> oneWayPlatformCollisions;
 
+    // Incrémenté à chaque modification de tile (invalide les données dérivées : navigation...)
+    private int version;
+
     public Level(int[][] levelData) {
         this.levelData = levelData;
+        this.tileClasses = new TileClassMap(levelData);
         this.solidCollisions = new ArrayList<>();
         this.oneWayPlatformCollisions = new ArrayList<>();
         generateCollisionRectangles();
@@ -24,147 +30,104 @@ public class Level {
 
     /**
      * Génère les rectangles de collision optimisés à partir de la matrice du niveau
-     * Fusionne les rectangles adjacents avec le même ID de tile pour améliorer les performances
+     * 
+     * MAILLAGE GLOUTON (greedy meshing) en temps linéaire:
+     * - Chaque tile est classée une seule fois (vide / solide / one-way)
+     * - Pour chaque tile non consommée: extension maximale vers la droite,
+     *   puis ligne par ligne vers le bas tant que toute la largeur est de la même classe
+     * - Les tiles couvertes sont marquées consommées et ne sont plus jamais relues
+     * 
+     * Une extension vers le bas qui échoue coûte au plus la largeur du rectangle,
+     * donc le coût total est borné par la surface du niveau: O(largeur x hauteur).
+     * La fusion se fait par classe et non par ID, ce qui donne moins de rectangles
+     * tout en gardant les plateformes one-way séparées des collisions solides.
      */
     private void generateCollisionRectangles() {
-        int height = levelData.length;
-        int width = levelData[0].length;
+        int height = tileClasses.getHeight();
+        int width = tileClasses.getWidth();
         
-        // Première passe : fusion horizontale
-        List<Rectangle2D.Float> horizontalMerged = new ArrayList<>();
+        // Copie de travail : les tiles couvertes y sont marquées vides au fur et à mesure
+        TileClassMap remaining = tileClasses.copy();
         
         for (int y = 0; y < height; y++) {
-            Rectangle2D.Float currentRect = null;
-            int currentTileId = -1;
-            
             for (int x = 0; x < width; x++) {
-                int tileId = levelData[y][x];
+                int tileClass = remaining.get(x, y);
+                if (tileClass == TileClassMap.EMPTY) continue;
                 
-                // Vérifier si c'est une tile solide (pas vide)
-                if (tileId != 21) {
-                    // Si c'est la même tile que la précédente et adjacente, étendre le rectangle
-                    if (currentRect != null && tileId == currentTileId) {
-                        currentRect.width += TILES_SIZE;
-                    } else {
-                        // Sauvegarder le rectangle précédent s'il existe
-                        if (currentRect != null) {
-                            horizontalMerged.add(currentRect);
-                        }
-                        // Créer un nouveau rectangle
-                        currentRect = new Rectangle2D.Float(
-                            x * TILES_SIZE, 
-                            y * TILES_SIZE, 
-                            TILES_SIZE, 
-                            TILES_SIZE
-                        );
-                        currentTileId = tileId;
-                    }
-                } else {
-                    // Tile vide, sauvegarder le rectangle actuel s'il existe
-                    if (currentRect != null) {
-                        horizontalMerged.add(currentRect);
-                        currentRect = null;
-                        currentTileId = -1;
+                // Extension horizontale
+                int endX = x + 1;
+                while (endX < width && remaining.get(endX, y) == tileClass) {
+                    endX++;
+                }
+                
+                // Extension verticale : la ligne suivante doit être entièrement de la même classe
+                int endY = y + 1;
+                while (endY < height && isRowSpanOfClass(remaining, endY, x, endX, tileClass)) {
+                    endY++;
+                }
+                
+                // Marquer les tiles couvertes comme consommées
+                for (int yy = y; yy < endY; yy++) {
+                    for (int xx = x; xx < endX; xx++) {
+                        remaining.set(xx, yy, TileClassMap.EMPTY);
                     }
                 }
-            }
-            
-            // Ajouter le dernier rectangle de la ligne s'il existe
-            if (currentRect != null) {
-                horizontalMerged.add(currentRect);
-            }
-        }
-        
-        // Deuxième passe : fusion verticale
-        List<Rectangle2D.Float> finalRectangles = new ArrayList<>();
-        boolean[] processed = new boolean[horizontalMerged.size()];
-        
-        for (int i = 0; i < horizontalMerged.size(); i++) {
-            if (processed[i]) continue;
-            
-            Rectangle2D.Float baseRect = horizontalMerged.get(i);
-            List<Rectangle2D.Float> mergeGroup = new ArrayList<>();
-            mergeGroup.add(baseRect);
-            processed[i] = true;
-            
-            // Chercher des rectangles à fusionner verticalement
-            for (int j = i + 1; j < horizontalMerged.size(); j++) {
-                if (processed[j]) continue;
                 
-                Rectangle2D.Float candidateRect = horizontalMerged.get(j);
+                Rectangle2D.Float rect = new Rectangle2D.Float(
+                    x * TILES_SIZE,
+                    y * TILES_SIZE,
+                    (endX - x) * TILES_SIZE,
+                    (endY - y) * TILES_SIZE
+                );
                 
-                // Vérifier si les rectangles peuvent être fusionnés verticalement
-                if (canMergeVertically(baseRect, candidateRect)) {
-                    mergeGroup.add(candidateRect);
-                    processed[j] = true;
+                // Séparer les collisions solides des plateformes one-way
+                if (tileClass == TileClassMap.ONE_WAY) {
+                    oneWayPlatformCollisions.add(rect);
+                } else {
+                    solidCollisions.add(rect);
                 }
-            }
-            
-            // Fusionner le groupe en un seul rectangle
-            Rectangle2D.Float mergedRect = mergeRectanglesVertically(mergeGroup);
-            finalRectangles.add(mergedRect);
-        }
-        
-        // Séparer les collisions solides des plateformes one-way
-        for (Rectangle2D.Float rect : finalRectangles) {
-            int tileX = (int) (rect.x / TILES_SIZE);
-            int tileY = (int) (rect.y / TILES_SIZE);
-            int tileId = levelData[tileY][tileX];
-            
-            if (isOneWayPlatform(tileId)) {
-                oneWayPlatformCollisions.add(rect);
-            } else {
-                solidCollisions.add(rect);
+                
+                x = endX - 1;
             }
         }
     }
     
     /**
-     * Vérifie si deux rectangles peuvent être fusionnés verticalement
+     * Vérifie si toutes les tiles [startX, endX) de la ligne y sont de la classe donnée
      */
-    private boolean canMergeVertically(Rectangle2D.Float rect1, Rectangle2D.Float rect2) {
-        // Même position X et largeur
-        boolean sameX = Math.abs(rect1.x - rect2.x) < 1;
-        boolean sameWidth = Math.abs(rect1.width - rect2.width) < 1;
-        
-        // Adjacents verticalement
-        boolean verticallyAdjacent = Math.abs((rect1.y + rect1.height) - rect2.y) < 1 ||
-                                   Math.abs((rect2.y + rect2.height) - rect1.y) < 1;
-        
-        return sameX && sameWidth && verticallyAdjacent;
+    private static boolean isRowSpanOfClass(TileClassMap map, int y, int startX, int endX, int tileClass) {
+        for (int x = startX; x < endX; x++) {
+            if (map.get(x, y) != tileClass) {
+                return false;
+            }
+        }
+        return true;
     }
-    
+
     /**
-     * Fusionne une liste de rectangles en un seul rectangle vertical
+     * Modifie une tile du niveau (destruction, porte, plateforme qui apparaît...)
+     * Les collisions sont recalculées et la version du niveau augmente
+     * @param x Colonne
+     * @param y Ligne
+     * @param tileId Nouvel ID de tile
      */
-    private Rectangle2D.Float mergeRectanglesVertically(List<Rectangle2D.Float> rectangles) {
-        if (rectangles.isEmpty()) return null;
-        
-        float minX = Float.MAX_VALUE;
-        float minY = Float.MAX_VALUE;
-        float maxX = Float.MIN_VALUE;
-        float maxY = Float.MIN_VALUE;
-        
-        for (Rectangle2D.Float rect : rectangles) {
-            minX = Math.min(minX, rect.x);
-            minY = Math.min(minY, rect.y);
-            maxX = Math.max(maxX, rect.x + rect.width);
-            maxY = Math.max(maxY, rect.y + rect.height);
+    public void setTile(int x, int y, int tileId) {
+        if (levelData[y][x] == tileId) {
+            return;
         }
-        
-        return new Rectangle2D.Float(minX, minY, maxX - minX, maxY - minY);
+        levelData[y][x] = tileId;
+        tileClasses.set(x, y, TileClassMap.classOf(tileId));
+        solidCollisions.clear();
+        oneWayPlatformCollisions.clear();
+        generateCollisionRectangles();
+        version++;
     }
-    
+
     /**
-     * Vérifie si un ID de tile correspond à une plateforme one-way
+     * Version du terrain : change à chaque setTile
      */
-    private boolean isOneWayPlatform(int tileId) {
-        for (int oneWayId : ONE_WAY_TILE_IDS) {
-            if (tileId == oneWayId) {
-                return true;
-            }
-        }
-        return false;
+    public int getVersion() {
+        return version;
     }
 
     public int getSpriteIndex(int x, int y) {
@@ -175,6 +138,13 @@ public class Level {
         return levelData;
     }
     
+    /**
+     * Retourne la carte des classes de collision du niveau
+     */
+    public TileClassMap getTileClasses() {
+        return tileClasses;
+    }
+    
     /**
      * Retourne la liste des rectangles de collision solides
      */
@@ -5,6 +5,7 @@ import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
+import game.Camera;
 import game.Game;
 import static utilz.Constants.WORLD.TILES_DEFAULT_SIZE;
 import static utilz.Constants.WORLD.TILES_SIZE;
@@ -39,10 +40,15 @@ public class LevelManager {
 
     }
 
-    public void draw(Graphics g, int xLvlOffset, int yLvlOffset) {
-        // Dessiner les sprites du niveau
-        for (int j = 0; j < levelOne.getLevelData().length; j++)
-            for (int i = 0; i < levelOne.getLevelData()[0].length; i++) {
+    /**
+     * Dessine les tiles visibles par la caméra (les autres ne sont pas parcourues)
+     * @param view Instantané de la caméra lu une fois pour la frame (Camera.getView())
+     */
+    public void draw(Graphics g, Camera.View view) {
+        int xLvlOffset = view.offsetX();
+        int yLvlOffset = view.offsetY();
+        for (int j = view.firstTileY(); j <= view.lastTileY(); j++)
+            for (int i = view.firstTileX(); i <= view.lastTileX(); i++) {
                 int index = levelOne.getSpriteIndex(i, j);
                 g.drawImage(levelSprite[index], (i * TILES_SIZE) - xLvlOffset, (j * TILES_SIZE) - yLvlOffset, TILES_SIZE, TILES_SIZE, null);
             }
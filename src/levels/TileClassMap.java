@@ -0,0 +1,160 @@
+package levels;
+
+import java.util.Arrays;
+
+import static utilz.Constants.WORLD.EMPTY_TILE_ID;
+import static utilz.Constants.WORLD.ONE_WAY_PLATFORMS.ONE_WAY_TILE_IDS;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Carte compacte des classes de collision d'un niveau
+ *
+ * STOCKAGE:
+ * - 2 bits par tile (vide / solide / one-way), 32 tiles par long
+ * - Une table de classification indexée par ID de tile donne la classe en O(1)
+ *
+ * Toutes les requêtes tile-based (IsSolid, isOneWayPlatform, IsInOneWayTile...)
+ * passent par cette carte au lieu de relire la matrice int[][] du niveau.
+ * Chaque Level possède sa carte (Level.getTileClasses()), tenue à jour par setTile.
+ *
+ * @author Lounol72
+ */
+public final class TileClassMap {
+
+    // === CLASSES DE COLLISION ===
+    public static final int EMPTY = 0;
+    public static final int SOLID = 1;
+    public static final int ONE_WAY = 2;
+
+    private static final int BITS_PER_TILE = 2;
+    private static final int TILES_PER_WORD = Long.SIZE / BITS_PER_TILE;
+    private static final long CLASS_MASK = 0b11L;
+
+    /**
+     * Table de classification: CLASS_BY_ID[tileId] = classe de la tile
+     * Les IDs hors table sont considérés comme solides
+     */
+    private static final byte[] CLASS_BY_ID = new byte[256];
+
+    static {
+        Arrays.fill(CLASS_BY_ID, (byte) SOLID);
+        CLASS_BY_ID[EMPTY_TILE_ID] = EMPTY;
+        for (int oneWayId : ONE_WAY_TILE_IDS) {
+            CLASS_BY_ID[oneWayId] = ONE_WAY;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final long[] words;
+
+    /**
+     * Construit la carte à partir de la matrice du niveau
+     * @param levelData Données du niveau [y][x]
+     */
+    public TileClassMap(int[][] levelData) {
+        this(levelData[0].length, levelData.length, levelData);
+    }
+
+    private TileClassMap(int width, int height, int[][] levelData) {
+        this.width = width;
+        this.height = height;
+        this.words = new long[(width * height + TILES_PER_WORD - 1) / TILES_PER_WORD];
+        if (levelData != null) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    set(x, y, classOf(levelData[y][x]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne la classe de collision d'un ID de tile en O(1)
+     * @param tileId ID de la tile
+     * @return EMPTY, SOLID ou ONE_WAY
+     */
+    public static int classOf(int tileId) {
+        if (tileId < 0 || tileId >= CLASS_BY_ID.length) {
+            return SOLID;
+        }
+        return CLASS_BY_ID[tileId];
+    }
+
+    /**
+     * Retourne la classe de la tile aux coordonnées de tile données
+     * Hors du niveau, la tile est considérée comme solide (bords du monde)
+     * @param tileX Colonne
+     * @param tileY Ligne
+     * @return Classe de la tile
+     */
+    public int get(int tileX, int tileY) {
+        if (tileX < 0 || tileX >= width || tileY < 0 || tileY >= height) {
+            return SOLID;
+        }
+        int index = tileY * width + tileX;
+        int shift = (index % TILES_PER_WORD) * BITS_PER_TILE;
+        return (int) ((words[index / TILES_PER_WORD] >>> shift) & CLASS_MASK);
+    }
+
+    /**
+     * Retourne la classe de la tile contenant le point (en pixels)
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     * @return Classe de la tile
+     */
+    public int getAt(float x, float y) {
+        return get((int) (x / TILES_SIZE), (int) (y / TILES_SIZE));
+    }
+
+    /**
+     * Modifie la classe d'une tile
+     * @param tileX Colonne
+     * @param tileY Ligne
+     * @param tileClass Nouvelle classe
+     */
+    public void set(int tileX, int tileY, int tileClass) {
+        int index = tileY * width + tileX;
+        int word = index / TILES_PER_WORD;
+        int shift = (index % TILES_PER_WORD) * BITS_PER_TILE;
+        words[word] = (words[word] & ~(CLASS_MASK << shift)) | (((long) tileClass & CLASS_MASK) << shift);
+    }
+
+    /**
+     * Vérifie si au moins une tile de la zone [minTileX..maxTileX] x [minTileY..maxTileY] est de la classe donnée
+     * Les bornes sont incluses et ramenées dans le niveau
+     * @return true si une tile de la zone est de cette classe
+     */
+    public boolean anyInRange(int minTileX, int minTileY, int maxTileX, int maxTileY, int tileClass) {
+        minTileX = Math.max(0, minTileX);
+        minTileY = Math.max(0, minTileY);
+        maxTileX = Math.min(width - 1, maxTileX);
+        maxTileY = Math.min(height - 1, maxTileY);
+        for (int y = minTileY; y <= maxTileY; y++) {
+            for (int x = minTileX; x <= maxTileX; x++) {
+                if (get(x, y) == tileClass) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Crée une copie indépendante de la carte
+     * @return Copie de la carte
+     */
+    public TileClassMap copy() {
+        TileClassMap copy = new TileClassMap(width, height, null);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,242 @@
+package main;
+
+// Java standard library imports
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Game imports
+import battle.BattleData;
+import battle.BattleState;
+import battle.GreedyPolicy;
+import battle.TurnResolver;
+
+/**
+ * Simulateur de combats en masse pour l'équilibrage
+ *
+ * FONCTIONNEMENT:
+ * - Chaque équipe de data.json affronte chaque autre équipe (round robin complet, camps inversés inclus)
+ * - Les affrontements sont répartis sur un ForkJoinPool ; chaque tâche reçoit son propre
+ *   SplittableRandom obtenu par split(), les résultats sont donc reproductibles pour une graine donnée
+ * - Les deux camps jouent la politique gloutonne (GreedyPolicy)
+ *
+ * FICHIERS PRODUITS (dans le dossier de sortie):
+ * - matchups.csv : une ligne par affrontement, écrite dès qu'il est terminé
+ * - win_matrix.csv : taux de victoire de l'équipe en ligne contre l'équipe en colonne
+ * - move_usage.csv : nombre d'utilisations de chaque attaque
+ *
+ * Utilisation :
+ * <pre>java main.BalanceSimulator [combats par affrontement] [dossier de sortie] [graine]</pre>
+ *
+ * @author Lounol72
+ */
+public class BalanceSimulator {
+
+    private static final int DEFAULT_BATTLES = 1000;
+    private static final String DEFAULT_OUTPUT = "target/balance";
+    private static final long DEFAULT_SEED = 42L;
+
+    /** Nombre d'affrontements en dessous duquel une tâche n'est plus découpée */
+    private static final int SPLIT_THRESHOLD = 8;
+
+    private final BattleData data;
+    private final int battlesPerMatchup;
+    private final int teamCount;
+
+    // Résultats par affrontement [équipeA * teamCount + équipeB]
+    private final int[] winsA;
+    private final int[] winsB;
+    private final long[] totalTurns;
+
+    private final Writer matchupWriter;
+
+    private BalanceSimulator(BattleData data, int battlesPerMatchup, Writer matchupWriter) {
+        this.data = data;
+        this.battlesPerMatchup = battlesPerMatchup;
+        this.teamCount = data.getTeamCount();
+        this.winsA = new int[teamCount * teamCount];
+        this.winsB = new int[teamCount * teamCount];
+        this.totalTurns = new long[teamCount * teamCount];
+        this.matchupWriter = matchupWriter;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATTLES;
+        Path outputDir = Paths.get(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        BattleData data = BattleData.getDefault();
+        if (data == null) {
+            System.exit(1);
+        }
+        Files.createDirectories(outputDir);
+
+        long start = System.nanoTime();
+        long[] moveUsage;
+        BalanceSimulator simulator;
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDir.resolve("matchups.csv"), StandardCharsets.UTF_8)) {
+            writer.write("team_a,team_b,battles,wins_a,wins_b,draws,avg_turns\n");
+            simulator = new BalanceSimulator(data, battles, writer);
+            int matchups = simulator.teamCount * simulator.teamCount;
+            moveUsage = ForkJoinPool.commonPool().invoke(simulator.new MatchupTask(0, matchups, new SplittableRandom(seed)));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        simulator.writeWinMatrix(outputDir.resolve("win_matrix.csv"));
+        simulator.writeMoveUsage(outputDir.resolve("move_usage.csv"), moveUsage);
+
+        long total = (long) battles * simulator.teamCount * simulator.teamCount;
+        System.out.printf(Locale.ROOT, "%d combats en %.2f s (%.0f combats/s, %d threads) -> %s%n",
+            total, seconds, total / seconds, ForkJoinPool.commonPool().getParallelism(), outputDir.toAbsolutePath());
+    }
+
+    /**
+     * Joue tous les combats d'un affrontement
+     * @param matchup Index de l'affrontement (équipeA * teamCount + équipeB)
+     * @param rng Générateur du worker
+     * @param state État de travail réutilisé
+     * @param moveUsage Compteurs d'utilisation des attaques du worker
+     */
+    private void playMatchup(int matchup, SplittableRandom rng, BattleState[] state, long[] moveUsage) {
+        int teamA = matchup / teamCount;
+        int teamB = matchup % teamCount;
+        BattleState initial = BattleState.create(data, teamA, teamB, 0L);
+        if (state[0] == null) {
+            state[0] = new BattleState();
+        }
+        BattleState battle = state[0];
+
+        int a = 0, b = 0;
+        long turns = 0;
+        for (int i = 0; i < battlesPerMatchup; i++) {
+            battle.copyFrom(initial);
+            battle.setSeed(rng.nextLong());
+            while (!battle.isOver()) {
+                int choice0 = GreedyPolicy.chooseMove(data, battle, 0);
+                int choice1 = GreedyPolicy.chooseMove(data, battle, 1);
+                countMove(battle, 0, choice0, moveUsage);
+                countMove(battle, 1, choice1, moveUsage);
+                TurnResolver.resolveTurn(data, battle, choice0, choice1);
+            }
+            if (battle.getWinner() == 0) {
+                a++;
+            } else if (battle.getWinner() == 1) {
+                b++;
+            }
+            turns += battle.getTurn();
+        }
+        winsA[matchup] = a;
+        winsB[matchup] = b;
+        totalTurns[matchup] = turns;
+
+        String line = String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.2f%n",
+            csv(data.getTeamName(teamA)), csv(data.getTeamName(teamB)),
+            battlesPerMatchup, a, b, battlesPerMatchup - a - b, (double) turns / battlesPerMatchup);
+        synchronized (matchupWriter) {
+            try {
+                matchupWriter.write(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void countMove(BattleState battle, int side, int choice, long[] moveUsage) {
+        if (choice == TurnResolver.STRUGGLE) {
+            moveUsage[data.getMoveCount()]++;
+        } else {
+            moveUsage[battle.getMove(battle.getActiveSlot(side), choice)]++;
+        }
+    }
+
+    private void writeWinMatrix(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("team");
+            for (int b = 0; b < teamCount; b++) {
+                writer.write("," + csv(data.getTeamName(b)));
+            }
+            writer.write(",overall\n");
+            for (int a = 0; a < teamCount; a++) {
+                writer.write(csv(data.getTeamName(a)));
+                long wins = 0;
+                for (int b = 0; b < teamCount; b++) {
+                    int matchup = a * teamCount + b;
+                    writer.write(String.format(Locale.ROOT, ",%.3f", (double) winsA[matchup] / battlesPerMatchup));
+                    // Victoires de l'équipe a dans les deux camps
+                    wins += winsA[matchup] + winsB[b * teamCount + a];
+                }
+                writer.write(String.format(Locale.ROOT, ",%.3f%n", wins / (2.0 * teamCount * battlesPerMatchup)));
+            }
+        }
+    }
+
+    private void writeMoveUsage(Path file, long[] moveUsage) throws IOException {
+        long total = 0;
+        for (long count : moveUsage) {
+            total += count;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("move,uses,share\n");
+            for (int m = 0; m <= data.getMoveCount(); m++) {
+                String name = m < data.getMoveCount() ? data.getMoveName(m) : "Struggle";
+                writer.write(String.format(Locale.ROOT, "%s,%d,%.5f%n", csv(name), moveUsage[m],
+                    total == 0 ? 0.0 : (double) moveUsage[m] / total));
+            }
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * Tâche fork/join sur un intervalle d'affrontements
+     * Retourne les compteurs d'utilisation des attaques de l'intervalle
+     * (jamais sérialisée : RecursiveTask est Serializable sans que cela serve ici)
+     */
+    @SuppressWarnings("serial")
+    private class MatchupTask extends RecursiveTask<long[]> {
+        private final int from, to;
+        private final SplittableRandom rng;
+
+        MatchupTask(int from, int to, SplittableRandom rng) {
+            this.from = from;
+            this.to = to;
+            this.rng = rng;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                long[] usage = new long[data.getMoveCount() + 1];
+                BattleState[] state = new BattleState[1];
+                for (int matchup = from; matchup < to; matchup++) {
+                    playMatchup(matchup, rng, state, usage);
+                }
+                return usage;
+            }
+            int mid = (from + to) >>> 1;
+            MatchupTask left = new MatchupTask(from, mid, rng.split());
+            MatchupTask right = new MatchupTask(mid, to, rng.split());
+            left.fork();
+            long[] usage = right.compute();
+            long[] leftUsage = left.join();
+            for (int i = 0; i < usage.length; i++) {
+                usage[i] += leftUsage[i];
+            }
+            return usage;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package particles;
+
+import static utilz.Constants.SCALE;
+
+/**
+ * Émetteurs prêts à l'emploi, appelés sur les événements du jeu
+ *
+ * @author Lounol72
+ */
+public final class Emitters {
+
+    private static final float UP = (float) (-Math.PI / 2);
+
+    private Emitters() {}
+
+    /**
+     * Poussière soulevée à l'atterrissage, de part et d'autre des pieds
+     * @param particles Système de particules
+     * @param centerX Centre horizontal des pieds (pixels du niveau)
+     * @param feetY Ordonnée des pieds
+     */
+    public static void LandingDust(ParticleSystem particles, float centerX, float feetY) {
+        particles.burst(ParticleAtlas.DUST, centerX, feetY, 8, (float) Math.PI, 0.6f,
+            0.5f * SCALE, 1.5f * SCALE, 18, 30);
+        particles.burst(ParticleAtlas.DUST, centerX, feetY, 8, 0f, 0.6f,
+            0.5f * SCALE, 1.5f * SCALE, 18, 30);
+    }
+
+    /**
+     * Étincelles d'une attaque, projetées vers l'avant
+     * @param particles Système de particules
+     * @param x Point d'impact X (pixels du niveau)
+     * @param y Point d'impact Y
+     * @param direction 1 vers la droite, -1 vers la gauche
+     */
+    public static void AttackSparks(ParticleSystem particles, float x, float y, int direction) {
+        float angle = direction > 0 ? -0.3f : (float) Math.PI + 0.3f;
+        particles.burst(ParticleAtlas.SPARK, x, y, 24, angle, 1.2f,
+            1.5f * SCALE, 4f * SCALE, 20, 40);
+    }
+
+    /**
+     * Jet continu vers le haut (capacités d'ICMon, à appeler à chaque update)
+     * @param particles Système de particules
+     * @param x Source X
+     * @param y Source Y
+     * @param rate Particules par update
+     */
+    public static void Fountain(ParticleSystem particles, float x, float y, int rate) {
+        particles.burst(ParticleAtlas.SPARK, x, y, rate, UP, 0.8f,
+            2f * SCALE, 3.5f * SCALE, 40, 70);
+    }
+}
@@ -0,0 +1,78 @@
+package particles;
+
+import static utilz.Constants.SCALE;
+
+/**
+ * Petit atlas de sprites de particules, généré au démarrage
+ *
+ * ORGANISATION:
+ * - Une ligne par sorte de particule (DUST, SPARK...), FADE_STEPS images par ligne :
+ *   l'image i est le sprite à l'opacité (FADE_STEPS - i) / FADE_STEPS
+ * - Les pixels sont stockés en ARGB prémultiplié dans des tableaux d'int : le rendu
+ *   les compose directement dans le calque de ParticleSystem, sans passer par Java2D
+ *
+ * @author Lounol72
+ */
+public final class ParticleAtlas {
+
+    // === SORTES DE PARTICULES ===
+    public static final int DUST = 0;
+    public static final int SPARK = 1;
+    public static final int KIND_COUNT = 2;
+
+    public static final int FADE_STEPS = 4;
+
+    // Taille (côté en pixels) et couleur de chaque sorte
+    private static final int[] SIZES = {(int) (4 * SCALE), (int) (2 * SCALE)};
+    private static final int[] COLORS = {0xC8B49A, 0xFFE68C};
+
+    private static final int[][] PIXELS = new int[KIND_COUNT * FADE_STEPS][];
+
+    static {
+        for (int kind = 0; kind < KIND_COUNT; kind++) {
+            for (int step = 0; step < FADE_STEPS; step++) {
+                float opacity = (FADE_STEPS - step) / (float) FADE_STEPS;
+                PIXELS[kind * FADE_STEPS + step] = disc(SIZES[kind], COLORS[kind], opacity);
+            }
+        }
+    }
+
+    private ParticleAtlas() {}
+
+    /**
+     * Pixels (ARGB prémultiplié, ligne par ligne) d'une image de l'atlas
+     * @param kind Sorte de particule
+     * @param fadeStep Étape de fondu (0 = opaque)
+     */
+    static int[] pixels(int kind, int fadeStep) {
+        return PIXELS[kind * FADE_STEPS + fadeStep];
+    }
+
+    /**
+     * Côté du sprite d'une sorte de particule
+     */
+    public static int size(int kind) {
+        return SIZES[kind];
+    }
+
+    /**
+     * Disque aux bords adoucis
+     */
+    private static int[] disc(int size, int rgb, float opacity) {
+        int[] pixels = new int[size * size];
+        float radius = size / 2f;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                float dx = x + 0.5f - radius;
+                float dy = y + 0.5f - radius;
+                float coverage = Math.max(0f, Math.min(1f, radius - (float) Math.sqrt(dx * dx + dy * dy) + 0.5f));
+                int a = Math.round(255 * coverage * opacity);
+                int r = ((rgb >> 16) & 0xFF) * a / 255;
+                int g = ((rgb >> 8) & 0xFF) * a / 255;
+                int b = (rgb & 0xFF) * a / 255;
+                pixels[y * size + x] = (a << 24) | (r << 16) | (g << 8) | b;
+            }
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,276 @@
+package particles;
+
+// Java standard library imports
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static utilz.Constants.PARTICLES.GRAVITY;
+import static utilz.Constants.PARTICLES.PARALLEL_CHUNK;
+import static utilz.Constants.PARTICLES.PARALLEL_THRESHOLD;
+import static utilz.Constants.WORLD.GAME_HEIGHT;
+import static utilz.Constants.WORLD.GAME_WIDTH;
+
+/**
+ * Système de particules (poussière d'atterrissage, étincelles d'attaque, capacités...)
+ *
+ * STOCKAGE (structure de tableaux):
+ * - Une colonne de primitives par champ (position, vitesse, âge, durée de vie, sorte),
+ *   de capacité fixe : aucune allocation après la construction
+ * - Les particules vivantes occupent [0, count[ ; une particule morte est remplacée
+ *   par la dernière
+ *
+ * MISE À JOUR:
+ * - Intégration dans une boucle serrée sur les colonnes
+ * - Au-delà de PARALLEL_THRESHOLD particules, la boucle est découpée en blocs de
+ *   PARALLEL_CHUNK traités en parallèle (les blocs n'écrivent que leurs propres lignes)
+ * - Les particules mortes sont retirées ensuite, en un passage séquentiel
+ *
+ * RENDU (par lot):
+ * - Les sprites de ParticleAtlas sont composés pixel par pixel dans un calque à la
+ *   taille de l'écran ; seule la zone touchée est effacée puis copiée à l'écran,
+ *   en une seule copie d'image quel que soit le nombre de particules
+ *
+ * @author Lounol72
+ */
+public class ParticleSystem {
+
+    // Réaction de chaque sorte à la gravité et frottement de l'air (par update)
+    private static final float[] KIND_GRAVITY = {0.15f, 1f};
+    private static final float[] KIND_DRAG = {0.94f, 0.985f};
+
+    private final int capacity;
+    private int count;
+
+    // === COLONNES ===
+    private final float[] x, y, vx, vy;
+    private final float[] age, life;
+    private final byte[] kind;
+
+    // Générateur pseudo-aléatoire rapide (xorshift), boucle de jeu uniquement
+    private int seed = 0x2545F491;
+
+    // === CALQUE DE RENDU ===
+    private final BufferedImage layer = new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+    private final int[] layerPixels = ((DataBufferInt) layer.getRaster().getDataBuffer()).getData();
+    private int dirtyMinX, dirtyMinY, dirtyMaxX, dirtyMaxY; // Zone touchée à la frame précédente
+
+    /**
+     * @param capacity Nombre maximal de particules vivantes (les émissions au-delà sont ignorées)
+     */
+    public ParticleSystem(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        kind = new byte[capacity];
+    }
+
+    // === ÉMISSION ===
+
+    /**
+     * Ajoute une particule
+     * @param particleKind Sorte (voir ParticleAtlas)
+     * @param px Position X du centre (pixels du niveau)
+     * @param py Position Y du centre
+     * @param pvx Vitesse X (pixels par update)
+     * @param pvy Vitesse Y
+     * @param lifetime Durée de vie en updates
+     * @return false si le système est plein
+     */
+    public boolean emit(int particleKind, float px, float py, float pvx, float pvy, float lifetime) {
+        if (count == capacity) {
+            return false;
+        }
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        age[i] = 0;
+        life[i] = lifetime;
+        kind[i] = (byte) particleKind;
+        return true;
+    }
+
+    /**
+     * Gerbe de particules dans un cône
+     * @param particleKind Sorte (voir ParticleAtlas)
+     * @param px Centre X
+     * @param py Centre Y
+     * @param amount Nombre de particules
+     * @param angle Direction du cône (radians, 0 = droite, -PI/2 = haut)
+     * @param spread Ouverture totale du cône (radians)
+     * @param minSpeed Vitesse minimale
+     * @param maxSpeed Vitesse maximale
+     * @param minLife Durée de vie minimale (updates)
+     * @param maxLife Durée de vie maximale
+     */
+    public void burst(int particleKind, float px, float py, int amount, float angle, float spread,
+                      float minSpeed, float maxSpeed, float minLife, float maxLife) {
+        for (int n = 0; n < amount; n++) {
+            float a = angle + (nextFloat() - 0.5f) * spread;
+            float speed = minSpeed + nextFloat() * (maxSpeed - minSpeed);
+            float lifetime = minLife + nextFloat() * (maxLife - minLife);
+            if (!emit(particleKind, px, py, (float) Math.cos(a) * speed, (float) Math.sin(a) * speed, lifetime)) {
+                return;
+            }
+        }
+    }
+
+    // === MISE À JOUR ===
+
+    /**
+     * Fait avancer toutes les particules d'un update et retire les particules expirées
+     */
+    public void update() {
+        int n = count;
+        if (n >= PARALLEL_THRESHOLD) {
+            int chunks = (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            IntStream.range(0, chunks).parallel()
+                .forEach(c -> integrate(c * PARALLEL_CHUNK, Math.min(n, (c + 1) * PARALLEL_CHUNK)));
+        } else {
+            integrate(0, n);
+        }
+        removeExpired();
+    }
+
+    /**
+     * Intègre les lignes [from, to[ (aucune écriture hors de ces lignes)
+     */
+    private void integrate(int from, int to) {
+        float[] px = x, py = y, pvx = vx, pvy = vy, pAge = age;
+        byte[] pKind = kind;
+        for (int i = from; i < to; i++) {
+            int k = pKind[i];
+            float drag = KIND_DRAG[k];
+            float nvx = pvx[i] * drag;
+            float nvy = pvy[i] * drag + GRAVITY * KIND_GRAVITY[k];
+            pvx[i] = nvx;
+            pvy[i] = nvy;
+            px[i] += nvx;
+            py[i] += nvy;
+            pAge[i] += 1f;
+        }
+    }
+
+    private void removeExpired() {
+        int i = 0;
+        while (i < count) {
+            if (age[i] >= life[i]) {
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                age[i] = age[last];
+                life[i] = life[last];
+                kind[i] = kind[last];
+            } else {
+                i++;
+            }
+        }
+    }
+
+    // === RENDU ===
+
+    /**
+     * Dessine toutes les particules visibles en une seule copie d'image
+     * @param g Contexte graphique
+     * @param xOffset Décalage horizontal de la caméra
+     * @param yOffset Décalage vertical de la caméra
+     */
+    public void render(Graphics g, int xOffset, int yOffset) {
+        clearDirty();
+        int minX = GAME_WIDTH, minY = GAME_HEIGHT, maxX = 0, maxY = 0;
+        int[] dst = layerPixels;
+        int n = count;
+        for (int i = 0; i < n; i++) {
+            int k = kind[i];
+            int size = ParticleAtlas.size(k);
+            int left = (int) x[i] - xOffset - size / 2;
+            int top = (int) y[i] - yOffset - size / 2;
+            if (left >= GAME_WIDTH || top >= GAME_HEIGHT || left + size <= 0 || top + size <= 0) {
+                continue;
+            }
+            int step = Math.min(ParticleAtlas.FADE_STEPS - 1, (int) (age[i] / life[i] * ParticleAtlas.FADE_STEPS));
+            int[] src = ParticleAtlas.pixels(k, step);
+
+            int x0 = Math.max(0, left), y0 = Math.max(0, top);
+            int x1 = Math.min(GAME_WIDTH, left + size), y1 = Math.min(GAME_HEIGHT, top + size);
+            for (int py = y0; py < y1; py++) {
+                int srcRow = (py - top) * size - left;
+                int dstRow = py * GAME_WIDTH;
+                for (int px = x0; px < x1; px++) {
+                    int s = src[srcRow + px];
+                    int sa = s >>> 24;
+                    if (sa == 0) {
+                        continue;
+                    }
+                    int d = dst[dstRow + px];
+                    if (sa == 255 || d == 0) {
+                        dst[dstRow + px] = s;
+                    } else {
+                        // Source-over en alpha prémultiplié : s + d * (1 - sa)
+                        int inv = 256 - sa;
+                        int rb = ((d & 0x00FF00FF) * inv >>> 8) & 0x00FF00FF;
+                        int ag = (((d >>> 8) & 0x00FF00FF) * inv) & 0xFF00FF00;
+                        dst[dstRow + px] = s + (rb | ag);
+                    }
+                }
+            }
+            if (x0 < minX) minX = x0;
+            if (y0 < minY) minY = y0;
+            if (x1 > maxX) maxX = x1;
+            if (y1 > maxY) maxY = y1;
+        }
+        if (maxX > minX) {
+            g.drawImage(layer, minX, minY, maxX, maxY, minX, minY, maxX, maxY, null);
+            dirtyMinX = minX;
+            dirtyMinY = minY;
+            dirtyMaxX = maxX;
+            dirtyMaxY = maxY;
+        }
+    }
+
+    /**
+     * Efface la zone du calque touchée à la frame précédente
+     */
+    private void clearDirty() {
+        for (int row = dirtyMinY; row < dirtyMaxY; row++) {
+            Arrays.fill(layerPixels, row * GAME_WIDTH + dirtyMinX, row * GAME_WIDTH + dirtyMaxX, 0);
+        }
+        dirtyMaxX = dirtyMinX = dirtyMaxY = dirtyMinY = 0;
+    }
+
+    // === ACCÈS ===
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Supprime toutes les particules
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    private float nextFloat() {
+        int s = seed;
+        s ^= s << 13;
+        s ^= s >>> 17;
+        s ^= s << 5;
+        seed = s;
+        return (s >>> 8) / (float) (1 << 24);
+    }
+}
@@ -1,42 +1,58 @@
 package physics;
 
+import utilz.ObjectPool;
+
 /**
  * Classe représentant une force appliquée à un objet physique
+ *
+ * Les forces ajoutées chaque frame (gravité, input) sortent de POOL et y retournent
+ * quand PhysicsBody les retire : aucune allocation par tick. Toute force est créée
+ * par Obtain() (ou copy()) : PhysicsBody peut ainsi rendre à POOL toutes celles qu'il retire.
  */
 public class Force {
+    public static final ObjectPool<Force> POOL = new ObjectPool<>("Force", 64, Force::new, Force::reset);
+
     private final Vector2D force;
-    private final ForceType type;
-    private final float duration;      // Durée de la force en frames (-1 = permanente)
+    private ForceType type;
+    private float duration;      // Durée de la force en frames (-1 = permanente)
     private float currentTime;   // Temps écoulé depuis l'application
     private boolean active;     // Si la force est active
     
     /**
-     * Constructeur pour une force permanente
-     * @param force Vecteur de la force
-     * @param type Type de force
+     * Force vide (réserve)
      */
-    public Force(Vector2D force, ForceType type) {
-        this.force = force.copy();
-        this.type = type;
-        this.duration = -1; // Permanente
-        this.currentTime = 0;
-        this.active = true;
+    private Force() {
+        this.force = new Vector2D();
     }
-    
+
     /**
-     * Constructeur pour une force temporaire
-     * @param force Vecteur de la force
+     * Force sortie de la réserve
+     * @param x Composante X
+     * @param y Composante Y
      * @param type Type de force
-     * @param duration Durée en frames
+     * @param duration Durée en frames (-1 = permanente)
      */
-    public Force(Vector2D force, ForceType type, float duration) {
-        this.force = force.copy();
-        this.type = type;
-        this.duration = duration;
-        this.currentTime = 0;
-        this.active = true;
+    public static Force Obtain(float x, float y, ForceType type, float duration) {
+        Force f = POOL.obtain();
+        f.force.set(x, y);
+        f.type = type;
+        f.duration = duration;
+        f.currentTime = 0;
+        f.active = true;
+        return f;
     }
-    
+
+    /**
+     * Remise à zéro avant retour dans la réserve
+     */
+    private void reset() {
+        force.zero();
+        type = null;
+        duration = -1;
+        currentTime = 0;
+        active = false;
+    }
+
     /**
      * Met à jour la force (gère le temps)
      * @return true si la force est toujours active
@@ -79,11 +95,11 @@ public class Force {
     }
     
     /**
-     * Crée une copie de cette force
-     * @return Nouvelle copie de la force
+     * Crée une copie de cette force, sortie de la réserve
+     * @return Nouvelle copie de la force (à rendre à POOL ou à confier à un PhysicsBody)
      */
     public Force copy() {
-        Force newForce = new Force(force, type, duration);
+        Force newForce = Obtain(force.x, force.y, type, duration);
         newForce.currentTime = this.currentTime;
         newForce.active = this.active;
         return newForce;
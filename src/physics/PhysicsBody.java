@@ -6,6 +6,9 @@ import java.util.List;
 /**
  * Classe représentant un corps physique avec système de forces
  * Gère la vélocité, l'accélération et l'application des forces
+ *
+ * Les forces retirées du corps sont rendues à Force.POOL : les forces ajoutées
+ * par vecteur ou par composantes en sortent, sans allocation par tick.
  */
 public class PhysicsBody {
     private final Vector2D position;      // Position du corps
@@ -43,7 +46,8 @@ public class PhysicsBody {
     
     /**
      * Ajoute une force au corps
-     * @param force Force à ajouter
+     * @param force Force sortie de Force.POOL (Force.Obtain ou copy) ; le corps en devient
+     *              propriétaire et la rend à la réserve quand il la retire
      */
     public void addForce(Force force) {
         forces.add(force);
@@ -55,7 +59,7 @@ public class PhysicsBody {
      * @param type Type de force
      */
     public void addForce(Vector2D forceVector, ForceType type) {
-        addForce(new Force(forceVector, type));
+        addForce(Force.Obtain(forceVector.x, forceVector.y, type, -1));
     }
     
     /**
@@ -65,7 +69,18 @@ public class PhysicsBody {
      * @param duration Durée en frames
      */
     public void addForce(Vector2D forceVector, ForceType type, float duration) {
-        addForce(new Force(forceVector, type, duration));
+        addForce(Force.Obtain(forceVector.x, forceVector.y, type, duration));
+    }
+
+    /**
+     * Ajoute une force par composantes (sans vecteur temporaire)
+     * @param x Composante X
+     * @param y Composante Y
+     * @param type Type de force
+     * @param duration Durée en frames (-1 = permanente)
+     */
+    public void addForce(float x, float y, ForceType type, float duration) {
+        addForce(Force.Obtain(x, y, type, duration));
     }
     
     /**
@@ -73,15 +88,44 @@ public class PhysicsBody {
      * @param type Type de force à supprimer
      */
     public void removeForcesOfType(ForceType type) {
-        forces.removeIf(force -> force.getType() == type);
+        for (int i = forces.size() - 1; i >= 0; i--) {
+            if (forces.get(i).getType() == type) {
+                Force.POOL.free(forces.remove(i));
+            }
+        }
     }
     
     /**
-     * Supprime toutes les forces
+     * Supprime toutes les forces (rendues à la réserve)
      */
     public void clearForces() {
+        for (int i = 0; i < forces.size(); i++) {
+            Force.POOL.free(forces.get(i));
+        }
         forces.clear();
     }
+
+    /**
+     * Avance le temps des forces et retire celles qui ont expiré
+     */
+    public void updateForces() {
+        for (int i = forces.size() - 1; i >= 0; i--) {
+            if (!forces.get(i).update()) {
+                Force.POOL.free(forces.remove(i));
+            }
+        }
+    }
+
+    /**
+     * Retire les forces désactivées
+     */
+    private void removeInactiveForces() {
+        for (int i = forces.size() - 1; i >= 0; i--) {
+            if (!forces.get(i).isActive()) {
+                Force.POOL.free(forces.remove(i));
+            }
+        }
+    }
     
     /**
      * Applique toutes les forces actives et calcule l'accélération
@@ -92,15 +136,14 @@ public class PhysicsBody {
         acceleration.zero();
         
         // Nettoyer les forces inactives AVANT de les appliquer (optimisation)
-        forces.removeIf(force -> !force.isActive());
+        removeInactiveForces();
         
-        // Appliquer toutes les forces actives
-        for (Force force : forces) {
-            if (force.isActive()) {
-                // F = ma, donc a = F/m
-                Vector2D forceAcceleration = Vector2D.multiply(force.getForce(), 1.0f / mass);
-                acceleration.add(forceAcceleration);
-            }
+        // Appliquer toutes les forces actives (F = ma, donc a = F/m), sans vecteur temporaire
+        float inverseMass = 1.0f / mass;
+        for (int i = 0; i < forces.size(); i++) {
+            Vector2D f = forces.get(i).getForce();
+            acceleration.x += f.x * inverseMass;
+            acceleration.y += f.y * inverseMass;
         }
     }
     
@@ -119,7 +162,7 @@ public class PhysicsBody {
         position.add(velocity);
         
         // Mettre à jour et nettoyer les forces
-        forces.removeIf(force -> !force.update());
+        updateForces();
     }
     
     /**
@@ -208,7 +251,13 @@ public class PhysicsBody {
      * @return true si une force de ce type est active
      */
     public boolean hasForceOfType(ForceType type) {
-        return forces.stream().anyMatch(force -> force.getType() == type && force.isActive());
+        for (int i = 0; i < forces.size(); i++) {
+            Force force = forces.get(i);
+            if (force.getType() == type && force.isActive()) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -232,8 +281,19 @@ public class PhysicsBody {
      * @param type Type de force à remplacer
      */
     public void replaceForceOfType(Vector2D forceVector, ForceType type) {
+        replaceForceOfType(forceVector.x, forceVector.y, type);
+    }
+
+    /**
+     * Remplace toutes les forces d'un type par une force permanente donnée par composantes
+     * (la force retirée est rendue à la réserve puis réutilisée : aucune allocation)
+     * @param x Composante X
+     * @param y Composante Y
+     * @param type Type de force à remplacer
+     */
+    public void replaceForceOfType(float x, float y, ForceType type) {
         removeForcesOfType(type);
-        addForce(forceVector, type);
+        addForce(x, y, type, -1);
     }
     
     /**
@@ -252,7 +312,7 @@ public class PhysicsBody {
      * @return true s'il y a des forces actives
      */
     public boolean hasActiveForces() {
-        return forces.stream().anyMatch(Force::isActive);
+        return getActiveForceCount() > 0;
     }
     
     /**
@@ -260,7 +320,13 @@ public class PhysicsBody {
      * @return Nombre de forces actives
      */
     public int getActiveForceCount() {
-        return (int) forces.stream().filter(Force::isActive).count();
+        int count = 0;
+        for (int i = 0; i < forces.size(); i++) {
+            if (forces.get(i).isActive()) {
+                count++;
+            }
+        }
+        return count;
     }
     
     /**
@@ -0,0 +1,224 @@
+package save;
+
+// Java standard library imports
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sauvegarde automatique en arrière-plan, hors de la boucle de jeu
+ *
+ * FONCTIONNEMENT:
+ * - requestSave (thread de la boucle) : prend un instantané immuable de la partie
+ *   (copie de listes, quelques microsecondes) et le dépose dans une case "en attente"
+ * - Un unique thread d'écriture sérialise, compresse, synchronise sur disque (force)
+ *   et remplace atomiquement le fichier (voir SaveFileIO)
+ * - Les demandes rapprochées fusionnent : si un instantané attend encore, le nouveau
+ *   le remplace et hérite de ses sections modifiées ; une seule écriture a lieu
+ * - La case d'attente est protégée par un verrou tenu le temps d'un échange de
+ *   références : la boucle de jeu n'attend jamais une écriture disque
+ * - Une écriture en échec rend ses sections à la prochaine demande
+ *
+ * MÉTRIQUES:
+ * - Durée des instantanés (coût réel payé par la boucle de jeu)
+ * - Latence d'écriture (demande -> fichier durable) et durée des écritures
+ *
+ * @author Lounol72
+ */
+public class AutosaveService {
+
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    /**
+     * Instantané en attente d'écriture
+     * @param snapshot Copie détachée de la partie
+     * @param requestedAtNanos Date de la plus ancienne demande fusionnée
+     */
+    private record PendingSave(SaveGame snapshot, long requestedAtNanos) {
+    }
+
+    private final Path file;
+    private final ThreadPoolExecutor writer;
+    private final Object pendingLock = new Object();
+    private PendingSave pending; // Protégé par pendingLock
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // === MÉTRIQUES ===
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastSnapshotNanos;
+    private volatile long maxSnapshotNanos;
+    private volatile long lastWriteNanos;
+    private volatile long lastLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile SaveFileIO.WriteResult lastResult;
+
+    /**
+     * @param file Fichier de sauvegarde binaire
+     */
+    public AutosaveService(Path file) {
+        this.file = file;
+        writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "autosave-writer");
+            thread.setDaemon(true);
+            // L'écriture ne doit pas voler de temps CPU à la boucle de jeu
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Demande une sauvegarde (non bloquant, à appeler depuis la boucle de jeu)
+     * @param game Partie en cours ; ses sections modifiées passent à l'instantané
+     */
+    public void requestSave(SaveGame game) {
+        long start = System.nanoTime();
+        SaveGame snapshot = game.snapshot();
+        long snapshotNanos = System.nanoTime() - start;
+        lastSnapshotNanos = snapshotNanos;
+        if (snapshotNanos > maxSnapshotNanos) {
+            maxSnapshotNanos = snapshotNanos;
+        }
+        requests.incrementAndGet();
+
+        synchronized (pendingLock) {
+            pending = pending == null ? new PendingSave(snapshot, start) : merge(pending, snapshot, start);
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Attend la fin des écritures en cours (ex: avant de quitter le jeu)
+     * @param timeoutMillis Attente maximale
+     * @return true si tout a été écrit à temps
+     */
+    public boolean flush(long timeoutMillis) {
+        try {
+            // Le thread d'écriture est unique : cette tâche passe après les écritures demandées
+            writer.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            synchronized (pendingLock) {
+                return pending == null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Termine les écritures en attente puis arrête le thread d'écriture
+     */
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    /**
+     * Fusionne un instantané plus récent avec celui qui attend encore
+     * Le plus récent porte le contenu, les sections modifiées des deux sont réécrites
+     */
+    private static PendingSave merge(PendingSave older, SaveGame newer, long newerRequestedAtNanos) {
+        newer.mergeDirty(older.snapshot());
+        return new PendingSave(newer, Math.min(older.requestedAtNanos(), newerRequestedAtNanos));
+    }
+
+    /**
+     * Écrit le dernier instantané en attente (thread d'écriture)
+     */
+    private void drain() {
+        // Relâché avant la prise : une demande arrivant pendant l'écriture replanifie une passe
+        scheduled.set(false);
+        PendingSave save;
+        synchronized (pendingLock) {
+            save = pending;
+            pending = null;
+        }
+        if (save == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            lastResult = SaveFileIO.write(file, save.snapshot());
+            long end = System.nanoTime();
+            lastWriteNanos = end - start;
+            lastLatencyNanos = end - save.requestedAtNanos();
+            if (lastLatencyNanos > maxLatencyNanos) {
+                maxLatencyNanos = lastLatencyNanos;
+            }
+            writes.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            System.err.println("Erreur lors de la sauvegarde automatique : " + file);
+            e.printStackTrace();
+            // Les sections non écrites repartent avec la prochaine demande
+            synchronized (pendingLock) {
+                if (pending == null) {
+                    pending = save;
+                } else {
+                    pending.snapshot().mergeDirty(save.snapshot());
+                }
+            }
+        }
+    }
+
+    // === MÉTRIQUES ===
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Nombre d'écritures réellement effectuées (inférieur aux demandes en cas de fusion)
+     */
+    public long getWriteCount() {
+        return writes.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    public long getLastSnapshotMicros() {
+        return lastSnapshotNanos / NANOS_PER_MICRO;
+    }
+
+    public long getMaxSnapshotMicros() {
+        return maxSnapshotNanos / NANOS_PER_MICRO;
+    }
+
+    public long getLastWriteMicros() {
+        return lastWriteNanos / NANOS_PER_MICRO;
+    }
+
+    public long getLastLatencyMicros() {
+        return lastLatencyNanos / NANOS_PER_MICRO;
+    }
+
+    public long getMaxLatencyMicros() {
+        return maxLatencyNanos / NANOS_PER_MICRO;
+    }
+
+    public SaveFileIO.WriteResult getLastResult() {
+        return lastResult;
+    }
+
+    @Override
+    public String toString() {
+        return "Autosave[requests=" + getRequestCount() + ", writes=" + getWriteCount()
+            + ", failures=" + getFailureCount()
+            + ", snapshot=" + getLastSnapshotMicros() + "us (max " + getMaxSnapshotMicros() + "us)"
+            + ", write=" + getLastWriteMicros() + "us"
+            + ", latency=" + getLastLatencyMicros() + "us (max " + getMaxLatencyMicros() + "us)"
+            + ", last=" + lastResult + "]";
+    }
+}
@@ -0,0 +1,345 @@
+package save;
+
+// Java standard library imports
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Lecture et écriture des sauvegardes binaires (format décrit dans SaveFormat)
+ *
+ * ÉCRITURE:
+ * - Le fichier est écrit dans un fichier temporaire voisin via un FileChannel,
+ *   synchronisé sur disque (force) puis déplacé atomiquement à la place de l'ancien :
+ *   une coupure pendant l'écriture laisse toujours l'ancienne sauvegarde intacte
+ * - Écriture incrémentale : une section non modifiée depuis la dernière sauvegarde
+ *   est recopiée depuis l'ancien fichier (FileChannel.transferTo) sans être resérialisée,
+ *   à condition que ce fichier soit celui dont provient la partie (même chemin, même
+ *   taille, même CRC d'en-tête et de table) ; sinon toutes les sections sont réencodées
+ * - Les sections assez grandes (boîtes PC) sont compressées si cela réduit leur taille
+ *
+ * LECTURE:
+ * - Vérifie le magic, la version du format, la version et le CRC32 de chaque section,
+ *   puis décompresse les sections marquées FLAG_DEFLATE
+ *
+ * @author Lounol72
+ */
+public final class SaveFileIO {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private SaveFileIO() {}
+
+    /**
+     * Résultat d'une écriture (pour les métriques)
+     * @param sectionsEncoded Sections resérialisées
+     * @param sectionsCopied Sections recopiées depuis l'ancien fichier
+     * @param bytesWritten Taille du fichier écrit
+     */
+    public record WriteResult(int sectionsEncoded, int sectionsCopied, long bytesWritten) {
+    }
+
+    /**
+     * Entrée de la table des sections
+     */
+    private record SectionEntry(int id, int version, int flags, long offset, int length, int crc) {
+    }
+
+    /**
+     * Table des sections d'un fichier et empreinte de ce fichier
+     * @param tableCrc CRC32 de l'en-tête et de la table (qui contient le CRC de chaque section)
+     */
+    private record SectionTable(Map<Integer, SectionEntry> entries, long fileSize, int tableCrc) {
+    }
+
+    /**
+     * Écrit une sauvegarde de façon atomique et incrémentale
+     * @param file Fichier de sauvegarde
+     * @param game Partie à sauvegarder (ses sections sont marquées propres après l'écriture)
+     * @return Statistiques d'écriture
+     * @throws IOException en cas d'erreur d'écriture (l'ancien fichier est alors conservé)
+     */
+    public static WriteResult write(Path file, SaveGame game) throws IOException {
+        game.setSavedAtMillis(System.currentTimeMillis());
+
+        // Sections de l'ancien fichier réutilisables : seulement s'il est celui dont provient la partie
+        Map<Integer, SectionEntry> previous = Map.of();
+        if (Files.exists(file)) {
+            SectionTable table = readTableQuietly(file);
+            if (table != null && game.getOrigin().matches(file, table.fileSize(), table.tableCrc())) {
+                previous = table.entries();
+            }
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        ids.add(SaveFormat.SECTION_META);
+        ids.add(SaveFormat.SECTION_PARTY);
+        for (int i = 0; i < game.getBoxCount(); i++) {
+            ids.add(SaveFormat.boxSection(i));
+        }
+
+        // Préparer chaque section : nouveau contenu ou recopie
+        SectionEntry[] entries = new SectionEntry[ids.size()];
+        ByteBuffer[] encoded = new ByteBuffer[ids.size()];
+        long offset = SaveFormat.HEADER_SIZE + (long) ids.size() * SaveFormat.TABLE_ENTRY_SIZE;
+        int encodedCount = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            int id = ids.get(i);
+            int version = SaveFormat.sectionVersion(id);
+            SectionEntry old = previous.get(id);
+            if (old != null && old.version() == version && !game.isDirty(id)) {
+                entries[i] = new SectionEntry(id, version, old.flags(), offset, old.length(), old.crc());
+            } else {
+                encoded[i] = encodeSection(game, id);
+                int flags = 0;
+                ByteBuffer compressed = compress(encoded[i]);
+                if (compressed != null) {
+                    encoded[i] = compressed;
+                    flags = SaveFormat.FLAG_DEFLATE;
+                }
+                entries[i] = new SectionEntry(id, version, flags, offset, encoded[i].remaining(), crc(encoded[i]));
+                encodedCount++;
+            }
+            offset += entries[i].length();
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        ByteBuffer headerAndTable = headerAndTable(entries);
+        int tableCrc = crc(headerAndTable);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, headerAndTable);
+            try (FileChannel in = previous.isEmpty() ? null : FileChannel.open(file, StandardOpenOption.READ)) {
+                for (int i = 0; i < entries.length; i++) {
+                    if (encoded[i] != null) {
+                        writeFully(out, encoded[i]);
+                    } else {
+                        copyFully(in, previous.get(entries[i].id()), out);
+                    }
+                }
+            }
+            out.force(true);
+        }
+        moveAtomically(temp, file);
+
+        game.getOrigin().set(file, offset, tableCrc);
+        game.clearDirty();
+        return new WriteResult(encodedCount, entries.length - encodedCount, offset);
+    }
+
+    /**
+     * Lit une sauvegarde binaire
+     * @param file Fichier de sauvegarde
+     * @return La partie, avec toutes ses sections propres
+     * @throws IOException si le fichier est illisible, corrompu ou d'une version inconnue
+     */
+    public static SaveGame read(Path file) throws IOException {
+        SaveGame game = new SaveGame();
+        SectionTable table;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            table = readTable(in);
+            for (SectionEntry entry : table.entries().values()) {
+                if (entry.version() != SaveFormat.sectionVersion(entry.id())) {
+                    throw new IOException("Version de section non supportée : " + entry.id() + " v" + entry.version());
+                }
+                ByteBuffer content = ByteBuffer.allocate(entry.length());
+                readFully(in, content, entry.offset());
+                content.flip();
+                if (crc(content) != entry.crc()) {
+                    throw new IOException("Section corrompue (CRC) : " + entry.id());
+                }
+                if ((entry.flags() & ~SaveFormat.FLAG_DEFLATE) != 0) {
+                    throw new IOException("Drapeaux de section non supportés : " + entry.id());
+                }
+                if ((entry.flags() & SaveFormat.FLAG_DEFLATE) != 0) {
+                    content = inflate(content);
+                }
+                decodeSection(game, entry.id(), content);
+            }
+        }
+        game.getOrigin().set(file, table.fileSize(), table.tableCrc());
+        game.clearDirty();
+        return game;
+    }
+
+    // === SECTIONS ===
+
+    private static ByteBuffer encodeSection(SaveGame game, int id) {
+        if (id == SaveFormat.SECTION_META) {
+            return SaveFormat.encodeMeta(game.getSavedAtMillis());
+        }
+        if (id == SaveFormat.SECTION_PARTY) {
+            return SaveFormat.encodeIcmons(game.getParty());
+        }
+        return SaveFormat.encodeIcmons(game.getBox(id - SaveFormat.SECTION_BOX_BASE));
+    }
+
+    private static void decodeSection(SaveGame game, int id, ByteBuffer content) {
+        if (id == SaveFormat.SECTION_META) {
+            game.setSavedAtMillis(SaveFormat.decodeMeta(content));
+        } else if (id == SaveFormat.SECTION_PARTY) {
+            game.setParty(SaveFormat.decodeIcmons(content));
+        } else if (SaveFormat.isBoxSection(id)) {
+            game.setBox(id - SaveFormat.SECTION_BOX_BASE, SaveFormat.decodeIcmons(content));
+        }
+        // Section inconnue d'une version plus récente du jeu : ignorée
+    }
+
+    // === EN-TÊTE ET TABLE ===
+
+    private static ByteBuffer headerAndTable(SectionEntry[] entries) {
+        ByteBuffer buffer = ByteBuffer.allocate(SaveFormat.HEADER_SIZE + entries.length * SaveFormat.TABLE_ENTRY_SIZE);
+        buffer.putInt(SaveFormat.MAGIC);
+        buffer.putShort((short) SaveFormat.FORMAT_VERSION);
+        buffer.putShort((short) entries.length);
+        for (SectionEntry entry : entries) {
+            buffer.putShort((short) entry.id());
+            buffer.putShort((short) entry.version());
+            buffer.putShort((short) entry.flags());
+            buffer.putShort((short) 0);
+            buffer.putInt((int) entry.offset());
+            buffer.putInt(entry.length());
+            buffer.putInt(entry.crc());
+        }
+        return buffer.flip();
+    }
+
+    private static SectionTable readTable(FileChannel in) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SaveFormat.HEADER_SIZE);
+        readFully(in, header, 0);
+        header.flip();
+        if (header.getInt() != SaveFormat.MAGIC) {
+            throw new IOException("Ce fichier n'est pas une sauvegarde ICPocket");
+        }
+        int formatVersion = Short.toUnsignedInt(header.getShort());
+        if (formatVersion != SaveFormat.FORMAT_VERSION) {
+            throw new IOException("Version de sauvegarde non supportée : " + formatVersion);
+        }
+        int count = Short.toUnsignedInt(header.getShort());
+
+        ByteBuffer table = ByteBuffer.allocate(count * SaveFormat.TABLE_ENTRY_SIZE);
+        readFully(in, table, SaveFormat.HEADER_SIZE);
+        table.flip();
+        CRC32 tableCrc = new CRC32();
+        tableCrc.update(header.flip());
+        tableCrc.update(table.duplicate());
+        Map<Integer, SectionEntry> entries = new HashMap<>();
+        long fileSize = in.size();
+        for (int i = 0; i < count; i++) {
+            int id = Short.toUnsignedInt(table.getShort());
+            int version = Short.toUnsignedInt(table.getShort());
+            int flags = Short.toUnsignedInt(table.getShort());
+            table.getShort(); // réservé
+            long offset = Integer.toUnsignedLong(table.getInt());
+            int length = table.getInt();
+            int crc = table.getInt();
+            if (length < 0 || offset + length > fileSize) {
+                throw new IOException("Table des sections invalide (section " + id + ")");
+            }
+            entries.put(id, new SectionEntry(id, version, flags, offset, length, crc));
+        }
+        return new SectionTable(entries, fileSize, (int) tableCrc.getValue());
+    }
+
+    /**
+     * Lit la table de l'ancien fichier ; un fichier illisible est simplement réécrit en entier
+     */
+    private static SectionTable readTableQuietly(Path file) {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readTable(in);
+        } catch (IOException e) {
+            System.err.println("Ancienne sauvegarde illisible, réécriture complète : " + e.getMessage());
+            return null;
+        }
+    }
+
+    // === COMPRESSION ===
+
+    /**
+     * Compresse une section
+     * @return Contenu compressé, ou null si la section est trop petite ou ne rétrécit pas
+     */
+    private static ByteBuffer compress(ByteBuffer raw) {
+        if (raw.remaining() < SaveFormat.COMPRESSION_THRESHOLD) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.remaining());
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(raw.array(), raw.arrayOffset() + raw.position(), raw.remaining());
+        } catch (IOException e) {
+            // Impossible avec un ByteArrayOutputStream
+            return null;
+        } finally {
+            deflater.end();
+        }
+        return bytes.size() < raw.remaining() ? ByteBuffer.wrap(bytes.toByteArray()) : null;
+    }
+
+    private static ByteBuffer inflate(ByteBuffer stored) throws IOException {
+        try (InflaterInputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(stored.array(), stored.arrayOffset() + stored.position(), stored.remaining()))) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    // === OUTILS ===
+
+    private static int crc(ByteBuffer content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Fin de fichier inattendue");
+            }
+        }
+    }
+
+    private static void copyFully(FileChannel in, SectionEntry source, FileChannel out) throws IOException {
+        long position = source.offset();
+        long remaining = source.length();
+        while (remaining > 0) {
+            long copied = in.transferTo(position, remaining, out);
+            if (copied <= 0) {
+                throw new IOException("Copie de section interrompue : " + source.id());
+            }
+            position += copied;
+            remaining -= copied;
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Système de fichiers sans renommage atomique : remplacement simple
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
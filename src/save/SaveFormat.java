@@ -0,0 +1,178 @@
+package save;
+
+// Java standard library imports
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Schéma du format de sauvegarde binaire
+ *
+ * EN-TÊTE (8 octets, big-endian):
+ * - magic "ICPS" (4), version du format (u16), nombre de sections (u16)
+ *
+ * TABLE DES SECTIONS (20 octets par section):
+ * - identifiant (u16), version de la section (u16), drapeaux (u16), réservé (u16),
+ *   position dans le fichier (u32), longueur (u32), CRC32 du contenu (u32)
+ *
+ * SECTIONS:
+ * - META (1) : date de sauvegarde (i64)
+ * - PARTY (2) : liste d'ICMons de l'équipe
+ * - BOX (16 + n) : liste d'ICMons de la boîte PC n
+ *
+ * Une liste d'ICMons est encodée comme : nombre (u16) puis pour chaque ICMon
+ * espèce (u16), niveau (u8), nature (chaîne), attaques (u8 + u16 chacune),
+ * IV (u8 + u8 chacun), types (u8 + chaînes). Chaîne = longueur (u8) + UTF-8.
+ * Une valeur qui ne tient pas dans son champ est refusée à l'écriture
+ * (IllegalArgumentException) au lieu d'être tronquée.
+ *
+ * DRAPEAUX:
+ * - FLAG_DEFLATE : contenu compressé (Deflate) ; le CRC porte sur les octets stockés
+ *
+ * Chaque section a sa propre version : une section d'une version inconnue est
+ * refusée à la lecture au lieu d'être mal interprétée.
+ *
+ * @author Lounol72
+ */
+public final class SaveFormat {
+
+    public static final int MAGIC = 0x49435053; // "ICPS"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final int HEADER_SIZE = 8;
+    public static final int TABLE_ENTRY_SIZE = 20;
+
+    // === SECTIONS ===
+    public static final int SECTION_META = 1;
+    public static final int SECTION_PARTY = 2;
+    public static final int SECTION_BOX_BASE = 16;
+
+    // === DRAPEAUX ===
+    public static final int FLAG_DEFLATE = 1;
+    public static final int COMPRESSION_THRESHOLD = 128; // En dessous, la compression ne gagne rien
+
+    public static final int META_VERSION = 1;
+    public static final int ICMON_LIST_VERSION = 1;
+
+    private SaveFormat() {}
+
+    public static int boxSection(int boxIndex) {
+        return SECTION_BOX_BASE + boxIndex;
+    }
+
+    public static boolean isBoxSection(int section) {
+        return section >= SECTION_BOX_BASE;
+    }
+
+    public static int sectionVersion(int section) {
+        return section == SECTION_META ? META_VERSION : ICMON_LIST_VERSION;
+    }
+
+    // === META ===
+
+    static ByteBuffer encodeMeta(long savedAtMillis) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        buffer.putLong(savedAtMillis);
+        return buffer.flip();
+    }
+
+    static long decodeMeta(ByteBuffer buffer) {
+        return buffer.getLong();
+    }
+
+    // === LISTES D'ICMONS ===
+
+    static ByteBuffer encodeIcmons(List<SavedIcmon> icmons) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Short.BYTES + icmons.size() * 48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeU16(out, icmons.size(), "nombre d'ICMons");
+            for (SavedIcmon icmon : icmons) {
+                writeU16(out, icmon.speciesId(), "espèce");
+                writeU8(out, icmon.level(), "niveau");
+                writeString(out, icmon.nature());
+                writeU8(out, icmon.moves().size(), "nombre d'attaques");
+                for (int move : icmon.moves()) {
+                    writeU16(out, move, "attaque");
+                }
+                writeU8(out, icmon.ivs().size(), "nombre d'IV");
+                for (int iv : icmon.ivs()) {
+                    writeU8(out, iv, "IV");
+                }
+                writeU8(out, icmon.types().size(), "nombre de types");
+                for (String type : icmon.types()) {
+                    writeString(out, type);
+                }
+            }
+        } catch (IOException e) {
+            // Impossible avec un ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    static List<SavedIcmon> decodeIcmons(ByteBuffer buffer) {
+        int count = Short.toUnsignedInt(buffer.getShort());
+        List<SavedIcmon> icmons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int species = Short.toUnsignedInt(buffer.getShort());
+            int level = Byte.toUnsignedInt(buffer.get());
+            String nature = getString(buffer);
+            List<Integer> moves = new ArrayList<>();
+            for (int m = Byte.toUnsignedInt(buffer.get()); m > 0; m--) {
+                moves.add(Short.toUnsignedInt(buffer.getShort()));
+            }
+            List<Integer> ivs = new ArrayList<>();
+            for (int v = Byte.toUnsignedInt(buffer.get()); v > 0; v--) {
+                ivs.add(Byte.toUnsignedInt(buffer.get()));
+            }
+            List<String> types = new ArrayList<>();
+            for (int t = Byte.toUnsignedInt(buffer.get()); t > 0; t--) {
+                types.add(getString(buffer));
+            }
+            icmons.add(new SavedIcmon(species, level, nature, moves, ivs, types));
+        }
+        return icmons;
+    }
+
+    // === OUTILS ===
+
+    /**
+     * Écrit un entier non signé sur 8 bits ; refuse une valeur hors limites au lieu de la tronquer
+     */
+    private static void writeU8(DataOutputStream out, int value, String field) throws IOException {
+        if (value < 0 || value > 0xFF) {
+            throw new IllegalArgumentException("Valeur hors limites pour la sauvegarde (" + field + ") : " + value);
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Écrit un entier non signé sur 16 bits ; refuse une valeur hors limites au lieu de la tronquer
+     */
+    private static void writeU16(DataOutputStream out, int value, String field) throws IOException {
+        if (value < 0 || value > 0xFFFF) {
+            throw new IllegalArgumentException("Valeur hors limites pour la sauvegarde (" + field + ") : " + value);
+        }
+        out.writeShort(value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 255) {
+            throw new IllegalArgumentException("Chaîne trop longue pour la sauvegarde : " + value);
+        }
+        out.writeByte(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Byte.toUnsignedInt(buffer.get())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
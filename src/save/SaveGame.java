@@ -0,0 +1,199 @@
+package save;
+
+// Java standard library imports
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Partie sauvegardable : équipe, boîtes PC et suivi des sections modifiées
+ *
+ * Chaque modification marque la section concernée comme "sale" ; lors de l'écriture,
+ * seules les sections sales sont resérialisées, les autres sont recopiées telles quelles
+ * depuis le fichier précédent (voir SaveFileIO).
+ *
+ * Les sections propres ne décrivent que le fichier dont la partie provient (dernière
+ * lecture ou écriture) : cette origine est mémorisée (chemin, taille, CRC de l'en-tête
+ * et de la table) et la recopie n'a lieu que si le fichier cible est toujours celui-là.
+ *
+ * @author Lounol72
+ */
+public final class SaveGame {
+
+    public static final int MAX_PARTY_SIZE = 6;
+    public static final int BOX_CAPACITY = 30;
+
+    private final List<SavedIcmon> party = new ArrayList<>();
+    private final List<List<SavedIcmon>> boxes = new ArrayList<>();
+    private long savedAtMillis;
+
+    // Sections à resérialiser, indexées par identifiant de section (SaveFormat)
+    private final BitSet dirty = new BitSet();
+
+    // Fichier décrit par les sections propres (partagé avec les instantanés)
+    private final Origin origin;
+
+    public SaveGame() {
+        this(new Origin());
+        markAllDirty();
+    }
+
+    private SaveGame(Origin origin) {
+        this.origin = origin;
+    }
+
+    // === ÉQUIPE ===
+
+    public List<SavedIcmon> getParty() {
+        return Collections.unmodifiableList(party);
+    }
+
+    public void setParty(List<SavedIcmon> icmons) {
+        if (icmons.size() > MAX_PARTY_SIZE) {
+            throw new IllegalArgumentException("Équipe trop grande : " + icmons.size());
+        }
+        party.clear();
+        party.addAll(icmons);
+        dirty.set(SaveFormat.SECTION_PARTY);
+    }
+
+    public void setPartyMember(int index, SavedIcmon icmon) {
+        party.set(index, icmon);
+        dirty.set(SaveFormat.SECTION_PARTY);
+    }
+
+    // === BOÎTES PC ===
+
+    public int getBoxCount() {
+        return boxes.size();
+    }
+
+    public List<SavedIcmon> getBox(int index) {
+        return Collections.unmodifiableList(boxes.get(index));
+    }
+
+    /**
+     * Remplace le contenu d'une boîte (les boîtes manquantes sont créées vides)
+     */
+    public void setBox(int index, List<SavedIcmon> icmons) {
+        if (icmons.size() > BOX_CAPACITY) {
+            throw new IllegalArgumentException("Boîte trop pleine : " + icmons.size());
+        }
+        while (boxes.size() <= index) {
+            dirty.set(SaveFormat.boxSection(boxes.size()));
+            boxes.add(new ArrayList<>());
+        }
+        boxes.get(index).clear();
+        boxes.get(index).addAll(icmons);
+        dirty.set(SaveFormat.boxSection(index));
+    }
+
+    /**
+     * Range un ICMon dans la première boîte ayant de la place
+     * @return Index de la boîte utilisée
+     */
+    public int addToPc(SavedIcmon icmon) {
+        for (int i = 0; i < boxes.size(); i++) {
+            if (boxes.get(i).size() < BOX_CAPACITY) {
+                boxes.get(i).add(icmon);
+                dirty.set(SaveFormat.boxSection(i));
+                return i;
+            }
+        }
+        setBox(boxes.size(), List.of(icmon));
+        return boxes.size() - 1;
+    }
+
+    // === MÉTADONNÉES ===
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    void setSavedAtMillis(long savedAtMillis) {
+        this.savedAtMillis = savedAtMillis;
+        dirty.set(SaveFormat.SECTION_META);
+    }
+
+    // === SUIVI DES MODIFICATIONS ===
+
+    public boolean isDirty(int section) {
+        return dirty.get(section);
+    }
+
+    public boolean hasChanges() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Force la réécriture complète à la prochaine sauvegarde
+     */
+    public void markAllDirty() {
+        dirty.set(SaveFormat.SECTION_META);
+        dirty.set(SaveFormat.SECTION_PARTY);
+        for (int i = 0; i < boxes.size(); i++) {
+            dirty.set(SaveFormat.boxSection(i));
+        }
+    }
+
+    void clearDirty() {
+        dirty.clear();
+    }
+
+    Origin getOrigin() {
+        return origin;
+    }
+
+    // === INSTANTANÉS ===
+
+    /**
+     * Copie détachée de la partie, à écrire depuis un autre thread
+     * Les ICMons étant immuables, seules les listes sont copiées (quelques centaines de
+     * références au plus). Les sections modifiées passent à l'instantané : la partie
+     * repart propre et n'accumule que les modifications suivantes.
+     * @return L'instantané, portant les sections à resérialiser
+     */
+    public SaveGame snapshot() {
+        SaveGame copy = new SaveGame(origin);
+        copy.party.addAll(party);
+        for (List<SavedIcmon> box : boxes) {
+            copy.boxes.add(new ArrayList<>(box));
+        }
+        copy.savedAtMillis = savedAtMillis;
+        copy.dirty.clear();
+        copy.dirty.or(dirty);
+        dirty.clear();
+        return copy;
+    }
+
+    /**
+     * Reprend les sections modifiées d'un instantané plus ancien qui n'a pas été écrit
+     */
+    void mergeDirty(SaveGame older) {
+        dirty.or(older.dirty);
+    }
+
+    /**
+     * Empreinte du fichier dont proviennent les sections propres
+     * Partagée entre une partie et ses instantanés : l'écriture d'un instantané par le
+     * thread de sauvegarde met à jour l'origine de la partie en cours
+     */
+    static final class Origin {
+        private Path file;
+        private long size;
+        private int tableCrc;
+
+        synchronized void set(Path file, long size, int tableCrc) {
+            this.file = file.toAbsolutePath().normalize();
+            this.size = size;
+            this.tableCrc = tableCrc;
+        }
+
+        synchronized boolean matches(Path file, long size, int tableCrc) {
+            return this.file != null && this.file.equals(file.toAbsolutePath().normalize())
+                && this.size == size && this.tableCrc == tableCrc;
+        }
+    }
+}
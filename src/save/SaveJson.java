@@ -0,0 +1,126 @@
+package save;
+
+// Java standard library imports
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Third-party library imports
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Import / export des sauvegardes au format JSON historique (res/data/save_*.json)
+ *
+ * FORMAT:
+ * - "icmons" : équipe, chaque ICMon ayant id, lvl, nature, nb_move, moves, iv, types
+ *   (les attaques et IV sont des chaînes, comme dans les fichiers existants)
+ * - "pc" (optionnel) : tableau de boîtes, chaque boîte étant un tableau d'ICMons
+ *
+ * Le format binaire (SaveFileIO) est le format de sauvegarde du jeu ; le JSON reste
+ * disponible pour éditer une sauvegarde à la main ou reprendre une ancienne partie.
+ *
+ * @author Lounol72
+ */
+public final class SaveJson {
+
+    private SaveJson() {}
+
+    /**
+     * Importe une sauvegarde JSON
+     * @param file Fichier JSON
+     * @return La partie, entièrement marquée comme modifiée
+     * @throws IOException si le fichier est illisible ou mal formé
+     */
+    public static SaveGame importFrom(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+            SaveGame game = new SaveGame();
+            game.setParty(readIcmons(root.getAsJsonArray("icmons")));
+            if (root.has("pc")) {
+                JsonArray boxes = root.getAsJsonArray("pc");
+                for (int i = 0; i < boxes.size(); i++) {
+                    game.setBox(i, readIcmons(boxes.get(i).getAsJsonArray()));
+                }
+            }
+            return game;
+        } catch (RuntimeException e) {
+            throw new IOException("Sauvegarde JSON invalide : " + file, e);
+        }
+    }
+
+    /**
+     * Exporte une sauvegarde au format JSON
+     * @param file Fichier JSON à écrire
+     * @param game Partie à exporter
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void exportTo(Path file, SaveGame game) throws IOException {
+        JsonObject root = new JsonObject();
+        root.add("icmons", writeIcmons(game.getParty()));
+        if (game.getBoxCount() > 0) {
+            JsonArray boxes = new JsonArray();
+            for (int i = 0; i < game.getBoxCount(); i++) {
+                boxes.add(writeIcmons(game.getBox(i)));
+            }
+            root.add("pc", boxes);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(root, writer);
+        }
+    }
+
+    // === CONVERSIONS ===
+
+    private static List<SavedIcmon> readIcmons(JsonArray array) {
+        List<SavedIcmon> icmons = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            JsonObject icmon = element.getAsJsonObject();
+            List<Integer> moves = new ArrayList<>();
+            for (JsonElement move : icmon.getAsJsonArray("moves")) {
+                moves.add(move.getAsInt());
+            }
+            List<Integer> ivs = new ArrayList<>();
+            for (JsonElement iv : icmon.getAsJsonArray("iv")) {
+                ivs.add(iv.getAsInt());
+            }
+            List<String> types = new ArrayList<>();
+            for (JsonElement type : icmon.getAsJsonArray("types")) {
+                types.add(type.getAsString());
+            }
+            icmons.add(new SavedIcmon(icmon.get("id").getAsInt(), icmon.get("lvl").getAsInt(),
+                icmon.get("nature").getAsString(), moves, ivs, types));
+        }
+        return icmons;
+    }
+
+    private static JsonArray writeIcmons(List<SavedIcmon> icmons) {
+        JsonArray array = new JsonArray();
+        for (SavedIcmon icmon : icmons) {
+            JsonObject object = new JsonObject();
+            object.addProperty("id", icmon.speciesId());
+            object.addProperty("lvl", icmon.level());
+            object.addProperty("nature", icmon.nature());
+            object.addProperty("nb_move", icmon.moves().size());
+            JsonArray moves = new JsonArray();
+            icmon.moves().forEach(move -> moves.add(String.valueOf(move)));
+            object.add("moves", moves);
+            JsonArray ivs = new JsonArray();
+            icmon.ivs().forEach(iv -> ivs.add(String.valueOf(iv)));
+            object.add("iv", ivs);
+            JsonArray types = new JsonArray();
+            icmon.types().forEach(types::add);
+            object.add("types", types);
+            array.add(object);
+        }
+        return array;
+    }
+}
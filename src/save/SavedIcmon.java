@@ -0,0 +1,26 @@
+package save;
+
+// Java standard library imports
+import java.util.List;
+
+/**
+ * ICMon sauvegardé (équipe ou boîte PC)
+ *
+ * @param speciesId Identifiant de l'espèce (à partir de 1, comme dans data.json)
+ * @param level Niveau
+ * @param nature Nom de la nature
+ * @param moves Identifiants des attaques connues (1 à 4)
+ * @param ivs Valeurs individuelles (6 statistiques)
+ * @param types Types de l'ICMon
+ *
+ * @author Lounol72
+ */
+public record SavedIcmon(int speciesId, int level, String nature,
+                         List<Integer> moves, List<Integer> ivs, List<String> types) {
+
+    public SavedIcmon {
+        moves = List.copyOf(moves);
+        ivs = List.copyOf(ivs);
+        types = List.copyOf(types);
+    }
+}
@@ -118,7 +118,7 @@ public class PhysicsService {
         // Vérifier si le joueur est debout sur une plateforme one-way
         if (down && !inAir && dropThroughGraceFrames == 0) {
             // Créer une hitbox de test légèrement en dessous pour détecter la plateforme
-            Rectangle2D.Float groundCheckHitbox = new Rectangle2D.Float(
+            Rectangle2D.Float groundCheckHitbox = HelpMethods.ObtainHitbox(
                 hitbox.x, 
                 hitbox.y + hitbox.height + 1, 
                 hitbox.width, 
@@ -126,7 +126,13 @@ public class PhysicsService {
             );
             
             // Vérifier s'il y a une plateforme one-way sous les pieds
-            if (HelpMethods.checkOneWayPlatformCollision(groundCheckHitbox, currentLevel, physicsBody.getVelocity(), false)) {
+            boolean onOneWay;
+            try {
+                onOneWay = HelpMethods.checkOneWayPlatformCollision(groundCheckHitbox, currentLevel, physicsBody.getVelocity(), false);
+            } finally {
+                HelpMethods.FreeHitbox(groundCheckHitbox);
+            }
+            if (onOneWay) {
                 // DROP-THROUGH DÉTECTÉ → Forcer le passage à travers
                 PhysicsDebugger.logPhysicsState("DROP THROUGH ONE-WAY", inAir, isJumping, physicsBody.getVelocity());
                 
@@ -161,8 +167,7 @@ public class PhysicsService {
             }
             
             // Application de la force de gravité
-            Vector2D gravityForce = new Vector2D(0, GRAVITY * gravityMultiplier);
-            physicsBody.replaceForceOfType(gravityForce, ForceType.GRAVITY);
+            physicsBody.replaceForceOfType(0, GRAVITY * gravityMultiplier, ForceType.GRAVITY);
             
             // Debug: Logger la force appliquée
             PhysicsDebugger.logForceApplied("GRAVITY", 0, GRAVITY * gravityMultiplier);
@@ -198,7 +203,7 @@ public class PhysicsService {
         }
         
         // Utilise replaceForceOfType pour éviter l'accumulation
-        physicsBody.replaceForceOfType(new Vector2D(acceleration, 0), ForceType.INPUT);
+        physicsBody.replaceForceOfType(acceleration, 0, ForceType.INPUT);
     }
     
     /**
@@ -349,7 +354,7 @@ public class PhysicsService {
             float currentY = hitbox.y + velocity.y * progress;
             
             // Créer une hitbox de test pour cette position intermédiaire
-            Rectangle2D.Float testHitbox = new Rectangle2D.Float(
+            Rectangle2D.Float testHitbox = HelpMethods.ObtainHitbox(
                 currentX,
                 currentY,
                 hitbox.width,
@@ -357,12 +362,17 @@ public class PhysicsService {
             );
             
             // Vérifier s'il y a une plateforme one-way qui bloque à cette position
-            Rectangle2D.Float blockingPlatform = HelpMethods.getBlockingOneWayPlatform(
-                testHitbox, 
-                currentLevel, 
-                velocity, 
-                down
-            );
+            Rectangle2D.Float blockingPlatform;
+            try {
+                blockingPlatform = HelpMethods.getBlockingOneWayPlatform(
+                    testHitbox, 
+                    currentLevel, 
+                    velocity, 
+                    down
+                );
+            } finally {
+                HelpMethods.FreeHitbox(testHitbox);
+            }
             
             if (blockingPlatform != null) {
                 return blockingPlatform;
@@ -397,7 +407,7 @@ public class PhysicsService {
      */
     private void cleanupAndSync() {
         updatePhysicsFromHitbox();
-        physicsBody.getForces().removeIf(force -> !force.update());
+        physicsBody.updateForces();
     }
     
     /**
@@ -454,31 +464,33 @@ public class PhysicsService {
         PhysicsDebugger.logJump(JUMP_FORCE, physicsBody.getVelocity().y);
         
         // APPLICATION DE LA FORCE DE SAUT
-        physicsBody.addForce(
-            new Vector2D(0, JUMP_FORCE), 
-            ForceType.JUMP, 
-            JUMP_MAX_TIME
-        );
+        physicsBody.addForce(0, JUMP_FORCE, ForceType.JUMP, JUMP_MAX_TIME);
     }
     
     /**
      * Vérifie s'il y a une collision avec le plafond
      */
     private boolean checkCeilingCollision() {
-        Rectangle2D.Float ceilingCheckHitbox = new Rectangle2D.Float(
+        Rectangle2D.Float ceilingCheckHitbox = HelpMethods.ObtainHitbox(
             physicsBody.getPosition().x, 
             physicsBody.getPosition().y,
             physicsBody.getPosition().x + 48, // Largeur par défaut
             physicsBody.getPosition().y + 1
         );
         
-        for (Rectangle2D.Float collisionRect : currentLevel.getSolidCollisions()) {
-            if (ceilingCheckHitbox.intersects(collisionRect)) {
-                return true;
+        boolean blocked = false;
+        try {
+            for (Rectangle2D.Float collisionRect : currentLevel.getSolidCollisions()) {
+                if (ceilingCheckHitbox.intersects(collisionRect)) {
+                    blocked = true;
+                    break;
+                }
             }
+        } finally {
+            HelpMethods.FreeHitbox(ceilingCheckHitbox);
         }
         
-        return false;
+        return blocked;
     }
     
     /**
@@ -3,12 +3,17 @@ package states;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 
 import game.Game;
+import ui.BitmapFont;
+import ui.FontCache;
 import ui.MenuButtons;
+import ui.RetainedScreen;
 import static utilz.Constants.SCALE;
 import static utilz.Constants.WORLD.GAME_HEIGHT;
 import static utilz.Constants.WORLD.GAME_WIDTH;
@@ -16,9 +21,13 @@ import static utilz.HelpMethods.GetPhrase;
 import utilz.LoadSave;
 public class Menu extends State implements StateMethods{
 
+    private static final BitmapFont TITLE_FONT = BitmapFont.Get(FontCache.Get(Font.BOLD, (int) (16 * SCALE)), Color.WHITE);
+
     private String languageString;
+    private int languageStringX;
     private MenuButtons[] buttons;
-    private BufferedImage backgroundImage;
+    private BufferedImage backgroundImage; // Déjà à la taille de l'écran
+    private final RetainedScreen screen = new RetainedScreen(this::paint);
     /**
      * Constructor
      * */
@@ -28,7 +37,7 @@ public class Menu extends State implements StateMethods{
     }
 
     private void initClasses() {
-        languageString = GetPhrase("menu");
+        setTitle(GetPhrase("menu"));
         buttons = new MenuButtons[]{
             new MenuButtons(GAME_WIDTH / 2 - 100, GAME_HEIGHT / 2 - 50, 200, 50, 0, "start", GameState.WORLD),
             new MenuButtons(GAME_WIDTH / 2 - 100, GAME_HEIGHT / 2 , 200, 50, 1, "settings", GameState.SETTINGS),
@@ -36,8 +45,24 @@ public class Menu extends State implements StateMethods{
         };
 
         
-        // Load background image
-        backgroundImage = LoadSave.GetSpriteAtlas(LoadSave.UI + "menu_background.jpg");
+        // Load background image, scaled once to the screen size
+        backgroundImage = scaleToScreen(LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND));
+        screen.watch(buttons);
+    }
+
+    /**
+     * Met l'image de fond à la taille de l'écran une seule fois (et non à chaque dessin)
+     */
+    private static BufferedImage scaleToScreen(BufferedImage source) {
+        if (source == null) {
+            return null;
+        }
+        BufferedImage scaled = new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(source, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
+        g2d.dispose();
+        return scaled;
     }
 
     /**
@@ -45,12 +70,16 @@ public class Menu extends State implements StateMethods{
      */
     @Override
     public void draw( Graphics g ) {
+        screen.draw(g);
+    }
 
-        
+    /**
+     * Dessin complet du menu (appelé par le RetainedScreen, découpé à la zone sale)
+     */
+    private void paint( Graphics g ) {
         // Draw background image if available, otherwise fallback to solid color
         if (backgroundImage != null) {
-            // Scale background to fit screen
-            g.drawImage(backgroundImage, 0, 0, GAME_WIDTH, GAME_HEIGHT, null);
+            g.drawImage(backgroundImage, 0, 0, null);
         } else {
             // Fallback background
             g.setColor(new Color(30, 52, 62));
@@ -58,9 +87,7 @@ public class Menu extends State implements StateMethods{
         }
         
         // Draw menu title
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, (int) (16 * SCALE)));
-        g.drawString(languageString, GAME_WIDTH / 2 - g.getFontMetrics().stringWidth(languageString) / 2, 100);
+        TITLE_FONT.draw(g, languageString, languageStringX, 100);
         
         // Draw buttons
         for (MenuButtons mb : buttons)
@@ -74,6 +101,7 @@ public class Menu extends State implements StateMethods{
     public void update() {
         for (MenuButtons mb : buttons)
             mb.update();
+        screen.update();
     }
 
     /**
@@ -145,11 +173,24 @@ public class Menu extends State implements StateMethods{
             mb.resetBools();
     }
 
+    /**
+     * Change le titre et recalcule sa position une seule fois (pas à chaque frame)
+     */
+    private void setTitle(String title) {
+        languageString = title;
+        languageStringX = GAME_WIDTH / 2 - TITLE_FONT.stringWidth(title) / 2;
+    }
+
     @Override
     public void UpdateStrings() {
-        languageString = GetPhrase("menu");
+        setTitle(GetPhrase("menu"));
         // mettre à jour le texte des boutons
         for (MenuButtons mb : buttons)
             mb.setText(GetPhrase(mb.getBaseText()));
+        screen.invalidate();
+    }
+
+    public RetainedScreen getScreen() {
+        return screen;
     }
 }
@@ -8,13 +8,18 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
 import game.Game;
+import ui.FontCache;
+import ui.RetainedScreen;
 import static utilz.Constants.WORLD.GAME_HEIGHT;
 import static utilz.Constants.WORLD.GAME_WIDTH;
 import static utilz.HelpMethods.GetPhrase;
 
 public class Settings extends State implements StateMethods {
 
+    private static final Font TITLE_FONT = FontCache.Get(Font.PLAIN, 20);
+
     private String languageString;
+    private final RetainedScreen screen = new RetainedScreen(this::paint);
 
     public Settings( Game game){
         super(game);
@@ -30,10 +35,17 @@ public class Settings extends State implements StateMethods {
      */
     @Override
     public void draw( Graphics g ) {
+        screen.draw(g);
+    }
+
+    /**
+     * Dessin complet de l'écran (appelé par le RetainedScreen, découpé à la zone sale)
+     */
+    private void paint( Graphics g ) {
             g.setColor(Color.RED);
             g.fillRect(0,0,GAME_WIDTH,GAME_HEIGHT);
             g.setColor(Color.BLACK);
-            g.setFont(new Font("Arial", Font.PLAIN, 20));
+            g.setFont(TITLE_FONT);
             g.drawString(languageString, 100, 100);
             
     }
@@ -108,5 +120,10 @@ public class Settings extends State implements StateMethods {
 
     public void UpdateStrings() {
         languageString = GetPhrase("settings");
+        screen.invalidate();
+    }
+
+    public RetainedScreen getScreen() {
+        return screen;
     }
 }
@@ -4,18 +4,25 @@ import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 
 import game.Game;
+import ui.BitmapFont;
+import ui.FontCache;
+import ui.RetainedScreen;
 import static states.GameState.START;
+import static utilz.Constants.TIMERS.UPS;
 import static utilz.Constants.WORLD.GAME_HEIGHT;
 import static utilz.Constants.WORLD.GAME_WIDTH;
+import utilz.AssetManager;
+import utilz.ImageCache;
 import utilz.LoadSave;
+import utilz.TimerWheel;
 
 public class Splash extends State implements StateMethods {
 
@@ -30,22 +37,56 @@ public class Splash extends State implements StateMethods {
 
     // Fade parameters
     private float alpha = 0f; // 0..1
-    private int phase = 0; // 0: fade-in, 1: hold, 2: fade-out
-    private long phaseStartMs = System.currentTimeMillis();
+    private int phase = 0; // 0: fade-in, 1: hold, 2: fade-out (fin du maintien programmée sur la TimerWheel)
 
     private static final long HOLD_DURATION_MS = 800; // time fully visible
     private static final float FADE_SECONDS = 1.0f;   // fade in/out duration
     
+    // Loading bar
+    private static final int LOADING_BAR_WIDTH = (int) (GAME_WIDTH * 0.4f);
+    private static final int LOADING_BAR_HEIGHT = 6;
+
+    // Fonts
+    private static final BitmapFont TITLE_FONT = BitmapFont.Get(FontCache.Get(Font.BOLD, 28), Color.WHITE);
+    private static final BitmapFont PROMPT_FONT = BitmapFont.Get(FontCache.Get(Font.PLAIN, 16), new Color(255, 255, 255, 200));
+
     // Text positioning
     private int promptTextX, promptTextY;
     private boolean promptPosCalc = false;
 
+    // Rendu retenu : seuls le logo (fondu) et la bande du bas (chargement, prompt) changent
+    private final RetainedScreen screen = new RetainedScreen(this::paint);
+    private final Rectangle logoBounds = new Rectangle();
+    private static final Rectangle BOTTOM_BAND = new Rectangle(0, (int) (GAME_HEIGHT * 0.85f), GAME_WIDTH, GAME_HEIGHT - (int) (GAME_HEIGHT * 0.85f));
+    private float drawnAlpha = -1f;
+    private float drawnProgress = -1f;
+    private boolean drawnReady;
+
     public Splash(Game game) {
         super(game);
         // Try to load logo; fall back if missing
-        logo = LoadSave.GetSpriteAtlas(LoadSave.UI + "logo.png");
+        logo = loadScaledLogo();
+        if (logo != null) {
+            logoBounds.setBounds(GAME_WIDTH / 2 - logo.getWidth() / 2, GAME_HEIGHT / 2 - 24 - logo.getHeight() / 2,
+                logo.getWidth(), logo.getHeight());
+        }
         loadStrings();
     }
+
+    /**
+     * Charge le logo déjà mis à l'échelle de l'écran (épinglé dans l'ImageCache)
+     * Évite de redimensionner l'image 1200x1200 à chaque frame
+     */
+    private static BufferedImage loadScaledLogo() {
+        BufferedImage original = LoadSave.GetSpriteAtlas(LoadSave.LOGO);
+        if (original == null) {
+            return null;
+        }
+        float scaleX = (float) MAX_LOGO_WIDTH / original.getWidth();
+        float scaleY = (float) MAX_LOGO_HEIGHT / original.getHeight();
+        float scale = Math.min(scaleX, scaleY); // Use smaller scale to fit within bounds
+        return ImageCache.getInstance().acquire(LoadSave.LOGO, scale);
+    }
     
     private void loadStrings() {
         gameName = "Pocket";
@@ -54,6 +95,13 @@ public class Splash extends State implements StateMethods {
 
     @Override
     public void draw(Graphics g) {
+        screen.draw(g);
+    }
+
+    /**
+     * Dessin complet de l'écran (appelé par le RetainedScreen, découpé à la zone sale)
+     */
+    private void paint(Graphics g) {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setColor(new Color(30, 52, 62));
         g2d.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
@@ -66,47 +114,51 @@ public class Splash extends State implements StateMethods {
         int centerY = GAME_HEIGHT / 2 - 24;
 
         if (logo != null) {
-            // Calculate scaled dimensions maintaining aspect ratio
-            int originalWidth = logo.getWidth();
-            int originalHeight = logo.getHeight();
-            
-            float scaleX = (float) MAX_LOGO_WIDTH / originalWidth;
-            float scaleY = (float) MAX_LOGO_HEIGHT / originalHeight;
-            float scale = Math.min(scaleX, scaleY); // Use smaller scale to fit within bounds
-            
-            int scaledWidth = (int) (originalWidth * scale);
-            int scaledHeight = (int) (originalHeight * scale);
-            
-            int x = centerX - scaledWidth / 2;
-            int y = centerY - scaledHeight / 2;
-            g2d.drawImage(logo, x, y, scaledWidth, scaledHeight, null);
+            // Logo already scaled to fit within bounds
+            int x = centerX - logo.getWidth() / 2;
+            int y = centerY - logo.getHeight() / 2;
+            g2d.drawImage(logo, x, y, null);
         }
 
         g2d.setComposite(prev);
 
         // Draw title (always visible, not affected by fade animation)
-        g.setFont(new Font("Arial", Font.BOLD, 28));
-        g.setColor(Color.WHITE);
         int textX = (int) (GAME_WIDTH * 0.1f);
         int textY = (int) (GAME_HEIGHT * 0.1f);
-        g.drawString(gameName, textX, textY);
+        TITLE_FONT.draw(g, gameName, textX, textY);
 
         
-        g2d.setColor(new Color(255, 255, 255, 200));
-        g2d.setFont(new Font("Arial", Font.PLAIN, 16));
+        // Tant que le chargement n'est pas terminé, afficher la progression à la place du prompt
+        if (!game.isReady()) {
+            drawLoadingBar(g2d, centerX);
+            return;
+        }
+
         if (!promptPosCalc) {
-            FontMetrics pfm = g2d.getFontMetrics();
-            promptTextX = centerX - pfm.stringWidth(pressEnterText) / 2;
+            promptTextX = centerX - PROMPT_FONT.stringWidth(pressEnterText) / 2;
             promptTextY = (int) (GAME_HEIGHT * 0.9);
             promptPosCalc = true;
         }
-        g2d.drawString(pressEnterText, promptTextX, promptTextY);
+        PROMPT_FONT.draw(g2d, pressEnterText, promptTextX, promptTextY);
+    }
+
+    /**
+     * Dessine la barre de progression du préchargement des images
+     */
+    private void drawLoadingBar(Graphics2D g2d, int centerX) {
+        float progress = AssetManager.getInstance().getProgress();
+        int x = centerX - LOADING_BAR_WIDTH / 2;
+        int y = (int) (GAME_HEIGHT * 0.9);
+
+        g2d.setColor(new Color(255, 255, 255, 60));
+        g2d.fillRect(x, y, LOADING_BAR_WIDTH, LOADING_BAR_HEIGHT);
+        g2d.setColor(new Color(255, 255, 255, 200));
+        g2d.fillRect(x, y, (int) (LOADING_BAR_WIDTH * clamp(progress, 0f, 1f)), LOADING_BAR_HEIGHT);
     }
 
     @Override
     public void update() {
-        float fadePerUpdate = (float) (1.0 / (FADE_SECONDS * 200.0)); // UPS ~200
-        long now = System.currentTimeMillis();
+        float fadePerUpdate = 1f / (FADE_SECONDS * UPS);
 
         switch (phase) {
             case 0 -> { // fade-in
@@ -114,14 +166,10 @@ public class Splash extends State implements StateMethods {
                 if (alpha >= 1f) {
                     alpha = 1f;
                     phase = 1;
-                    phaseStartMs = now;
-                }
-            }
-            case 1 -> { // hold
-                if (now - phaseStartMs >= HOLD_DURATION_MS) {
-                    phase = 2;
+                    game.getTimers().schedule(TimerWheel.MillisToTicks(HOLD_DURATION_MS), () -> phase = 2);
                 }
             }
+            case 1 -> {} // hold
             case 2 -> { // fade-out
                 alpha -= fadePerUpdate;
                 if (alpha <= 0f) {
@@ -131,6 +179,24 @@ public class Splash extends State implements StateMethods {
             }
             default -> {}
         }
+        invalidateChanges();
+    }
+
+    /**
+     * Salit le logo si son fondu a changé, la bande du bas si le chargement a avancé
+     */
+    private void invalidateChanges() {
+        if (alpha != drawnAlpha) {
+            drawnAlpha = alpha;
+            screen.invalidate(logoBounds);
+        }
+        float progress = AssetManager.getInstance().getProgress();
+        boolean ready = game.isReady();
+        if (progress != drawnProgress || ready != drawnReady) {
+            drawnProgress = progress;
+            drawnReady = ready;
+            screen.invalidate(BOTTOM_BAND);
+        }
     }
 
     @Override
@@ -141,7 +207,8 @@ public class Splash extends State implements StateMethods {
 
     @Override
     public void keyPressed(KeyEvent e) {
-        if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+        // Les autres états ne sont utilisables qu'une fois construits
+        if (e.getKeyCode() == KeyEvent.VK_ENTER && game.isReady()) {
             game.startTransition(START, Color.BLACK);
         }
     }
@@ -161,6 +228,11 @@ public class Splash extends State implements StateMethods {
     public void UpdateStrings() {
         loadStrings();
         promptPosCalc = false; // Force recalculation of prompt position
+        screen.invalidate(BOTTOM_BAND);
+    }
+
+    public RetainedScreen getScreen() {
+        return screen;
     }
 
     private static float clamp(float v, float min, float max) {
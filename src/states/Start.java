@@ -9,6 +9,8 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
 import game.Game;
+import ui.FontCache;
+import ui.RetainedScreen;
 import ui.StartButtons;
 import static utilz.Constants.SCALE;
 import static utilz.Constants.UI.BUTTONS.HEIGHT;
@@ -29,10 +31,13 @@ public class Start extends State implements StateMethods{
      private static final int X_BUTTON_OFFSET = (int)(Y_BUTTON_POS *SCALE) + WIDTH;
      private static final int Y_BUTTON_OFFSET = (int)((GAME_HEIGHT * 0.016) *SCALE) + HEIGHT;
  
+     private static final Font TEXT_FONT = FontCache.Get(Font.PLAIN, 20);
+
      StartButtons[] buttons;
      private String languageString ;
      private int xText, yText ;
      private boolean textPosCalc = false;
+     private final RetainedScreen screen = new RetainedScreen(this::paint);
  
     // private ScrollingText scrollText;
 
@@ -48,6 +53,7 @@ public class Start extends State implements StateMethods{
         for (int i = 0; i < buttons.length ; i++)
             buttons[i] = new StartButtons(X_BUTTON_POS + ((i % 2) * X_BUTTON_OFFSET), Y_BUTTON_POS + ((i / 2) * Y_BUTTON_OFFSET * 2),WIDTH, HEIGHT,0,lang[i],text[i]);
         languageString = GetPhrase("langue");
+        screen.watch(buttons);
 
         // scrollText = new ScrollingText( 300, 300, 300, 50);
         // scrollText.reset(GetPhrase("no_very_eff"));
@@ -58,10 +64,17 @@ public class Start extends State implements StateMethods{
 
     @Override
     public void draw(Graphics g) {
+        screen.draw(g);
+    }
+
+    /**
+     * Dessin complet de l'écran (appelé par le RetainedScreen, découpé à la zone sale)
+     */
+    private void paint(Graphics g) {
         g.setColor(new Color (171, 171, 171));
         g.fillRect(0,0,GAME_WIDTH, GAME_HEIGHT);
         g.setColor(Color.black);
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(TEXT_FONT);
         if (!textPosCalc){
 
             FontMetrics fm = g.getFontMetrics();
@@ -80,6 +93,7 @@ public class Start extends State implements StateMethods{
     public void update() {
         for (StartButtons mb : buttons)
             mb.update();
+        screen.update();
         // scrollText.update();
     }
 
@@ -140,7 +154,12 @@ public class Start extends State implements StateMethods{
         languageString = GetPhrase("langue");
         // scrollText.reset(GetPhrase("no_very_eff"));
         textPosCalc = false;
+        screen.invalidate();
         game.UpdateEveryStrings();
     }
+
+    public RetainedScreen getScreen() {
+        return screen;
+    }
     
 }
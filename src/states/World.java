@@ -4,16 +4,21 @@ import java.awt.Graphics;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
+import ecs.EcsWorld;
+import ecs.EntityFactory;
 import entities.Player;
+import events.AttackEvent;
+import events.LandingEvent;
+import game.Camera;
 import game.Game;
 import levels.LevelManager;
+import particles.Emitters;
+import particles.ParticleSystem;
+import static utilz.Constants.PARTICLES.MAX_PARTICLES;
 import static utilz.Constants.SCALE;
 import static utilz.Constants.WORLD.GAME_HEIGHT;
 import static utilz.Constants.WORLD.GAME_WIDTH;
-import static utilz.Constants.WORLD.TILES_IN_HEIGHT;
-import static utilz.Constants.WORLD.TILES_IN_WIDTH;
 import static utilz.Constants.WORLD.TILES_SIZE;
-import static utilz.LoadSave.GetLevelData;
 
 public class World extends State implements StateMethods{
 
@@ -21,68 +26,46 @@ public class World extends State implements StateMethods{
 
     private Player player;
     private LevelManager level;
+    private EcsWorld ecs;
+    private ParticleSystem particles = new ParticleSystem(MAX_PARTICLES);
 
-    private int xLvlOffset;
-	private int yLvlOffset;
-	private int leftBorder = (int) (0.2 * GAME_WIDTH);
-	private int rightBorder = (int) (0.8 * GAME_WIDTH);
-	private int topBorder = (int) (0.3 * GAME_HEIGHT);
-	private int bottomBorder = (int) (0.90 * GAME_HEIGHT);
-	private int lvlTilesWide = GetLevelData()[0].length;
-	private int lvlTilesHigh = GetLevelData().length;
-	private int maxTilesOffsetX = lvlTilesWide - TILES_IN_WIDTH;
-	private int maxLvlOffsetX = maxTilesOffsetX * TILES_SIZE;
-	private int maxTilesOffsetY = lvlTilesHigh - TILES_IN_HEIGHT;
-	private int maxLvlOffsetY = maxTilesOffsetY * TILES_SIZE;
+    private Camera camera;
 
     public World( Game game){
         super(game);
         level = new LevelManager(game);
         player = new Player( 5 * TILES_SIZE ,5 * TILES_SIZE, (int) (64 * SCALE), (int) (64 * SCALE), level.getCurrentLevel());
         player.loadLvlData(level.getCurrentLevel().getLevelData());
+        ecs = EntityFactory.createWorld(level.getCurrentLevel().getTileClasses(), player);
+        int[][] levelData = level.getCurrentLevel().getLevelData();
+        camera = new Camera(GAME_WIDTH, GAME_HEIGHT, levelData[0].length * TILES_SIZE, levelData.length * TILES_SIZE);
+        camera.snapTo(player.getHitbox());
+        player.setEvents(game.getEvents());
+        game.getEvents().subscribe(LandingEvent.TYPE, e -> Emitters.LandingDust(particles, e.centerX, e.feetY));
+        game.getEvents().subscribe(AttackEvent.TYPE, e -> Emitters.AttackSparks(particles, e.x, e.y, e.direction));
 
     }
 
-    private void checkCloseToBorder() {
-		int playerX = (int) player.getHitbox().x;
-		int playerY = (int) player.getHitbox().y;
-		int diffX = playerX - xLvlOffset;
-		int diffY = playerY - yLvlOffset;
-
-		if (diffX > rightBorder)
-			xLvlOffset += diffX - rightBorder;
-		else if (diffX < leftBorder)
-			xLvlOffset += diffX - leftBorder;
-
-		if (xLvlOffset > maxLvlOffsetX)
-			xLvlOffset = maxLvlOffsetX;
-		else if (xLvlOffset < 0)
-			xLvlOffset = 0;
-
-		if (diffY > bottomBorder)
-			yLvlOffset += diffY - bottomBorder;
-		else if (diffY < topBorder)
-			yLvlOffset += diffY - topBorder;
-
-		if (yLvlOffset > maxLvlOffsetY)
-			yLvlOffset = maxLvlOffsetY;
-		else if (yLvlOffset < 0)
-			yLvlOffset = 0;
-	}
-
     @Override
     public void draw( Graphics g ) {
-        level.draw(g,xLvlOffset,yLvlOffset);
+        Camera.View view = camera.getView(); // Un seul instantané pour toute la frame
+        int xLvlOffset = view.offsetX();
+        int yLvlOffset = view.offsetY();
+        level.draw(g, view);
+        ecs.render(g, xLvlOffset, yLvlOffset);
         player.render(g,xLvlOffset,yLvlOffset);
+        particles.render(g, xLvlOffset, yLvlOffset);
 
     }
 
     @Override
     public void update() {
         if (!paused){
-            checkCloseToBorder();
             player.update();
+            ecs.update();
+            particles.update();
             level.update();
+            camera.follow(player.getHitbox(), player.getPhysicsBody().getVelocity().x);
         }
             
     }
@@ -163,4 +146,26 @@ public class World extends State implements StateMethods{
     public void UpdateStrings() {
         
     }
+
+    /**
+     * Fin de partie : rend les objets de réserve des entités
+     */
+    public void dispose() {
+        player.dispose();
+    }
+
+    public ParticleSystem getParticles() {
+        return particles;
+    }
+
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Monde ECS du niveau (ennemis, ICMons sauvages, projectiles)
+     */
+    public EcsWorld getEcs() {
+        return ecs;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,218 @@
+package tools;
+
+// Java standard library imports
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Outil de build qui regroupe les sprites UI et ICMons en quelques atlas
+ *
+ * FONCTIONNEMENT:
+ * - Chaque groupe (dossier source) est empaqueté en une ou plusieurs pages PNG
+ * - Algorithme en étagères (shelf packing) sur les images triées par hauteur décroissante
+ * - Un fichier d'index &lt;groupe&gt;.atlas décrit chaque région (nom, page, x, y, largeur, hauteur)
+ *
+ * Exécuté par Maven (exec-maven-plugin, phase process-classes) :
+ * <pre>mvn process-classes</pre>
+ * ou à la main :
+ * <pre>java tools.AtlasPacker res/assets target/classes/assets/atlas</pre>
+ *
+ * Le format de l'index est lu à l'exécution par utilz.TextureAtlas.
+ *
+ * @author Lounol72
+ */
+public class AtlasPacker {
+
+    /** Groupes empaquetés : nom de l'atlas et dossier source relatif aux assets */
+    private static final String[][] GROUPS = {
+        {"ui", "UI"},
+        {"icmons", "ICMONS"},
+    };
+
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 1;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java tools.AtlasPacker <dossier assets> <dossier de sortie>");
+            System.exit(1);
+        }
+        Path assetsDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        Files.createDirectories(outputDir);
+
+        for (String[] group : GROUPS) {
+            Path sourceDir = assetsDir.resolve(group[1]);
+            if (!Files.isDirectory(sourceDir)) {
+                System.err.println("Dossier introuvable, atlas ignoré : " + sourceDir);
+                continue;
+            }
+            pack(group[0], sourceDir, outputDir);
+        }
+    }
+
+    /**
+     * Empaquette toutes les images PNG d'un dossier dans un atlas
+     * @param name Nom de l'atlas (préfixe des fichiers générés)
+     * @param sourceDir Dossier des images
+     * @param outputDir Dossier de sortie
+     */
+    static void pack(String name, Path sourceDir, Path outputDir) throws IOException {
+        List<Sprite> sprites = loadSprites(sourceDir);
+        sprites.sort(Comparator.comparingInt((Sprite s) -> s.image.getHeight()).reversed()
+            .thenComparing(s -> s.name));
+
+        List<Page> pages = new ArrayList<>();
+        for (Sprite sprite : sprites) {
+            boolean placed = false;
+            for (Page page : pages) {
+                if (page.place(sprite)) {
+                    placed = true;
+                    break;
+                }
+            }
+            if (!placed) {
+                // Les images plus grandes qu'une page ont leur propre page à leur taille (marge comprise)
+                Page page = new Page(pages.size(),
+                    Math.max(PAGE_SIZE, sprite.image.getWidth() + PADDING),
+                    Math.max(PAGE_SIZE, sprite.image.getHeight() + PADDING));
+                if (!page.place(sprite)) {
+                    throw new IllegalStateException("Image impossible à placer dans l'atlas " + name + " : " + sprite.name);
+                }
+                pages.add(page);
+            }
+        }
+
+        Path indexFile = outputDir.resolve(name + ".atlas");
+        try (Writer index = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            for (Page page : pages) {
+                String fileName = name + "_" + page.index + ".png";
+                ImageIO.write(page.render(), "png", outputDir.resolve(fileName).toFile());
+                index.write("page\t" + page.index + "\t" + fileName + "\n");
+            }
+            for (Sprite s : sprites) {
+                index.write("region\t" + s.name + "\t" + s.page + "\t" + s.x + "\t" + s.y
+                    + "\t" + s.image.getWidth() + "\t" + s.image.getHeight() + "\n");
+            }
+        }
+
+        System.out.printf("Atlas %s : %d images -> %d page(s)%n", name, sprites.size(), pages.size());
+    }
+
+    private static List<Sprite> loadSprites(Path sourceDir) throws IOException {
+        List<Sprite> sprites = new ArrayList<>();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(sourceDir)) {
+            files = walk.filter(Files::isRegularFile)
+                .filter(p -> p.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".png"))
+                .sorted()
+                .toList();
+        }
+        for (Path file : files) {
+            BufferedImage image;
+            try (InputStream is = Files.newInputStream(file)) {
+                image = ImageIO.read(is);
+            } catch (IOException e) {
+                System.err.println("Erreur lors de la lecture de l'image : " + file);
+                image = null;
+            }
+            if (image == null) {
+                System.err.println("Image illisible ignorée : " + file);
+                continue;
+            }
+            sprites.add(new Sprite(regionName(sourceDir, file), image));
+        }
+        return sprites;
+    }
+
+    /**
+     * Nom d'une région : chemin relatif au dossier du groupe, sans extension, séparateurs '/'
+     */
+    static String regionName(Path sourceDir, Path file) {
+        String relative = sourceDir.relativize(file).toString().replace('\\', '/');
+        int dot = relative.lastIndexOf('.');
+        return dot > 0 ? relative.substring(0, dot) : relative;
+    }
+
+    /**
+     * Image source et son emplacement dans l'atlas
+     */
+    private static class Sprite {
+        final String name;
+        final BufferedImage image;
+        int page, x, y;
+
+        Sprite(String name, BufferedImage image) {
+            this.name = name;
+            this.image = image;
+        }
+    }
+
+    /**
+     * Page de l'atlas remplie par étagères horizontales
+     */
+    private static class Page {
+        final int index, width, height;
+        final List<Sprite> sprites = new ArrayList<>();
+        int shelfX, shelfY, shelfHeight;
+
+        Page(int index, int width, int height) {
+            this.index = index;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean place(Sprite sprite) {
+            int w = sprite.image.getWidth() + PADDING;
+            int h = sprite.image.getHeight() + PADDING;
+
+            // Étagère pleine : passer à la suivante
+            if (shelfX + w > width) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (shelfX + w > width || shelfY + h > height) {
+                return false;
+            }
+
+            sprite.page = index;
+            sprite.x = shelfX;
+            sprite.y = shelfY;
+            sprites.add(sprite);
+            shelfX += w;
+            shelfHeight = Math.max(shelfHeight, h);
+            return true;
+        }
+
+        BufferedImage render() {
+            // Rogner la page à la zone réellement utilisée
+            int usedWidth = 1, usedHeight = 1;
+            for (Sprite s : sprites) {
+                usedWidth = Math.max(usedWidth, s.x + s.image.getWidth());
+                usedHeight = Math.max(usedHeight, s.y + s.image.getHeight());
+            }
+            BufferedImage page = new BufferedImage(usedWidth, usedHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = page.createGraphics();
+            for (Sprite s : sprites) {
+                g.drawImage(s.image, s.x, s.y, null);
+            }
+            g.dispose();
+            return page;
+        }
+    }
+}
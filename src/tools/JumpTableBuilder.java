@@ -0,0 +1,47 @@
+package tools;
+
+// Java standard library imports
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import ai.JumpTable;
+
+/**
+ * Outil de build qui précalcule la table des trajectoires de saut (ai.JumpTable)
+ *
+ * FONCTIONNEMENT:
+ * - Simule chaque motif d'entrée (durée d'appui x direction) avec la physique réelle
+ *   du joueur et écrit le résultat dans un fichier binaire
+ * - Le jeu charge ce fichier au lieu de refaire la simulation au démarrage
+ *
+ * Exécuté par Maven (exec-maven-plugin, phase process-classes) :
+ * <pre>mvn process-classes</pre>
+ * ou à la main :
+ * <pre>java tools.JumpTableBuilder target/classes/data/jump_table.bin</pre>
+ *
+ * @author Lounol72
+ */
+public class JumpTableBuilder {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java tools.JumpTableBuilder <fichier de sortie>");
+            System.exit(1);
+        }
+        System.setProperty("java.awt.headless", "true");
+        Path output = Paths.get(args[0]);
+
+        long start = System.nanoTime();
+        JumpTable table = JumpTable.Compute();
+        table.write(output);
+
+        int frames = 0;
+        for (int p = 0; p < table.getPatternCount(); p++) {
+            frames += table.getFrameCount(p);
+        }
+        System.out.printf("Table de sauts : %d motifs, %d frames, montée max %.0f px, portée à plat %.0f px (%d ms) -> %s%n",
+            table.getPatternCount(), frames, table.getMaxRise(), table.getMaxFlatDistance(),
+            (System.nanoTime() - start) / 1_000_000, output);
+    }
+}
@@ -0,0 +1,95 @@
+package tools;
+
+import ai.NavGraph;
+import levels.Level;
+import utilz.LoadSave;
+import static utilz.Constants.PLAYER.HITBOX.HITBOX_HEIGHT;
+import static utilz.Constants.WORLD.TILES_SIZE;
+
+/**
+ * Vérifie hors ligne qu'un niveau peut être terminé
+ *
+ * FONCTIONNEMENT:
+ * - Construit le NavGraph du niveau (arêtes de saut issues de JumpTable, donc des
+ *   trajectoires réelles du joueur) pour un agent de la taille de la hitbox du joueur
+ * - Parcours en largeur depuis le point d'apparition
+ * - Le niveau est terminable si l'arrivée est atteignable ; sans arrivée donnée,
+ *   l'arrivée est le nœud le plus à droite (le niveau se parcourt de gauche à droite)
+ *
+ * Usage :
+ * <pre>java tools.LevelValidator [spawnX spawnY] [goalX goalY]</pre>
+ * (coordonnées en tiles, apparition par défaut : celle de states.World)
+ *
+ * Code de sortie : 0 si le niveau est terminable, 2 sinon.
+ *
+ * @author Lounol72
+ */
+public class LevelValidator {
+
+    private static final int DEFAULT_SPAWN_X = 5;
+    private static final int DEFAULT_SPAWN_Y = 5;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int spawnX = args.length >= 2 ? Integer.parseInt(args[0]) : DEFAULT_SPAWN_X;
+        int spawnY = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_SPAWN_Y;
+
+        Level level = new Level(LoadSave.GetLevelData());
+        int agentHeight = (HITBOX_HEIGHT + TILES_SIZE - 1) / TILES_SIZE;
+        NavGraph graph = new NavGraph(level.getTileClasses(), agentHeight);
+
+        int start = graph.nodeBelow(spawnX, spawnY, level.getTileClasses().getHeight());
+        if (start < 0) {
+            System.err.println("Aucun sol sous le point d'apparition (" + spawnX + ", " + spawnY + ")");
+            System.exit(2);
+        }
+
+        int goal;
+        if (args.length >= 4) {
+            goal = graph.nodeBelow(Integer.parseInt(args[2]), Integer.parseInt(args[3]), level.getTileClasses().getHeight());
+            if (goal < 0) {
+                System.err.println("Aucun sol sous l'arrivée (" + args[2] + ", " + args[3] + ")");
+                System.exit(2);
+            }
+        } else {
+            goal = rightmostNode(graph);
+        }
+
+        boolean[] reachable = graph.reachableFrom(start);
+        int reachableCount = 0;
+        StringBuilder unreachable = new StringBuilder();
+        for (int n = 0; n < graph.getNodeCount(); n++) {
+            if (reachable[n]) {
+                reachableCount++;
+            } else {
+                unreachable.append(" (").append(graph.nodeX(n)).append(", ").append(graph.nodeY(n)).append(')');
+            }
+        }
+
+        System.out.printf("Graphe : %d nœuds, %d arêtes, saut max %d tiles%n",
+            graph.getNodeCount(), graph.getEdgeCount(), graph.getJumpHeight());
+        System.out.printf("Atteignables depuis (%d, %d) : %d / %d%n",
+            graph.nodeX(start), graph.nodeY(start), reachableCount, graph.getNodeCount());
+        if (unreachable.length() > 0) {
+            System.out.println("Cases inatteignables :" + unreachable);
+        }
+        boolean completable = reachable[goal];
+        System.out.printf("Arrivée (%d, %d) : %s%n", graph.nodeX(goal), graph.nodeY(goal),
+            completable ? "atteignable, niveau terminable" : "INATTEIGNABLE");
+        System.exit(completable ? 0 : 2);
+    }
+
+    /**
+     * Nœud le plus à droite (le plus haut en cas d'égalité)
+     */
+    private static int rightmostNode(NavGraph graph) {
+        int best = 0;
+        for (int n = 1; n < graph.getNodeCount(); n++) {
+            if (graph.nodeX(n) > graph.nodeX(best)
+                || (graph.nodeX(n) == graph.nodeX(best) && graph.nodeY(n) < graph.nodeY(best))) {
+                best = n;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,235 @@
+package ui;
+
+// Java standard library imports
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Police bitmap : glyphes rastérisés une fois dans un atlas, puis copiés
+ *
+ * FONCTIONNEMENT:
+ * - Pour une police, une taille et une couleur, les caractères Latin-1 imprimables
+ *   (32 à 255) sont dessinés une seule fois dans une image atlas
+ * - Une chaîne est composée une fois à partir des sous-images de l'atlas, puis
+ *   gardée en cache (LRU) : un libellé s'affiche en une seule copie d'image, au même
+ *   coût quelle que soit la pile de polices du système
+ * - Un texte variable (CharSequence) est copié glyphe par glyphe depuis l'atlas
+ * - Les avances sont lues dans une table : stringWidth est une simple somme,
+ *   mémorisée pour les chaînes déjà mesurées
+ * - Un caractère hors atlas est dessiné avec drawString (repli, rare)
+ *
+ * ORGANISATION:
+ * - Les glyphes sont rangés en lignes de GLYPHS_PER_ROW cellules de hauteur fixe
+ *
+ * @author Lounol72
+ */
+public final class BitmapFont {
+
+    private static final char FIRST_CHAR = 32;
+    private static final char LAST_CHAR = 255;
+    private static final int GLYPHS_PER_ROW = 16;
+    private static final int CELL_PADDING = 2; // Évite que l'antialiasing d'un glyphe déborde sur le voisin
+    private static final int MAX_CACHED_WIDTHS = 256;
+    private static final int MAX_CACHED_RUNS = 64;
+
+    private record Key(Font font, Color color) {
+    }
+
+    private static final Map<Key, BitmapFont> FONTS = new ConcurrentHashMap<>();
+
+    private final Font font;
+    private final Color color;
+    private final BufferedImage atlas;
+    private final int ascent;
+    private final int height;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    // Avance de chaque caractère de l'atlas (index : c - FIRST_CHAR)
+    private final int[] advances;
+
+    private final Map<String, Integer> widths = new ConcurrentHashMap<>();
+
+    // Chaînes déjà composées (ordre d'accès : la moins récemment dessinée est retirée)
+    private final Map<String, BufferedImage> runs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+            return size() > MAX_CACHED_RUNS;
+        }
+    };
+
+    private BitmapFont(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+        FontMetrics fm = FontCache.GetMetrics(font);
+        this.ascent = fm.getAscent();
+        this.height = fm.getHeight();
+
+        int glyphCount = LAST_CHAR - FIRST_CHAR + 1;
+        advances = new int[glyphCount];
+        int maxAdvance = 1;
+        for (int i = 0; i < glyphCount; i++) {
+            advances[i] = fm.charWidth((char) (FIRST_CHAR + i));
+            maxAdvance = Math.max(maxAdvance, advances[i]);
+        }
+        cellWidth = maxAdvance + CELL_PADDING * 2;
+        cellHeight = height + CELL_PADDING * 2;
+
+        int rows = (glyphCount + GLYPHS_PER_ROW - 1) / GLYPHS_PER_ROW;
+        atlas = new BufferedImage(GLYPHS_PER_ROW * cellWidth, rows * cellHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = atlas.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setFont(font);
+        g2d.setColor(color);
+        char[] glyph = new char[1];
+        for (int i = 0; i < glyphCount; i++) {
+            glyph[0] = (char) (FIRST_CHAR + i);
+            g2d.drawChars(glyph, 0, 1, cellX(i) + CELL_PADDING, cellY(i) + CELL_PADDING + ascent);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Police bitmap pour une police et une couleur (rastérisée au premier appel)
+     */
+    public static BitmapFont Get(Font font, Color color) {
+        return FONTS.computeIfAbsent(new Key(font, color), k -> new BitmapFont(k.font(), k.color()));
+    }
+
+    // === DESSIN ===
+
+    /**
+     * Dessine une chaîne en une copie d'image (composée au premier affichage)
+     * @param g Contexte graphique
+     * @param text Libellé
+     * @param x Abscisse de départ
+     * @param y Ordonnée de la ligne de base (comme drawString)
+     */
+    public void draw(Graphics g, String text, int x, int y) {
+        BufferedImage run = getRun(text);
+        if (run != null) {
+            g.drawImage(run, x - CELL_PADDING, y - ascent - CELL_PADDING, null);
+        }
+    }
+
+    /**
+     * Dessine un texte variable glyphe par glyphe, sans rien mettre en cache
+     * @param g Contexte graphique
+     * @param text Texte (peut être un StringBuilder réutilisé)
+     * @param x Abscisse de départ
+     * @param y Ordonnée de la ligne de base (comme drawString)
+     */
+    public void draw(Graphics g, CharSequence text, int x, int y) {
+        drawGlyphs(g, text, x, y);
+    }
+
+    private void drawGlyphs(Graphics g, CharSequence text, int x, int y) {
+        int top = y - ascent - CELL_PADDING;
+        int penX = x;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < FIRST_CHAR || c > LAST_CHAR) {
+                // Caractère hors atlas : rendu système
+                g.setFont(font);
+                g.setColor(color);
+                String s = String.valueOf(c);
+                g.drawString(s, penX, y);
+                penX += FontCache.GetMetrics(font).stringWidth(s);
+                continue;
+            }
+            int index = c - FIRST_CHAR;
+            if (c != ' ') {
+                int sx = cellX(index);
+                int sy = cellY(index);
+                int dx = penX - CELL_PADDING;
+                g.drawImage(atlas, dx, top, dx + cellWidth, top + cellHeight,
+                    sx, sy, sx + cellWidth, sy + cellHeight, null);
+            }
+            penX += advances[index];
+        }
+    }
+
+    /**
+     * Image d'une chaîne composée depuis l'atlas (null pour une chaîne vide)
+     */
+    private synchronized BufferedImage getRun(String text) {
+        BufferedImage run = runs.get(text);
+        if (run == null && !text.isEmpty()) {
+            run = new BufferedImage(measure(text) + CELL_PADDING * 2, cellHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2d = run.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            drawGlyphs(g2d, text, CELL_PADDING, CELL_PADDING + ascent);
+            g2d.dispose();
+            runs.put(text, run);
+        }
+        return run;
+    }
+
+    /**
+     * Dessine un texte centré horizontalement sur une abscisse
+     */
+    public void drawCentered(Graphics g, String text, int centerX, int y) {
+        draw(g, text, centerX - stringWidth(text) / 2, y);
+    }
+
+    // === MESURES ===
+
+    /**
+     * Largeur d'un texte (mémorisée pour les chaînes déjà mesurées)
+     */
+    public int stringWidth(String text) {
+        Integer cached = widths.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        int width = measure(text);
+        if (widths.size() < MAX_CACHED_WIDTHS) {
+            widths.put(text, width);
+        }
+        return width;
+    }
+
+    /**
+     * Largeur d'un texte variable (sans mémorisation)
+     */
+    public int measure(CharSequence text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < FIRST_CHAR || c > LAST_CHAR) {
+                width += FontCache.GetMetrics(font).charWidth(c);
+            } else {
+                width += advances[c - FIRST_CHAR];
+            }
+        }
+        return width;
+    }
+
+    public int getAscent() {
+        return ascent;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    private int cellX(int index) {
+        return (index % GLYPHS_PER_ROW) * cellWidth;
+    }
+
+    private int cellY(int index) {
+        return (index / GLYPHS_PER_ROW) * cellHeight;
+    }
+}
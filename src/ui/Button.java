@@ -70,6 +70,11 @@ public abstract class Button {
         this.height = height;
     }
 
+    /**
+     * Aspect affiché (0 normal, 1 survol, 2 appui), mis à jour par update()
+     */
+    public int getIndex() {return index;}
+
     public boolean isMousePressed() {return isMousePressed;}
 
     public void setMousePressed( boolean mousePressed ) {isMousePressed = mousePressed;}
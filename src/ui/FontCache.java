@@ -0,0 +1,84 @@
+package ui;
+
+// Java standard library imports
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache des polices et de leurs métriques
+ *
+ * FONCTIONNEMENT:
+ * - Une police (famille, style, taille) n'est créée qu'une seule fois
+ * - Les FontMetrics sont obtenues une fois par police depuis un unique contexte
+ *   graphique hors écran, partagé : mesurer un texte ne crée plus d'image
+ * - Les largeurs de chaînes statiques (titres, boutons) sont mémorisées
+ *
+ * Les métriques sont celles d'un rendu antialiasé, comme à l'écran.
+ *
+ * @author Lounol72
+ */
+public final class FontCache {
+
+    public static final String DEFAULT_FAMILY = "Arial";
+
+    private record FontKey(String family, int style, int size) {
+    }
+
+    private record WidthKey(Font font, String text) {
+    }
+
+    private static final Map<FontKey, Font> FONTS = new ConcurrentHashMap<>();
+    private static final Map<Font, FontMetrics> METRICS = new ConcurrentHashMap<>();
+    private static final Map<WidthKey, Integer> WIDTHS = new ConcurrentHashMap<>();
+
+    // Contexte de mesure partagé (jamais dessiné)
+    private static final Graphics2D MEASURE = createMeasureGraphics();
+
+    private FontCache() {}
+
+    /**
+     * Police mise en cache
+     * @param family Famille (ex: "Arial")
+     * @param style Font.PLAIN, Font.BOLD...
+     * @param size Taille en points
+     */
+    public static Font Get(String family, int style, int size) {
+        return FONTS.computeIfAbsent(new FontKey(family, style, size), k -> new Font(k.family(), k.style(), k.size()));
+    }
+
+    /**
+     * Police de la famille par défaut
+     */
+    public static Font Get(int style, int size) {
+        return Get(DEFAULT_FAMILY, style, size);
+    }
+
+    /**
+     * Métriques d'une police, calculées une seule fois
+     */
+    public static FontMetrics GetMetrics(Font font) {
+        return METRICS.computeIfAbsent(font, f -> {
+            synchronized (MEASURE) {
+                return MEASURE.getFontMetrics(f);
+            }
+        });
+    }
+
+    /**
+     * Largeur d'un texte statique (mémorisée : à réserver aux libellés, pas aux textes variables)
+     */
+    public static int StringWidth(Font font, String text) {
+        return WIDTHS.computeIfAbsent(new WidthKey(font, text), k -> GetMetrics(k.font()).stringWidth(k.text()));
+    }
+
+    private static Graphics2D createMeasureGraphics() {
+        Graphics2D g = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        return g;
+    }
+}
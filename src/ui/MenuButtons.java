@@ -1,14 +1,20 @@
 package ui;
 
+import java.awt.Color;
+import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
 import states.GameState;
+import static utilz.Constants.SCALE;
 import static utilz.Constants.UI.BUTTONS.DEFAULT_HEIGHT;
 import static utilz.Constants.UI.BUTTONS.DEFAULT_WIDTH;
 import utilz.LoadSave;
 
 public class MenuButtons extends Button{
+    // Même police que le titre du menu
+    private static final BitmapFont LABEL_FONT = BitmapFont.Get(FontCache.Get(Font.BOLD, (int) (16 * SCALE)), Color.WHITE);
+
     private int rowIndex = 0;
     private String text, baseText;
     private GameState action;
@@ -23,7 +29,7 @@ public class MenuButtons extends Button{
     }
     
     private void loadImages() {
-        BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.BUTTONS);
+        BufferedImage temp = LoadSave.GetUISprite(LoadSave.BUTTONS);
         for (int  i = 0;  i < img.length ;  i++)
             img[i] = temp.getSubimage( (rowIndex * DEFAULT_WIDTH), i  * DEFAULT_HEIGHT, DEFAULT_WIDTH, DEFAULT_HEIGHT);
     }
@@ -38,7 +44,7 @@ public class MenuButtons extends Button{
 
     public void draw(Graphics g) {
         g.drawImage(img[index], x, y, width, height, null);
-        g.drawString(text, x + width / 2 - g.getFontMetrics().stringWidth(text) / 2, y + height / 2 + g.getFontMetrics().getHeight() / 2);
+        LABEL_FONT.drawCentered(g, text, x + width / 2, y + height / 2 + LABEL_FONT.getHeight() / 2);
     }
 
     public void setText(String text) {
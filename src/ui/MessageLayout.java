@@ -0,0 +1,208 @@
+package ui;
+
+// Java standard library imports
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mise en page d'un message, calculée une seule fois
+ *
+ * FONCTIONNEMENT:
+ * - Le découpage en lignes se fait en un seul passage sur le texte : chaque mot
+ *   est mesuré une fois, sans expression régulière ni chaîne intermédiaire
+ * - Pour chaque caractère, l'abscisse de fin dans sa ligne est précalculée :
+ *   afficher les N premiers caractères revient à lire un décalage
+ * - Le message est rendu une fois dans une image (au premier affichage) ; l'affichage
+ *   progressif copie le bloc des lignes complètes puis une portion de la ligne en cours,
+ *   soit au plus deux copies d'image par frame quel que soit le nombre de caractères
+ *
+ * @author Lounol72
+ */
+public class MessageLayout {
+
+    private final String text;
+    private final Font font;
+    private final Color color;
+    private final int lineHeight;
+    private final int ascent;
+
+    // Lignes : [début, fin[ dans le texte
+    private final int[] lineStart;
+    private final int[] lineEnd;
+    private final int lineCount;
+
+    // Abscisse de fin de chaque caractère dans sa ligne
+    private final int[] advance;
+
+    // Rendu du message entier, créé au premier affichage
+    private BufferedImage image;
+
+    // Marge à droite de l'image (débordement des glyphes penchés)
+    private static final int GLYPH_OVERHANG = 2;
+
+    /**
+     * @param text Texte du message
+     * @param font Police
+     * @param color Couleur du texte
+     * @param maxWidth Largeur disponible pour une ligne
+     */
+    public MessageLayout(String text, Font font, Color color, int maxWidth) {
+        this.text = text;
+        this.font = font;
+        this.color = color;
+        FontMetrics fm = FontCache.GetMetrics(font);
+        this.lineHeight = fm.getHeight();
+        this.ascent = fm.getAscent();
+        this.advance = new int[text.length()];
+
+        List<int[]> lines = new ArrayList<>();
+        int spaceWidth = fm.charWidth(' ');
+        int lineBegin = -1;   // Début de la ligne en cours (-1 : aucune)
+        int lastWordEnd = 0;  // Fin du dernier mot posé sur la ligne
+        int lineWidth = 0;    // Largeur de la ligne jusqu'à lastWordEnd
+        int i = 0;
+        while (i < text.length()) {
+            // Sauter les espaces entre les mots
+            while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i >= text.length()) {
+                break;
+            }
+            int wordStart = i;
+            while (i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int wordWidth = 0;
+            for (int c = wordStart; c < i; c++) {
+                wordWidth += fm.charWidth(text.charAt(c));
+            }
+
+            int x;
+            if (lineBegin < 0) {
+                lineBegin = wordStart;
+                x = 0;
+            } else if (lineWidth + spaceWidth + wordWidth > maxWidth) {
+                lines.add(new int[] {lineBegin, lastWordEnd});
+                lineBegin = wordStart;
+                x = 0;
+            } else {
+                // Les espaces entre deux mots d'une même ligne sont dessinés tels quels
+                x = lineWidth;
+                for (int s = lastWordEnd; s < wordStart; s++) {
+                    x += fm.charWidth(text.charAt(s));
+                    advance[s] = x;
+                }
+            }
+            for (int c = wordStart; c < i; c++) {
+                x += fm.charWidth(text.charAt(c));
+                advance[c] = x;
+            }
+            lineWidth = x;
+            lastWordEnd = i;
+        }
+        if (lineBegin >= 0) {
+            lines.add(new int[] {lineBegin, lastWordEnd});
+        }
+
+        lineCount = lines.size();
+        lineStart = new int[lineCount];
+        lineEnd = new int[lineCount];
+        for (int l = 0; l < lineCount; l++) {
+            lineStart[l] = lines.get(l)[0];
+            lineEnd[l] = lines.get(l)[1];
+        }
+    }
+
+    /**
+     * Dessine les premiers caractères du message
+     * @param g Contexte graphique
+     * @param x Abscisse du bloc de texte
+     * @param y Ordonnée du haut du bloc de texte
+     * @param visibleChars Nombre de caractères révélés
+     */
+    public void draw(Graphics g, int x, int y, int visibleChars) {
+        if (lineCount == 0 || visibleChars <= lineStart[0]) {
+            return;
+        }
+        BufferedImage rendered = getImage();
+
+        // Lignes entièrement révélées : un seul bloc
+        int fullLines = 0;
+        while (fullLines < lineCount && visibleChars >= lineEnd[fullLines]) {
+            fullLines++;
+        }
+        if (fullLines > 0) {
+            int height = fullLines * lineHeight;
+            int width = rendered.getWidth();
+            g.drawImage(rendered, x, y, x + width, y + height, 0, 0, width, height, null);
+        }
+
+        // Ligne en cours de révélation : portion gauche
+        if (fullLines < lineCount && visibleChars > lineStart[fullLines]) {
+            int width = advance[visibleChars - 1];
+            int top = fullLines * lineHeight;
+            if (width > 0) {
+                g.drawImage(rendered, x, y + top, x + width, y + top + lineHeight,
+                    0, top, width, top + lineHeight, null);
+            }
+        }
+    }
+
+    /**
+     * Dessine le message entier
+     */
+    public void draw(Graphics g, int x, int y) {
+        draw(g, x, y, text.length());
+    }
+
+    private BufferedImage getImage() {
+        if (image == null) {
+            int width = 1;
+            for (int l = 0; l < lineCount; l++) {
+                width = Math.max(width, advance[lineEnd[l] - 1] + GLYPH_OVERHANG);
+            }
+            // Alpha prémultiplié : la copie vers l'écran est la plus rapide
+            image = new BufferedImage(width, getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2d = image.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setFont(font);
+            g2d.setColor(color);
+            for (int l = 0; l < lineCount; l++) {
+                g2d.drawString(text.substring(lineStart[l], lineEnd[l]), 0, l * lineHeight + ascent);
+            }
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int getLength() {
+        return text.length();
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getLineHeight() {
+        return lineHeight;
+    }
+
+    /**
+     * Hauteur totale du message mis en page
+     */
+    public int getHeight() {
+        return lineCount * lineHeight;
+    }
+}
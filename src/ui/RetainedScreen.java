@@ -0,0 +1,172 @@
+package ui;
+
+// Java standard library imports
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import static utilz.Constants.WORLD.GAME_HEIGHT;
+import static utilz.Constants.WORLD.GAME_WIDTH;
+
+/**
+ * Rendu en mode retenu des écrans d'interface (menus, choix de langue, réglages, splash)
+ *
+ * FONCTIONNEMENT:
+ * - L'écran est dessiné dans une image tampon à la taille du jeu, gardée d'une frame
+ *   à l'autre
+ * - Les changements sont signalés par des zones sales : invalidate() (tout l'écran,
+ *   changement de texte, entrée dans l'état) ou invalidate(zone) ; les boutons suivis
+ *   par watch() salissent leur rectangle quand leur aspect (survol, appui) change
+ * - Au rendu, seule la zone sale est redessinée dans le tampon (dessin découpé à la
+ *   zone) puis copiée à l'écran
+ * - takeRepaintRegion() indique à la boucle de jeu quelle zone du panneau repeindre :
+ *   rien tant que l'écran est immobile, si bien qu'un menu inactif ne coûte plus rien
+ *
+ * Zones sales modifiées depuis la boucle de jeu et les événements souris, lues par le
+ * rendu : accès synchronisés.
+ *
+ * @author Lounol72
+ */
+public class RetainedScreen {
+
+    /**
+     * Dessin complet de l'écran (découpé à la zone sale par le RetainedScreen)
+     */
+    @FunctionalInterface
+    public interface Painter {
+        void paint(Graphics g);
+    }
+
+    private final Painter painter;
+    private final BufferedImage buffer = new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+    private final Rectangle dirty = new Rectangle();    // Zone à redessiner dans le tampon
+    private final Rectangle pending = new Rectangle();  // Zone du panneau à repeindre
+    private boolean hasDirty = true;
+    private boolean hasPending = true;
+
+    // Boutons suivis et aspect au dernier update
+    private Button[] watched = new Button[0];
+    private int[] watchedIndex = new int[0];
+
+    // === STATISTIQUES ===
+    private long redrawnPixels;
+    private long redraws;
+
+    /**
+     * @param painter Dessin complet de l'écran
+     */
+    public RetainedScreen(Painter painter) {
+        this.painter = painter;
+        dirty.setBounds(0, 0, GAME_WIDTH, GAME_HEIGHT);
+        pending.setBounds(dirty);
+    }
+
+    // === ZONES SALES ===
+
+    /**
+     * Salit tout l'écran
+     */
+    public void invalidate() {
+        invalidate(0, 0, GAME_WIDTH, GAME_HEIGHT);
+    }
+
+    public void invalidate(Rectangle zone) {
+        invalidate(zone.x, zone.y, zone.width, zone.height);
+    }
+
+    public synchronized void invalidate(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        add(dirty, hasDirty, x, y, width, height);
+        add(pending, hasPending, x, y, width, height);
+        hasDirty = hasPending = true;
+    }
+
+    private static void add(Rectangle target, boolean nonEmpty, int x, int y, int width, int height) {
+        if (nonEmpty) {
+            target.add(x, y);
+            target.add(x + width, y + height);
+        } else {
+            target.setBounds(x, y, width, height);
+        }
+    }
+
+    /**
+     * Suit l'aspect de boutons : un changement de survol ou d'appui salit leur rectangle
+     */
+    public void watch(Button... buttons) {
+        watched = buttons.clone();
+        watchedIndex = new int[buttons.length];
+        for (int i = 0; i < buttons.length; i++) {
+            watchedIndex[i] = buttons[i].getIndex();
+        }
+    }
+
+    /**
+     * Compare l'aspect des boutons suivis à celui du dernier update (après leur update())
+     */
+    public void update() {
+        for (int i = 0; i < watched.length; i++) {
+            int index = watched[i].getIndex();
+            if (index != watchedIndex[i]) {
+                watchedIndex[i] = index;
+                invalidate(watched[i].getBounds());
+            }
+        }
+    }
+
+    /**
+     * Zone du panneau à repeindre depuis le dernier appel (remise à vide)
+     * @param out Rectangle rempli avec la zone
+     * @return false si rien n'a changé
+     */
+    public synchronized boolean takeRepaintRegion(Rectangle out) {
+        if (!hasPending) {
+            return false;
+        }
+        out.setBounds(pending);
+        hasPending = false;
+        return true;
+    }
+
+    // === RENDU ===
+
+    /**
+     * Redessine la zone sale dans le tampon puis copie le tampon à l'écran
+     * (la copie est limitée par la zone de découpe du contexte graphique)
+     */
+    public void draw(Graphics g) {
+        Rectangle zone = null;
+        synchronized (this) {
+            if (hasDirty) {
+                zone = dirty.intersection(new Rectangle(0, 0, GAME_WIDTH, GAME_HEIGHT));
+                hasDirty = false;
+            }
+        }
+        if (zone != null && !zone.isEmpty()) {
+            Graphics2D bg = buffer.createGraphics();
+            try {
+                bg.setClip(zone);
+                painter.paint(bg);
+            } finally {
+                bg.dispose();
+            }
+            redraws++;
+            redrawnPixels += (long) zone.width * zone.height;
+        }
+        g.drawImage(buffer, 0, 0, null);
+    }
+
+    // === STATISTIQUES ===
+
+    public long getRedrawCount() {
+        return redraws;
+    }
+
+    public long getRedrawnPixels() {
+        return redrawnPixels;
+    }
+}
@@ -1,22 +1,20 @@
 package ui;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
+
+import utilz.TimerWheel;
 
 public class ScrollingText {
     private int x, y, width, height;
     private String fullText;
-    private StringBuilder currentText;
     private boolean isComplete;
-    private long lastCharTime;
-    private int charDelay;
+    private long ticksSinceLastChar;
+    private long charDelayTicks;   // Délai entre deux caractères, en updates
     private Font font;
     private Color textColor;
 
-    // Optimisation du word wrapping
-    private List<TextLine> textLines;
+    // Mise en page du message (une fois par message) et progression de l'affichage
+    private MessageLayout layout;
     private int visibleCharCount;
 
     // Personnalisation avancée
@@ -29,13 +27,10 @@ public class ScrollingText {
         this.y = y;
         this.width = width;
         this.height = height;
-        this.currentText = new StringBuilder();
-        this.textLines = new ArrayList<>();
         this.isComplete = false;
-        this.charDelay = 50;
-        this.font = new Font("Arial", Font.PLAIN, 16);
+        this.charDelayTicks = TimerWheel.MillisToTicks(50);
+        this.font = FontCache.Get(Font.PLAIN, 16);
         this.textColor = Color.BLACK;
-        this.lastCharTime = System.currentTimeMillis();
         this.padding = 10;
         this.backgroundColor = new Color(0, 0, 0, 128);
         this.showBackground = false;
@@ -44,61 +39,30 @@ public class ScrollingText {
     public void update() {
         if (isComplete || fullText == null) return;
 
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastCharTime >= charDelay) {
+        if (++ticksSinceLastChar >= charDelayTicks) {
             if (visibleCharCount < fullText.length()) {
+                // Révéler un caractère ne change qu'un décalage : la mise en page est déjà faite
                 visibleCharCount++;
-                currentText.setLength(0);
-                currentText.append(fullText, 0, visibleCharCount);
-                updateTextLines(); // Recalcule uniquement si nécessaire
-                lastCharTime = currentTime;
+                ticksSinceLastChar = 0;
             } else {
                 isComplete = true;
             }
         }
     }
 
-    private void updateTextLines() {
-        // Mise à jour optimisée des lignes de texte
-        textLines.clear();
-
-        if (currentText.length() == 0) return;
-
-        // Création d'un graphique temporaire pour mesurer le texte
-        GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-        Graphics2D g2d = ge.createGraphics(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
-        g2d.setFont(font);
-        FontMetrics fm = g2d.getFontMetrics();
-
-        String[] words = currentText.toString().split("\\s+");
-        int lineWidth = 0;
-        StringBuilder currentLine = new StringBuilder();
-        int effectiveWidth = width - (padding * 2);
-
-        for (String word : words) {
-            int wordWidth = fm.stringWidth(word + " ");
-
-            if (lineWidth + wordWidth > effectiveWidth && lineWidth > 0) {
-                // Nouvelle ligne
-                textLines.add(new TextLine(currentLine.toString(), x + padding, textLines.size() * fm.getHeight()));
-                currentLine.setLength(0);
-                lineWidth = 0;
-            }
-
-            currentLine.append(word).append(" ");
-            lineWidth += wordWidth;
-        }
-
-        // Dernière ligne
-        if (currentLine.length() > 0) {
-            textLines.add(new TextLine(currentLine.toString(), x + padding, textLines.size() * fm.getHeight()));
+    /**
+     * Mise en page du message courant, calculée une seule fois par message
+     * (recalculée seulement si la police, la couleur ou les dimensions changent)
+     */
+    private MessageLayout getLayout() {
+        if (layout == null && fullText != null) {
+            layout = new MessageLayout(fullText, font, textColor, width - (padding * 2));
         }
-
-        g2d.dispose();
+        return layout;
     }
 
     public void draw(Graphics g) {
-        if (currentText.length() == 0) return;
+        if (visibleCharCount == 0) return;
 
         Graphics2D g2d = (Graphics2D) g;
 
@@ -108,68 +72,41 @@ public class ScrollingText {
             g2d.fillRoundRect(x, y, width, height, 10, 10);
         }
 
-        g2d.setFont(font);
-        g2d.setColor(textColor);
-
-        // Activer l'antialiasing
-        g2d.setRenderingHint(
-            RenderingHints.KEY_TEXT_ANTIALIASING,
-            RenderingHints.VALUE_TEXT_ANTIALIAS_ON
-        );
-
-        // Dessiner chaque ligne précalculée
-        FontMetrics fm = g2d.getFontMetrics();
-        for (TextLine line : textLines) {
-            g2d.drawString(line.text, line.x, y + padding + line.yOffset + fm.getAscent());
-        }
+        // Lignes rendues une fois (antialiasées) puis copiées
+        getLayout().draw(g2d, x + padding, y + padding, visibleCharCount);
     }
 
     public void reset(String msg) {
         this.fullText = msg;
-        this.currentText.setLength(0);
         this.visibleCharCount = 0;
-        this.textLines.clear();
+        this.layout = null;
         this.isComplete = false;
-        this.lastCharTime = System.currentTimeMillis();
+        this.ticksSinceLastChar = 0;
     }
 
     public void skip() {
         if (fullText != null) {
             visibleCharCount = fullText.length();
-            currentText.setLength(0);
-            currentText.append(fullText);
-            updateTextLines();
             isComplete = true;
         }
     }
 
-    // Classe interne pour stocker les lignes précalculées
-    private static class TextLine {
-        String text;
-        int x;
-        int yOffset;
-
-        TextLine(String text, int x, int yOffset) {
-            this.text = text;
-            this.x = x;
-            this.yOffset = yOffset;
-        }
-    }
-
     // Setters améliorés
+    /**
+     * @param delay Délai entre deux caractères en millisecondes (converti en updates)
+     */
     public void setCharDelay(int delay) {
-        this.charDelay = delay;
+        this.charDelayTicks = TimerWheel.MillisToTicks(delay);
     }
 
     public void setFont(Font font) {
         this.font = font;
-        if (fullText != null) {
-            updateTextLines(); // Recalculer les lignes si la police change
-        }
+        this.layout = null; // Recalculer les lignes si la police change
     }
 
     public void setTextColor(Color color) {
         this.textColor = color;
+        this.layout = null;
     }
 
     public void setBackgroundVisible(boolean visible) {
@@ -182,9 +119,7 @@ public class ScrollingText {
 
     public void setPadding(int padding) {
         this.padding = padding;
-        if (fullText != null) {
-            updateTextLines();
-        }
+        this.layout = null;
     }
 
     public boolean isComplete() {
@@ -194,16 +129,11 @@ public class ScrollingText {
     public void setPosition(int x, int y) {
         this.x = x;
         this.y = y;
-        if (fullText != null) {
-            updateTextLines();
-        }
     }
 
     public void setDimensions(int width, int height) {
         this.width = width;
         this.height = height;
-        if (fullText != null) {
-            updateTextLines();
-        }
+        this.layout = null;
     }
 }
\ No newline at end of file
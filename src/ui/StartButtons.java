@@ -9,7 +9,7 @@ import static utilz.Constants.SetLanguage;
 import static utilz.Constants.UI.BUTTONS.DEFAULT_HEIGHT;
 import static utilz.Constants.UI.BUTTONS.DEFAULT_WIDTH;
 import utilz.LoadSave;
-import static utilz.LoadSave.GetSpriteAtlas;
+import static utilz.LoadSave.GetUISprite;
 
 public class StartButtons extends Button{
 
@@ -28,7 +28,7 @@ public class StartButtons extends Button{
     }
 
     private void loadImages() {
-        BufferedImage temp = GetSpriteAtlas(LoadSave.BUTTONS);
+        BufferedImage temp = GetUISprite(LoadSave.BUTTONS);
         for (int  i = 0;  i < img.length ;  i++)
             img[i] = temp.getSubimage( (rowIndex * DEFAULT_WIDTH), i  * DEFAULT_HEIGHT, DEFAULT_WIDTH, DEFAULT_HEIGHT);
     }
@@ -0,0 +1,207 @@
+package utilz;
+
+// Java standard library imports
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gestionnaire de préchargement asynchrone des images du jeu
+ *
+ * FONCTIONNEMENT:
+ * - Toutes les images PNG/JPG sont décodées en parallèle sur un pool de threads borné
+ * - Chaque image en cours de décodage est exposée sous forme de CompletableFuture
+ * - Une fois décodée, l'image est remise à l'ImageCache et la future est oubliée
+ * - LoadSave.GetSpriteAtlas attend la future correspondante au lieu de redécoder le fichier
+ * - Les atlas générés (TextureAtlas) sont chargés sur le même pool ; les PNG qu'ils
+ *   contiennent ne sont pas décodés séparément
+ * - La progression (images prêtes / images demandées) est lue par l'état Splash
+ *
+ * Le temps de démarrage est ainsi borné par le décodage le plus lent
+ * (à nombre de coeurs égal) et non plus par la somme de tous les décodages.
+ *
+ * @author Lounol72
+ */
+public class AssetManager {
+
+    private static final int POOL_SIZE = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final long IDLE_TIMEOUT_SECONDS = 5;
+
+    // Déclarée après les constantes utilisées par le constructeur
+    private static final AssetManager INSTANCE = new AssetManager();
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
+
+    // === PROGRESSION ===
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private AssetManager() {
+        executor = new ThreadPoolExecutor(
+            POOL_SIZE, POOL_SIZE,
+            IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new DecoderThreadFactory()
+        );
+        // Les threads s'arrêtent d'eux-mêmes une fois le préchargement terminé
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static AssetManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Lance le décodage de toutes les images du dossier assets
+     * Les images critiques pour le démarrage sont soumises en premier, puis les atlas
+     * générés ; les pages d'atlas et les PNG qu'elles remplacent sont exclus du
+     * parcours pour ne pas être décodés deux fois
+     */
+    public void preloadAll() {
+        preload(LoadSave.STARTUP_ASSETS);
+
+        List<String> packedDirs = new ArrayList<>();
+        for (String[] group : TextureAtlas.PACKED_GROUPS) {
+            if (TextureAtlas.exists(group[0])) {
+                packedDirs.add(group[1]);
+                preloadAtlas(group[0]);
+            }
+        }
+
+        for (String path : LoadSave.ListImageResources(LoadSave.ASSETS)) {
+            if (!path.startsWith(TextureAtlas.ATLAS_DIR) && !isPacked(path, packedDirs)) {
+                preload(path);
+            }
+        }
+    }
+
+    /**
+     * Charge un atlas (index et pages) sur le pool, compté dans la progression
+     * @param group Nom du groupe (TextureAtlas.UI, TextureAtlas.ICMONS)
+     */
+    private void preloadAtlas(String group) {
+        requested.incrementAndGet();
+        CompletableFuture
+            .runAsync(() -> TextureAtlas.get(group), executor)
+            .whenComplete((ignored, error) -> completed.incrementAndGet());
+    }
+
+    /**
+     * Vérifie si une image est servie par un atlas généré (PNG d'un dossier empaqueté)
+     */
+    private static boolean isPacked(String path, List<String> packedDirs) {
+        if (!path.toLowerCase(Locale.ROOT).endsWith(".png")) {
+            return false;
+        }
+        for (String dir : packedDirs) {
+            if (path.startsWith(dir)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lance le décodage d'une liste d'images
+     * @param paths Chemins des ressources (ex: "/assets/UI/logo.png")
+     */
+    public void preload(Collection<String> paths) {
+        for (String path : paths) {
+            preload(path);
+        }
+    }
+
+    /**
+     * Lance le décodage d'une image si ce n'est pas déjà fait
+     * @param path Chemin de la ressource
+     * @return Future qui fournira l'image décodée (null si introuvable)
+     */
+    public CompletableFuture<BufferedImage> preload(String path) {
+        BufferedImage cached = ImageCache.getInstance().peek(path, 1f);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        // Réservation de l'entrée d'abord : le rappel de fin s'attache hors de toute
+        // opération sur la map (un rappel exécuté dans computeIfAbsent ne pourrait pas
+        // retirer sa propre clé), et seulement par l'appelant qui a créé la future
+        CompletableFuture<BufferedImage> future = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> running = images.putIfAbsent(path, future);
+        if (running != null) {
+            return running;
+        }
+        requested.incrementAndGet();
+        CompletableFuture
+            .supplyAsync(() -> ImageCache.getInstance().put(path, 1f, LoadSave.ReadImage(path)), executor)
+            .whenComplete((img, error) -> {
+                try {
+                    // Une fois l'image remise au cache, la future n'a plus à être retenue
+                    completed.incrementAndGet();
+                    images.remove(path, future);
+                } finally {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(img);
+                    }
+                }
+            });
+        return future;
+    }
+
+    /**
+     * Retourne la future d'une image en cours de préchargement
+     * @param path Chemin de la ressource
+     * @return Future de l'image, ou null si l'image n'est pas en cours de décodage
+     */
+    public CompletableFuture<BufferedImage> get(String path) {
+        return images.get(path);
+    }
+
+    /**
+     * Progression du préchargement entre 0 et 1
+     */
+    public float getProgress() {
+        int total = requested.get();
+        return total == 0 ? 1f : (float) completed.get() / total;
+    }
+
+    /**
+     * Vérifie si toutes les images demandées sont décodées
+     */
+    public boolean isDone() {
+        return completed.get() >= requested.get();
+    }
+
+    public int getRequestedCount() {
+        return requested.get();
+    }
+
+    public int getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Fabrique de threads démons pour ne pas bloquer la fermeture du jeu
+     */
+    private static class DecoderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "asset-decoder-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -106,6 +106,8 @@ public class Constants {
         public static final String DATA = ROOT + "data/";
         public static final String DATA_FILE = DATA + "data.json";
         public static final String LANGUAGE_FILE = DATA + "language.json";
+        public static final String SAVE_FILE = DATA + "save_1.icps";
+        public static final String SAVE_JSON_FILE = DATA + "save_1.json";
 
 
     }
@@ -116,6 +118,7 @@ public class Constants {
         public final static int TILES_SIZE = (int) (TILES_DEFAULT_SIZE * SCALE);  // Taille d'une tuile après mise à l'échelle
         public final static int GAME_WIDTH = TILES_SIZE * TILES_IN_WIDTH;           // Largeur totale du jeu
         public final static int GAME_HEIGHT = TILES_SIZE * TILES_IN_HEIGHT;         // Hauteur totale du jeu
+        public final static int EMPTY_TILE_ID = 21;                                 // ID de la tile vide (air)
         public static class ONE_WAY_PLATFORMS{
             public static final int[] ONE_WAY_TILE_IDS = {6, 13, 19, 20}; 
             public static final float ONE_WAY_TOLERANCE = 3f * SCALE;     // Moins d'accrochage
@@ -123,12 +126,47 @@ public class Constants {
         }
     }
     
+    public static class CACHE{
+        public static final long IMAGE_CACHE_BUDGET_BYTES = 256L * 1024 * 1024; // Budget mémoire des images décodées
+    }
+
+    public static class PARTICLES{
+        public static final int MAX_PARTICLES = 16384;          // Capacité des tampons de particules
+        public static final int PARALLEL_THRESHOLD = 4096;      // Au-delà, mise à jour parallèle par blocs
+        public static final int PARALLEL_CHUNK = 2048;          // Taille d'un bloc de mise à jour
+        public static final float GRAVITY = 0.05f * SCALE;      // Gravité des particules (plus légère que le joueur)
+    }
+
+    public static class CAMERA{
+        public static final float LEFT_BORDER = 0.2f;           // Zone morte (fractions de l'écran)
+        public static final float RIGHT_BORDER = 0.8f;
+        public static final float TOP_BORDER = 0.3f;
+        public static final float BOTTOM_BORDER = 0.9f;
+        public static final float SMOOTHING = 0.12f;            // Part de l'écart rattrapée par update
+        public static final float LOOK_AHEAD_UPDATES = 30f;     // Anticipation : vitesse x updates
+        public static final float LOOK_AHEAD_MAX = 3f * WORLD.TILES_SIZE; // Anticipation max (3 tiles)
+        public static final float LOOK_AHEAD_SMOOTHING = 0.03f; // Lissage de l'anticipation (demi-tours)
+        public static final int CHUNK_TILES = 16;               // Côté d'un tronçon de tiles
+    }
+
+    public static class TIMERS{
+        public static final int UPS = 200;                      // Updates par seconde de la boucle de jeu
+        public static final int WHEEL_BITS = 6;                 // 64 cases par roue de TimerWheel
+        public static final int WHEEL_LEVELS = 4;               // 4 roues : horizon de 2^24 updates (~23 h)
+    }
+
+    public static class SAVE{
+        public static final int AUTOSAVE_INTERVAL_UPDATES = 200 * 60; // Une demande par minute de jeu (200 UPS)
+        public static final long QUIT_FLUSH_TIMEOUT_MS = 2000;        // Attente max des écritures en quittant
+    }
     public static class DEBUG{
         public static final boolean RENDER_FPS_UPS = true;  // Afficher FPS/UPS à l'écran
+        public static final boolean POOL_LEAK_DETECTION = false; // Suivre les objets sortis des ObjectPool (coûteux)
     }
     
 
     public static void SetLanguage (String name){
         language = name;
+        Localization.getInstance().setLanguage(name);
     }
 }
\ No newline at end of file
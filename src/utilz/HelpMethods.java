@@ -6,13 +6,9 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Type;
-import java.net.URL;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.Random;
-import java.util.ResourceBundle;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -21,9 +17,10 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import levels.TileClassMap;
+import static utilz.Constants.WORLD.EMPTY_TILE_ID;
 import static utilz.Constants.WORLD.TILES_DEFAULT_SIZE;
 import static utilz.Constants.WORLD.TILES_SIZE;
-import static utilz.Constants.language;
 /**
  * Cette classe contient des méthodes utilitaires pour le jeu
  * @implNote Cette classe est utilisée pour gérer les données du jeu
@@ -33,12 +30,14 @@ public class HelpMethods {
     
     private static final Random rnd = new Random();
 
+    // Hitboxes de test des vérifications de collision (boucle de jeu uniquement)
+    public static final ObjectPool<Rectangle2D.Float> HITBOX_POOL =
+        new ObjectPool<>("Hitbox", 16, Rectangle2D.Float::new, r -> r.setRect(0, 0, 0, 0));
+
     // Cache des données pour éviter des lectures répétées
     private static Map<String, JsonObject> jsonCache = new HashMap<>();
     private static Gson gson = new Gson();
 
-    private static ResourceBundle bundle;
-
     /**
      * Charge un fichier JSON en cache s'il n'y est pas déjà
      * @param filePath Chemin vers le fichier JSON
@@ -55,39 +54,14 @@ public class HelpMethods {
         return jsonCache.get(filePath);
     }
     /**
-     * Retourne une phrase à partir de son nom
+     * Retourne une phrase à partir de son nom dans la langue courante
+     * Les traductions sont préchargées par Localization : aucun accès disque
      * @param name Nom de la phrase
-     * @return Phrase
+     * @return Phrase (traduction par défaut, puis le nom lui-même si elle manque)
      */
     public static String GetPhrase(String name){
-        try {
-            // Utilisation du chemin complet correspondant à la structure de vos fichiers
-            bundle = ResourceBundle.getBundle("data.langue", new Locale(language), new ResourceControl());
-            return bundle.getString(name);
-
-
-        } catch (MissingResourceException e) {
-            System.err.printf("Erreur lors de la récupération de la phrase : {%s} - {%s}%n", name, e.getMessage());
-            // Tentative de fallback vers l'anglais si la langue demandée n'existe pas
-            try {
-                bundle = ResourceBundle.getBundle("res.data.langue", new Locale("en"));
-                return bundle.getString(name);
-            } catch (MissingResourceException e2) {
-                return "Error: " + name;
-            }finally{
-                System.exit(3);
-            }
-        }
+        return Localization.getInstance().get(name);
     }
-    // Classe pour gérer le chargement des ressources depuis le dossier res
-    private static class ResourceControl extends ResourceBundle.Control {
-        public URL getResource( String baseName, String locale) {
-            String bundleName = toBundleName(baseName, Locale.of(locale));
-            String resourceName = toResourceName(bundleName, "properties");
-            return ClassLoader.getSystemResource("res/" + resourceName);
-        }
-    }
-
 
     /**
      * Charge les données de niveau depuis un fichier JSON Tiled
@@ -126,7 +100,7 @@ public class HelpMethods {
                 for (int x = 0; x < width; x++) {
                     int index = y * width + x;
                     if(dataArray.get(index).getAsInt() == 0)
-                        levelData[y][x] = 21;
+                        levelData[y][x] = EMPTY_TILE_ID;
                     else
                         levelData[y][x] = dataArray.get(index).getAsInt() - 1;
                 }
@@ -153,7 +127,10 @@ public class HelpMethods {
      * @param arrayName Nom du tableau dans le JSON
      * @param id ID de l'élément
      * @param classOfT Classe à instancier
+     * @deprecated Parcourt l'arbre JSON et utilise la réflexion Gson à chaque appel ;
+     *             utiliser data.GameDataRepository pour les ICMons, attaques, movepools et équipes
      */
+    @Deprecated
     public static <T> T loadResource(String filePath, String arrayName, int id, Class<T> classOfT) {
         try {
             JsonObject jsonData = getJsonData(filePath);
@@ -210,17 +187,14 @@ public class HelpMethods {
         return ACTION_SPRITE_COUNT.getOrDefault(action, 0);
     }
     /**
-     * Retourne la valeur de la tile à la position donnée
-     * @param x Position X de la tile
-     * @param y Position Y de la tile
-     * @param lvlData Données du niveau
-     * @return Valeur de la tile
+     * Retourne la classe de collision de la tile à la position donnée
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     * @param tiles Carte des classes de collision du niveau (Level.getTileClasses())
+     * @return Classe de la tile (TileClassMap.EMPTY, SOLID ou ONE_WAY)
      */
-    private static int GetLvlDataValue(float x, float y, int[][] lvlData) {
-        float xIndex = x / TILES_SIZE;
-        float yIndex = y / TILES_SIZE;
-
-        return lvlData[(int) yIndex][(int) xIndex];
+    private static int GetTileClass(float x, float y, TileClassMap tiles) {
+        return tiles.getAt(x, y);
     }
 
 
@@ -231,17 +205,17 @@ public class HelpMethods {
      * @deprecated Utiliser IsEntityOnFloorAABB à la place
      */
     @Deprecated
-    private static boolean IsSolid(float x, float y, int[][] lvlData) {
-        return (GetLvlDataValue(x, y, lvlData) != 21);
+    private static boolean IsSolid(float x, float y, TileClassMap tiles) {
+        return GetTileClass(x, y, tiles) != TileClassMap.EMPTY;
     }
     
     /**
      * @deprecated Utiliser IsEntityOnFloorAABB à la place
      */
     @Deprecated
-    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, int[][] lvlData) {
-        if (!IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, lvlData))
-            if (!IsSolid(hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, lvlData))
+    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, TileClassMap tiles) {
+        if (!IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, tiles))
+            if (!IsSolid(hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, tiles))
                 return false;
         return true;
     }
@@ -283,12 +257,7 @@ public class HelpMethods {
      * @return true si c'est une plateforme one-way
      */
     public static boolean isOneWayPlatform(int tileId) {
-        for (int oneWayId : Constants.WORLD.ONE_WAY_PLATFORMS.ONE_WAY_TILE_IDS) {
-            if (tileId == oneWayId) {
-                return true;
-            }
-        }
-        return false;
+        return TileClassMap.classOf(tileId) == TileClassMap.ONE_WAY;
     }
 
     /**
@@ -303,7 +272,13 @@ public class HelpMethods {
         if (!isOneWayPlatform(tileId))
             return false;
         
+        return canPassThroughOneWay(hitbox, airSpeed, isDownPressed);
+    }
 
+    /**
+     * Règle de passage à travers une plateforme one-way (la tile est déjà connue comme one-way)
+     */
+    private static boolean canPassThroughOneWay(Rectangle2D.Float hitbox, float airSpeed, boolean isDownPressed) {
         if (airSpeed < 0) {
             return true;
         }
@@ -321,43 +296,43 @@ public class HelpMethods {
      * Vérifie si une position est solide en tenant compte des plateformes one-way
      * @param x Position X
      * @param y Position Y  
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @param hitbox Hitbox de l'entité (pour les plateformes one-way)
      * @param airSpeed Vitesse verticale (pour les plateformes one-way)
      * @return true si la position est solide
      */
-    public static boolean IsSolid (float x, float y, int[][] lvlData, Rectangle2D.Float hitbox, float airSpeed, boolean isDownPressed) {
-        int tileId = GetLvlDataValue(x, y, lvlData);
+    public static boolean IsSolid (float x, float y, TileClassMap tiles, Rectangle2D.Float hitbox, float airSpeed, boolean isDownPressed) {
+        int tileClass = GetTileClass(x, y, tiles);
         
         // Si c'est une plateforme one-way, vérifier si on peut passer à travers
-        if (isOneWayPlatform(tileId)) {
-            return !canPassThroughOneWay(hitbox, tileId, airSpeed, isDownPressed);
+        if (tileClass == TileClassMap.ONE_WAY) {
+            return !canPassThroughOneWay(hitbox, airSpeed, isDownPressed);
         }
         
         // Comportement normal pour les autres tiles
-        return (tileId != 21);
+        return tileClass != TileClassMap.EMPTY;
     }
     
     /**
      * Vérifie si une position est solide en tenant compte des plateformes one-way (version avec Vector2D)
      * @param x Position X
      * @param y Position Y  
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @param hitbox Hitbox de l'entité (pour les plateformes one-way)
      * @param velocity Vélocité de l'entité (pour les plateformes one-way)
      * @param isDownPressed Si la touche down est pressée
      * @return true si la position est solide
      */
-    public static boolean IsSolid (float x, float y, int[][] lvlData, Rectangle2D.Float hitbox, physics.Vector2D velocity, boolean isDownPressed) {
-        int tileId = GetLvlDataValue(x, y, lvlData);
+    public static boolean IsSolid (float x, float y, TileClassMap tiles, Rectangle2D.Float hitbox, physics.Vector2D velocity, boolean isDownPressed) {
+        int tileClass = GetTileClass(x, y, tiles);
         
         // Si c'est une plateforme one-way, vérifier si on peut passer à travers
-        if (isOneWayPlatform(tileId)) {
-            return !canPassThroughOneWay(hitbox, tileId, velocity.y, isDownPressed);
+        if (tileClass == TileClassMap.ONE_WAY) {
+            return !canPassThroughOneWay(hitbox, velocity.y, isDownPressed);
         }
         
         // Comportement normal pour les autres tiles
-        return (tileId != 21);
+        return tileClass != TileClassMap.EMPTY;
     }
 
     // ========== NOUVELLES MÉTHODES AABB ==========
@@ -470,6 +445,19 @@ public class HelpMethods {
         return null;
     }
     
+    /**
+     * Hitbox temporaire sortie de HITBOX_POOL, à rendre avec FreeHitbox (dans un finally)
+     */
+    public static Rectangle2D.Float ObtainHitbox(float x, float y, float width, float height) {
+        Rectangle2D.Float hitbox = HITBOX_POOL.obtain();
+        hitbox.setRect(x, y, width, height);
+        return hitbox;
+    }
+
+    public static void FreeHitbox(Rectangle2D.Float hitbox) {
+        HITBOX_POOL.free(hitbox);
+    }
+    
     /**
      * Vérifie si l'entité peut se déplacer à une position donnée avec AABB
      * @param x Position X
@@ -490,20 +478,16 @@ public class HelpMethods {
             return false;
         }
         
-        // Créer une hitbox temporaire pour la position testée
-        Rectangle2D.Float testHitbox = new Rectangle2D.Float(x, y, width, height);
-        
-        // Vérifier les collisions solides
-        if (checkAABBCollision(testHitbox, level)) {
-            return false;
-        }
+        // Hitbox temporaire pour la position testée (réserve : aucune allocation par tick)
+        Rectangle2D.Float testHitbox = ObtainHitbox(x, y, width, height);
         
-        // Vérifier les plateformes one-way
-        if (checkOneWayPlatformCollision(testHitbox, level, velocity, isDownPressed)) {
-            return false;
+        // Collisions solides, puis plateformes one-way
+        try {
+            return !(checkAABBCollision(testHitbox, level)
+                || checkOneWayPlatformCollision(testHitbox, level, velocity, isDownPressed));
+        } finally {
+            FreeHitbox(testHitbox);
         }
-        
-        return true;
     }
     
     /**
@@ -520,7 +504,7 @@ public class HelpMethods {
     public static boolean IsEntityOnFloorAABB(Rectangle2D.Float hitbox, levels.Level level, physics.Vector2D velocity) {
         // Créer une hitbox légèrement en dessous pour détecter le sol
         // Cette hitbox de 1 pixel de hauteur est placée juste sous les pieds du joueur
-        Rectangle2D.Float groundCheckHitbox = new Rectangle2D.Float(
+        Rectangle2D.Float groundCheckHitbox = ObtainHitbox(
             hitbox.x, 
             hitbox.y + hitbox.height + 1, 
             hitbox.width, 
@@ -528,21 +512,17 @@ public class HelpMethods {
         );
         
         // Vérifier d'abord les collisions avec les blocs solides (murs, sol normal)
-        if (checkAABBCollision(groundCheckHitbox, level)) {
-            return true;
-        }
-        
-        // Vérifier les plateformes one-way
+        // puis les plateformes one-way
         // CORRECTION CRITIQUE: Vérifier les plateformes one-way dans TOUS les cas sauf montée
         // - velocity.y > 0 : le joueur tombe → vérifier
         // - velocity.y == 0 : le joueur est immobile → vérifier AUSSI (c'est la clé du fix!)
-        // - velocity.y < 0 : le joueur monte → ne pas vérifier
-        if (velocity.y >= 0) {
-            return checkOneWayPlatformCollision(groundCheckHitbox, level, velocity, false);
+        // - velocity.y < 0 : le joueur monte → ne pas vérifier (pas sur le sol)
+        try {
+            return checkAABBCollision(groundCheckHitbox, level)
+                || (velocity.y >= 0 && checkOneWayPlatformCollision(groundCheckHitbox, level, velocity, false));
+        } finally {
+            FreeHitbox(groundCheckHitbox);
         }
-        
-        // Si velocity.y < 0, le joueur monte (saut) → pas sur le sol
-        return false;
     }
     
     /**
@@ -637,20 +617,20 @@ public class HelpMethods {
      * @param y Position Y
      * @param width Largeur
      * @param height Hauteur
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @param hitbox Hitbox de l'entité
      * @param airSpeed Vitesse verticale
      * @return true si le mouvement est possible
      */
-    public static boolean CanMoveHere(float x, float y, float width, float height, int[][] lvlData, Rectangle2D.Float hitbox, float airSpeed, boolean isDownPressed) {
-        if (x < 0 || x >= lvlData[0].length * TILES_SIZE || y < 0 || y >= lvlData.length * TILES_SIZE)
+    public static boolean CanMoveHere(float x, float y, float width, float height, TileClassMap tiles, Rectangle2D.Float hitbox, float airSpeed, boolean isDownPressed) {
+        if (x < 0 || x >= tiles.getWidth() * TILES_SIZE || y < 0 || y >= tiles.getHeight() * TILES_SIZE)
             return false;
 
         // Vérifier les coins avec la logique one-way
-        boolean bottomLeft = !IsSolid(x, y + height, lvlData, hitbox, airSpeed, isDownPressed);
-        boolean bottomRight = !IsSolid(x + width, y + height, lvlData, hitbox, airSpeed, isDownPressed);
-        boolean topLeft = !IsSolid(x, y, lvlData, hitbox, airSpeed, isDownPressed);
-        boolean topRight = !IsSolid(x + width, y, lvlData, hitbox, airSpeed, isDownPressed);
+        boolean bottomLeft = !IsSolid(x, y + height, tiles, hitbox, airSpeed, isDownPressed);
+        boolean bottomRight = !IsSolid(x + width, y + height, tiles, hitbox, airSpeed, isDownPressed);
+        boolean topLeft = !IsSolid(x, y, tiles, hitbox, airSpeed, isDownPressed);
+        boolean topRight = !IsSolid(x + width, y, tiles, hitbox, airSpeed, isDownPressed);
         
         return bottomLeft && bottomRight && topLeft && topRight;
     }
@@ -661,21 +641,21 @@ public class HelpMethods {
      * @param y Position Y
      * @param width Largeur
      * @param height Hauteur
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @param hitbox Hitbox de l'entité
      * @param velocity Vélocité de l'entité
      * @param isDownPressed Si la touche down est pressée
      * @return true si le mouvement est possible
      */
-    public static boolean CanMoveHere(float x, float y, float width, float height, int[][] lvlData, Rectangle2D.Float hitbox, physics.Vector2D velocity, boolean isDownPressed) {
-        if (x < 0 || x >= lvlData[0].length * TILES_SIZE || y < 0 || y >= lvlData.length * TILES_SIZE)
+    public static boolean CanMoveHere(float x, float y, float width, float height, TileClassMap tiles, Rectangle2D.Float hitbox, physics.Vector2D velocity, boolean isDownPressed) {
+        if (x < 0 || x >= tiles.getWidth() * TILES_SIZE || y < 0 || y >= tiles.getHeight() * TILES_SIZE)
             return false;
 
         // Vérifier les coins avec la logique one-way
-        boolean bottomLeft = !IsSolid(x, y + height, lvlData, hitbox, velocity, isDownPressed);
-        boolean bottomRight = !IsSolid(x + width, y + height, lvlData, hitbox, velocity, isDownPressed);
-        boolean topLeft = !IsSolid(x, y, lvlData, hitbox, velocity, isDownPressed);
-        boolean topRight = !IsSolid(x + width, y, lvlData, hitbox, velocity, isDownPressed);
+        boolean bottomLeft = !IsSolid(x, y + height, tiles, hitbox, velocity, isDownPressed);
+        boolean bottomRight = !IsSolid(x + width, y + height, tiles, hitbox, velocity, isDownPressed);
+        boolean topLeft = !IsSolid(x, y, tiles, hitbox, velocity, isDownPressed);
+        boolean topRight = !IsSolid(x + width, y, tiles, hitbox, velocity, isDownPressed);
         
         return bottomLeft && bottomRight && topLeft && topRight;
     }
@@ -683,14 +663,14 @@ public class HelpMethods {
     /**
      * Vérifie si l'entité est sur le sol en tenant compte des plateformes one-way
      * @param hitbox Hitbox de l'entité
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @param airSpeed Vitesse verticale
      * @return true si l'entité est sur le sol
      */
-    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, int[][] lvlData, float airSpeed) {
+    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, TileClassMap tiles, float airSpeed) {
         // Vérifier les pixels en dessous avec la logique one-way
-        boolean leftPixel = IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, lvlData, hitbox, airSpeed, false);
-        boolean rightPixel = IsSolid (hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, lvlData, hitbox, airSpeed, false);
+        boolean leftPixel = IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, tiles, hitbox, airSpeed, false);
+        boolean rightPixel = IsSolid (hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, tiles, hitbox, airSpeed, false);
         
         return leftPixel || rightPixel;
     }
@@ -698,32 +678,36 @@ public class HelpMethods {
     /**
      * Vérifie si l'entité est sur le sol en tenant compte des plateformes one-way (version avec Vector2D)
      * @param hitbox Hitbox de l'entité
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @param velocity Vélocité de l'entité
      * @return true si l'entité est sur le sol
      */
-    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, int[][] lvlData, physics.Vector2D velocity) {
+    public static boolean IsEntityOnFloor(Rectangle2D.Float hitbox, TileClassMap tiles, physics.Vector2D velocity) {
         // Vérifier les pixels en dessous avec la logique one-way
-        boolean leftPixel = IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, lvlData, hitbox, velocity, false);
-        boolean rightPixel = IsSolid(hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, lvlData, hitbox, velocity, false);
+        boolean leftPixel = IsSolid(hitbox.x, hitbox.y + hitbox.height + 1, tiles, hitbox, velocity, false);
+        boolean rightPixel = IsSolid(hitbox.x + hitbox.width, hitbox.y + hitbox.height + 1, tiles, hitbox, velocity, false);
         
         return leftPixel || rightPixel;
     }
     /**
      * Vérifie si l'entité est dans une tile one-way
      * @param hitbox Hitbox de l'entité
-     * @param lvlData Données du niveau
+     * @param tiles Carte des classes de collision du niveau
      * @return true si l'entité est dans une tile one-way
      */
-    public static boolean IsInOneWayTile(Rectangle2D.Float hitbox, int[][] lvlData) {
+    public static boolean IsInOneWayTile(Rectangle2D.Float hitbox, TileClassMap tiles) {
+        // Même couverture que l'ancien parcours pixel par pixel : du pixel x
+        // jusqu'au dernier pixel échantillonné x + ceil(width) - 1 (idem en y),
+        // mais en ne testant qu'une fois chaque tile recouverte
+        float lastX = hitbox.x + Math.max(0f, (float) Math.ceil(hitbox.width) - 1);
+        float lastY = hitbox.y + Math.max(0f, (float) Math.ceil(hitbox.height) - 1);
+        if (hitbox.width <= 0 || hitbox.height <= 0)
+            return false;
 
-        // Si un des pixels de l'hitbox est dans une tile one-way return true
-        // donc regarder chaque coins de l'hitbox
-        for(float i = hitbox.x; i < hitbox.x + hitbox.width; i++)
-            for(float j = hitbox.y; j < hitbox.y + hitbox.height; j++)
-                if(isOneWayPlatform(GetLvlDataValue(i, j, lvlData)))
-                    return true;
-        return false;
+        return tiles.anyInRange(
+            (int) (hitbox.x / TILES_SIZE), (int) (hitbox.y / TILES_SIZE),
+            (int) (lastX / TILES_SIZE), (int) (lastY / TILES_SIZE),
+            TileClassMap.ONE_WAY);
     }
     /**
      * Map et clamps une valeur entre deux valeurs
@@ -0,0 +1,224 @@
+package utilz;
+
+// Java standard library imports
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import static utilz.Constants.CACHE.IMAGE_CACHE_BUDGET_BYTES;
+
+/**
+ * Cache central des images décodées
+ *
+ * FONCTIONNEMENT:
+ * - Clé = chemin de la ressource + facteur d'échelle (une image mise à l'échelle est une entrée distincte)
+ * - La taille décodée (largeur x hauteur x octets par pixel) est comptée contre un budget mémoire
+ * - Les entrées sont soit épinglées (acquire/release, compteur de références) soit libres
+ * - Au-delà du budget, les entrées libres les moins récemment utilisées sont évincées (LRU)
+ *
+ * Les entrées épinglées ne sont jamais évincées : si tout est épinglé, le cache peut
+ * dépasser temporairement son budget.
+ *
+ * @author Lounol72
+ */
+public class ImageCache {
+
+    private static final ImageCache INSTANCE = new ImageCache(IMAGE_CACHE_BUDGET_BYTES);
+
+    // Ordre d'accès : la première entrée est la moins récemment utilisée
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long budgetBytes;
+    private long usedBytes;
+
+    // === STATISTIQUES ===
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ImageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    public static ImageCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Recherche une image dans le cache sans l'épingler
+     * @param path Chemin de la ressource
+     * @param scale Facteur d'échelle (1 = image d'origine)
+     * @return L'image, ou null si elle n'est pas en cache
+     */
+    public synchronized BufferedImage get(String path, float scale) {
+        Entry entry = entries.get(key(path, scale));
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.image;
+    }
+
+    /**
+     * Ajoute une image au cache (non épinglée)
+     * Si la clé existe déjà, l'image en cache est conservée et retournée
+     * @param path Chemin de la ressource
+     * @param scale Facteur d'échelle
+     * @param image Image décodée
+     * @return L'image effectivement en cache
+     */
+    public synchronized BufferedImage put(String path, float scale, BufferedImage image) {
+        if (image == null) {
+            return null;
+        }
+        String key = key(path, scale);
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return existing.image;
+        }
+        Entry entry = new Entry(image);
+        entries.put(key, entry);
+        usedBytes += entry.bytes;
+        evictIfNeeded();
+        return image;
+    }
+
+    /**
+     * Récupère une image et l'épingle (elle ne sera pas évincée avant release)
+     * L'image est chargée (et mise à l'échelle) si elle n'est pas en cache
+     * @param path Chemin de la ressource
+     * @param scale Facteur d'échelle
+     * @return L'image épinglée, ou null si introuvable
+     */
+    public BufferedImage acquire(String path, float scale) {
+        // Chargement hors verrou : le décodage peut être long
+        BufferedImage image = LoadSave.GetScaledSprite(path, scale);
+        if (image == null) {
+            return null;
+        }
+        synchronized (this) {
+            String key = key(path, scale);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                // Évincée entre-temps : la remettre
+                entry = new Entry(image);
+                entries.put(key, entry);
+                usedBytes += entry.bytes;
+            }
+            entry.refCount++;
+            return entry.image;
+        }
+    }
+
+    /**
+     * Libère une image précédemment obtenue par acquire
+     * Une fois libre, elle redevient candidate à l'éviction
+     * @param path Chemin de la ressource
+     * @param scale Facteur d'échelle
+     */
+    public synchronized void release(String path, float scale) {
+        Entry entry = entries.get(key(path, scale));
+        if (entry == null || entry.refCount == 0) {
+            System.err.println("ImageCache: release sans acquire pour " + key(path, scale));
+            return;
+        }
+        entry.refCount--;
+        evictIfNeeded();
+    }
+
+    /**
+     * Vérifie la présence d'une image sans modifier l'ordre LRU ni les statistiques
+     */
+    public synchronized boolean contains(String path, float scale) {
+        return entries.containsKey(key(path, scale));
+    }
+
+    /**
+     * Recherche une image sans compter de hit/miss (usage interne : préchargement)
+     */
+    synchronized BufferedImage peek(String path, float scale) {
+        Entry entry = entries.get(key(path, scale));
+        return entry == null ? null : entry.image;
+    }
+
+    /**
+     * Modifie le budget mémoire et évince si nécessaire
+     * @param budgetBytes Nouveau budget en octets
+     */
+    public synchronized void setBudget(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evictIfNeeded();
+    }
+
+    // Évince les entrées libres les plus anciennes jusqu'à repasser sous le budget
+    private void evictIfNeeded() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (usedBytes > budgetBytes && it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.refCount == 0) {
+                it.remove();
+                usedBytes -= entry.bytes;
+                evictions++;
+            }
+        }
+    }
+
+    private static String key(String path, float scale) {
+        return scale == 1f ? path : path + "@" + scale;
+    }
+
+    /**
+     * Estime la mémoire occupée par une image décodée
+     */
+    static long sizeOf(BufferedImage image) {
+        int bitsPerPixel = image.getColorModel().getPixelSize();
+        return (long) image.getWidth() * image.getHeight() * Math.max(1, (bitsPerPixel + 7) / 8);
+    }
+
+    // === GETTERS ===
+
+    public synchronized long getBudget() {
+        return budgetBytes;
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("ImageCache[%d images, %.1f/%.1f Mo, hits=%d, misses=%d, evictions=%d]",
+            entries.size(), usedBytes / (1024f * 1024f), budgetBytes / (1024f * 1024f), hits, misses, evictions);
+    }
+
+    /**
+     * Image en cache avec sa taille et son compteur de références
+     */
+    private static class Entry {
+        final BufferedImage image;
+        final long bytes;
+        int refCount;
+
+        Entry(BufferedImage image) {
+            this.image = image;
+            this.bytes = sizeOf(image);
+        }
+    }
+}
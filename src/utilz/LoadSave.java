@@ -2,9 +2,26 @@ package utilz;
 
 // Java standard library imports
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import javax.imageio.ImageIO;
 
@@ -22,12 +39,71 @@ public class LoadSave {
     public static final String PLAYER_ATTACK_ATLAS = ASSETS + "PlayerSheetAttacks.png";
     public static final String LEVEL_ONE_DATA = ASSETS + "Levels/LevelOne.png";
     public static final String LEVEL_ATLAS = ASSETS + "tileset/GrassTileSet.png";
+    public static final String LOGO = UI + "logo.png";
+    public static final String MENU_BACKGROUND = UI + "menu_background.jpg";
+
+    /**
+     * Images lues par leur chemin dès la création des états du jeu (préchargées en priorité)
+     * Les boutons passent par GetUISprite : servis par l'atlas UI s'il existe
+     */
+    public static final List<String> STARTUP_ASSETS = List.of(
+        LOGO, MENU_BACKGROUND, PLAYER_ATLAS, PLAYER_ATTACK_ATLAS, LEVEL_ATLAS
+    );
+
     /**
      * Méthode pour récupérer un sprite d'un atlas
+     * L'image est servie par l'ImageCache ; en cas d'absence, attend le préchargement
+     * de l'AssetManager s'il est en cours, sinon décode le fichier
      * @param path chemin du sprite
      * @return BufferedImage le sprite
      */
     public static BufferedImage GetSpriteAtlas(String path){
+        ImageCache cache = ImageCache.getInstance();
+        BufferedImage img = cache.get(path, 1f);
+        if (img != null) {
+            return img;
+        }
+        CompletableFuture<BufferedImage> preloaded = AssetManager.getInstance().get(path);
+        img = preloaded != null ? preloaded.join() : ReadImage(path);
+        return cache.put(path, 1f, img);
+    }
+
+    /**
+     * Méthode pour récupérer un sprite mis à l'échelle
+     * La version mise à l'échelle est calculée une seule fois puis gardée en cache
+     * @param path chemin du sprite
+     * @param scale facteur d'échelle
+     * @return BufferedImage le sprite mis à l'échelle, ou null si introuvable
+     */
+    public static BufferedImage GetScaledSprite(String path, float scale){
+        if (scale == 1f) {
+            return GetSpriteAtlas(path);
+        }
+        ImageCache cache = ImageCache.getInstance();
+        BufferedImage scaled = cache.get(path, scale);
+        if (scaled != null) {
+            return scaled;
+        }
+        BufferedImage img = GetSpriteAtlas(path);
+        if (img == null) {
+            return null;
+        }
+        int width = Math.max(1, Math.round(img.getWidth() * scale));
+        int height = Math.max(1, Math.round(img.getHeight() * scale));
+        scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(img, 0, 0, width, height, null);
+        g.dispose();
+        return cache.put(path, scale, scaled);
+    }
+
+    /**
+     * Décode une image depuis les ressources (sans passer par le préchargement)
+     * @param path chemin de la ressource
+     * @return BufferedImage l'image, ou null si introuvable
+     */
+    static BufferedImage ReadImage(String path){
         BufferedImage img = null;
         InputStream is = LoadSave.class.getResourceAsStream(path);
         if (is == null) {
@@ -52,12 +128,64 @@ public class LoadSave {
         return img;
     }
 
+    /**
+     * Liste toutes les images PNG/JPG sous un dossier de ressources
+     * Fonctionne aussi bien depuis un dossier (IDE, mvn exec) que depuis le JAR
+     * @param root dossier racine (ex: "/assets/")
+     * @return chemins des ressources, triés
+     */
+    public static List<String> ListImageResources(String root){
+        URL url = LoadSave.class.getResource(root);
+        if (url == null) {
+            System.err.println("Impossible de trouver le dossier : " + root);
+            return Collections.emptyList();
+        }
+
+        try {
+            URI uri = url.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                FileSystem fs;
+                try {
+                    fs = FileSystems.newFileSystem(uri, Map.of());
+                } catch (FileSystemAlreadyExistsException e) {
+                    fs = FileSystems.getFileSystem(uri);
+                }
+                return listImages(fs.getPath(root), root);
+            }
+            return listImages(Paths.get(uri), root);
+        } catch (Exception e) {
+            System.err.println("Erreur lors du parcours du dossier : " + root);
+            e.printStackTrace();
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<String> listImages(Path dir, String root) throws IOException {
+        String prefix = root.endsWith("/") ? root : root + "/";
+        List<String> paths = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.filter(Files::isRegularFile)
+                .filter(p -> {
+                    String name = p.getFileName().toString().toLowerCase(Locale.ROOT);
+                    return name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg");
+                })
+                .forEach(p -> paths.add(prefix + dir.relativize(p).toString().replace('\\', '/')));
+        }
+        Collections.sort(paths);
+        return paths;
+    }
+
     /**
      * Méthode pour récupérer un sprite d'un ICMon
+     * Cherche d'abord la région dans l'atlas des ICMons, puis le fichier seul
      * @param file nom du fichier du sprite
      * @return BufferedImage le sprite
      */
     public static BufferedImage GetICMonSprite(String file){
+        TextureAtlas.AtlasRegion region = TextureAtlas.find(TextureAtlas.ICMONS, RegionName(file));
+        if (region != null) {
+            return region.getImage();
+        }
         BufferedImage sprite = GetSpriteAtlas(ICMONS + file);
         if (sprite == null) {
             System.err.println("Impossible de charger l'image : " + ICMONS + file);
@@ -69,6 +197,30 @@ public class LoadSave {
         return sprite;
 
     }
+
+    /**
+     * Méthode pour récupérer une image de l'interface
+     * Cherche d'abord la région dans l'atlas UI, puis le fichier seul
+     * @param path chemin de la ressource sous UI (ex: LoadSave.BUTTONS)
+     * @return BufferedImage l'image
+     */
+    public static BufferedImage GetUISprite(String path){
+        if (path.startsWith(UI)) {
+            TextureAtlas.AtlasRegion region = TextureAtlas.find(TextureAtlas.UI, RegionName(path.substring(UI.length())));
+            if (region != null) {
+                return region.getImage();
+            }
+        }
+        return GetSpriteAtlas(path);
+    }
+
+    /**
+     * Nom d'une région d'atlas : chemin relatif sans extension
+     */
+    private static String RegionName(String file){
+        int dot = file.lastIndexOf('.');
+        return dot > 0 ? file.substring(0, dot) : file;
+    }
     /**
      * Méthode pour récupérer les données du niveau depuis le fichier JSON
      * Charge spécifiquement la layer "out" du fichier LevelOne.json
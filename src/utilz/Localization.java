@@ -0,0 +1,266 @@
+package utilz;
+
+// Java standard library imports
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static utilz.Constants.PATHS.DATA;
+
+/**
+ * Tables de traduction du jeu, chargées une seule fois au démarrage
+ *
+ * ORGANISATION:
+ * - Les fichiers /data/langue.properties et /data/langue_&lt;code&gt;.properties des
+ *   langues connues (LANGUAGES) sont lus depuis le classpath au premier accès : ils
+ *   sont trouvés depuis le JAR comme depuis l'IDE, quel que soit le dossier courant
+ * - En développement seulement, si le classpath n'en contient aucun, tous les
+ *   fichiers langue*.properties du dossier res/data/ sont lus sur le disque
+ * - Chaque clé reçoit un identifiant entier (internement) ; chaque langue est un
+ *   tableau de chaînes indexé par ces identifiants
+ * - Les tableaux sont résolus au chargement : une clé absente d'une langue prend la
+ *   valeur de langue.properties (langue par défaut), puis la clé elle-même
+ * - Changer de langue remplace une seule référence de tableau : aucun accès disque
+ *
+ * ENCODAGE:
+ * - Comme ResourceBundle, les fichiers sont lus en UTF-8 avec repli sur ISO-8859-1
+ *   s'ils ne sont pas de l'UTF-8 valide
+ *
+ * @author Lounol72
+ */
+public final class Localization {
+
+    private static final String RESOURCE_DIR = "/data/";
+    private static final String FILE_PREFIX = "langue";
+    private static final String FILE_SUFFIX = ".properties";
+    public static final String DEFAULT_LANGUAGE = "en";
+    /** Langues livrées avec le jeu (fichiers langue_&lt;code&gt;.properties) */
+    public static final List<String> LANGUAGES = List.of("en", "fr", "ger");
+    public static final int UNKNOWN_KEY = -1;
+
+    private static Localization instance;
+
+    // Identifiants des clés (figés après le chargement)
+    private final Map<String, Integer> keyIds = new HashMap<>();
+    private final String[] keys;
+
+    // Tables résolues par langue
+    private final Map<String, String[]> tables = new HashMap<>();
+
+    private volatile String[] current;
+    private volatile String currentLanguage;
+
+    private Localization() {
+        Map<String, Properties> files = readResources();
+        if (files.isEmpty()) {
+            System.err.println("Traductions absentes du classpath, lecture du dossier : " + DATA);
+            files = readFiles(Path.of(DATA));
+        }
+
+        // Internement des clés de toutes les langues
+        List<String> allKeys = new ArrayList<>();
+        for (Properties properties : files.values()) {
+            for (String key : properties.stringPropertyNames()) {
+                if (!keyIds.containsKey(key)) {
+                    keyIds.put(key, allKeys.size());
+                    allKeys.add(key);
+                }
+            }
+        }
+        keys = allKeys.toArray(new String[0]);
+
+        // Langue par défaut : langue.properties, à défaut le fichier anglais
+        Properties defaults = files.getOrDefault("", files.getOrDefault(DEFAULT_LANGUAGE, new Properties()));
+        for (Map.Entry<String, Properties> file : files.entrySet()) {
+            if (!file.getKey().isEmpty()) {
+                tables.put(file.getKey(), resolve(file.getKey(), file.getValue(), defaults));
+            }
+        }
+        if (!tables.containsKey(DEFAULT_LANGUAGE)) {
+            tables.put(DEFAULT_LANGUAGE, resolve(DEFAULT_LANGUAGE, defaults, defaults));
+        }
+
+        currentLanguage = DEFAULT_LANGUAGE;
+        current = tables.get(DEFAULT_LANGUAGE);
+    }
+
+    /**
+     * Tables chargées depuis les ressources du jeu (chargées une seule fois)
+     */
+    public static synchronized Localization getInstance() {
+        if (instance == null) {
+            instance = new Localization();
+            instance.setLanguage(Constants.language);
+        }
+        return instance;
+    }
+
+    // === ACCÈS ===
+
+    /**
+     * Identifiant d'une clé, à conserver pour les accès répétés
+     * @param key Clé de traduction (ex: "press_enter")
+     * @return L'identifiant, ou UNKNOWN_KEY si aucune langue ne définit la clé
+     */
+    public int idOf(String key) {
+        Integer id = keyIds.get(key);
+        return id == null ? UNKNOWN_KEY : id;
+    }
+
+    /**
+     * Traduction par identifiant (une lecture de tableau)
+     * @return La traduction, ou null pour UNKNOWN_KEY
+     */
+    public String get(int id) {
+        return id == UNKNOWN_KEY ? null : current[id];
+    }
+
+    /**
+     * Traduction par clé
+     * @param key Clé de traduction
+     * @return La traduction, ou la clé elle-même si elle n'existe dans aucune langue
+     */
+    public String get(String key) {
+        int id = idOf(key);
+        if (id == UNKNOWN_KEY) {
+            System.err.println("Clé de traduction inconnue : " + key);
+            return key;
+        }
+        return current[id];
+    }
+
+    // === LANGUE ===
+
+    /**
+     * Change la langue courante (aucun accès disque)
+     * @param language Code de langue (ex: "fr", "en", "ger")
+     * @return false si la langue n'existe pas (la langue courante est conservée)
+     */
+    public boolean setLanguage(String language) {
+        String[] table = tables.get(language);
+        if (table == null) {
+            System.err.println("Langue non disponible : " + language);
+            return false;
+        }
+        current = table;
+        currentLanguage = language;
+        return true;
+    }
+
+    public String getLanguage() {
+        return currentLanguage;
+    }
+
+    public List<String> getAvailableLanguages() {
+        List<String> languages = new ArrayList<>(tables.keySet());
+        Collections.sort(languages);
+        return languages;
+    }
+
+    public int getKeyCount() {
+        return keys.length;
+    }
+
+    // === CHARGEMENT ===
+
+    /**
+     * Construit la table d'une langue, chaque clé absente étant complétée par la langue par défaut
+     */
+    private String[] resolve(String language, Properties properties, Properties defaults) {
+        String[] table = new String[keys.length];
+        List<String> missing = new ArrayList<>();
+        for (int id = 0; id < keys.length; id++) {
+            String value = properties.getProperty(keys[id]);
+            if (value == null) {
+                missing.add(keys[id]);
+                value = defaults.getProperty(keys[id], keys[id]);
+            }
+            table[id] = value;
+        }
+        if (!missing.isEmpty()) {
+            System.err.println("Traductions manquantes (" + language + ") : " + missing);
+        }
+        return table;
+    }
+
+    /**
+     * Lit les fichiers de traduction des langues connues depuis le classpath
+     * @return Propriétés par code de langue ("" pour langue.properties), vide si aucun fichier
+     */
+    private static Map<String, Properties> readResources() {
+        Map<String, Properties> files = new HashMap<>();
+        List<String> codes = new ArrayList<>();
+        codes.add("");
+        codes.addAll(LANGUAGES);
+        for (String code : codes) {
+            String path = RESOURCE_DIR + FILE_PREFIX + (code.isEmpty() ? "" : "_" + code) + FILE_SUFFIX;
+            try (InputStream is = Localization.class.getResourceAsStream(path)) {
+                if (is != null) {
+                    files.put(code, readProperties(is.readAllBytes()));
+                }
+            } catch (IOException e) {
+                System.err.println("Erreur lors du chargement des traductions : " + path);
+                e.printStackTrace();
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Lit tous les fichiers langue*.properties d'un dossier (repli de développement)
+     * @return Propriétés par code de langue ("" pour langue.properties)
+     */
+    private static Map<String, Properties> readFiles(Path directory) {
+        Map<String, Properties> files = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                String code = name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length());
+                if (code.startsWith("_")) {
+                    code = code.substring(1);
+                } else if (!code.isEmpty()) {
+                    continue; // Autre fichier commençant par "langue"
+                }
+                try {
+                    files.put(code, readProperties(Files.readAllBytes(file)));
+                } catch (IOException e) {
+                    System.err.println("Erreur lors du chargement des traductions : " + file);
+                    e.printStackTrace();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la lecture du dossier des traductions : " + directory);
+            e.printStackTrace();
+        }
+        return files;
+    }
+
+    private static Properties readProperties(byte[] bytes) throws IOException {
+        String text;
+        try {
+            text = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(bytes))
+                .toString();
+        } catch (CharacterCodingException e) {
+            text = new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        Properties properties = new Properties();
+        properties.load(new StringReader(text));
+        return properties;
+    }
+}
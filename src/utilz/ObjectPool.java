@@ -0,0 +1,220 @@
+package utilz;
+
+// Java standard library imports
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static utilz.Constants.DEBUG.POOL_LEAK_DETECTION;
+
+/**
+ * Réserve bornée d'objets réutilisables (forces, hitboxes de test, projectiles...)
+ *
+ * FONCTIONNEMENT:
+ * - obtain() rend un objet libre (remis à zéro), ou en crée un si la réserve est vide
+ * - free() remet l'objet dans la réserve ; au-delà de maxSize il est abandonné au GC
+ *   (la réserve ne grossit jamais au-delà du pic utile)
+ * - Chaque réserve tient ses statistiques (créations, sorties, abandons, pic d'objets
+ *   en circulation) et s'enregistre dans une liste globale (StatsReport)
+ *
+ * DÉBOGAGE (Constants.DEBUG.POOL_LEAK_DETECTION):
+ * - Chaque objet sorti est suivi avec la pile d'appel de sa sortie
+ * - Une double libération est signalée ; ReportLeaks() liste les objets jamais rendus
+ *
+ * Les réserves ne sont pas synchronisées : à utiliser depuis la boucle de jeu uniquement.
+ *
+ * @param <T> Type des objets
+ * @author Lounol72
+ */
+public final class ObjectPool<T> {
+
+    private static final List<ObjectPool<?>> POOLS = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final int maxSize;
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+
+    private Object[] free;
+    private int freeCount;
+
+    // === STATISTIQUES ===
+    private long created;
+    private long obtained;
+    private long released;
+    private long discarded;
+    private int inUse;
+    private int peakInUse;
+
+    // Objets sortis et pile de leur sortie (mode débogage uniquement)
+    private final Map<T, Throwable> outstanding = POOL_LEAK_DETECTION ? new IdentityHashMap<>() : null;
+
+    /**
+     * @param name Nom de la réserve (statistiques, messages)
+     * @param maxSize Nombre maximal d'objets libres conservés
+     * @param factory Création d'un objet
+     * @param reset Remise à zéro d'un objet rendu
+     */
+    public ObjectPool(String name, int maxSize, Supplier<T> factory, Consumer<T> reset) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.reset = reset;
+        this.free = new Object[Math.min(maxSize, 16)];
+        POOLS.add(this);
+    }
+
+    /**
+     * Objet libre (ou neuf si la réserve est vide)
+     */
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        T object;
+        if (freeCount > 0) {
+            object = (T) free[--freeCount];
+            free[freeCount] = null;
+        } else {
+            object = factory.get();
+            created++;
+        }
+        obtained++;
+        if (++inUse > peakInUse) {
+            peakInUse = inUse;
+        }
+        if (outstanding != null) {
+            outstanding.put(object, new Throwable("Sortie de la réserve " + name));
+        }
+        return object;
+    }
+
+    /**
+     * Rend un objet à la réserve (ne plus l'utiliser ensuite)
+     * @param object Objet obtenu par obtain() ; null est ignoré
+     */
+    public void free(T object) {
+        if (object == null) {
+            return;
+        }
+        if (outstanding != null && outstanding.remove(object) == null) {
+            System.err.println("Réserve " + name + " : objet rendu deux fois ou étranger à la réserve");
+            new Throwable().printStackTrace();
+            return;
+        }
+        released++;
+        inUse--;
+        reset.accept(object);
+        if (freeCount < maxSize) {
+            if (freeCount == free.length) {
+                Object[] grown = new Object[Math.min(maxSize, free.length * 2)];
+                System.arraycopy(free, 0, grown, 0, freeCount);
+                free = grown;
+            }
+            free[freeCount++] = object;
+        } else {
+            discarded++;
+        }
+    }
+
+    // === STATISTIQUES ===
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Objets libres actuellement dans la réserve
+     */
+    public int getAvailable() {
+        return freeCount;
+    }
+
+    public long getCreatedCount() {
+        return created;
+    }
+
+    public long getObtainCount() {
+        return obtained;
+    }
+
+    public long getReleaseCount() {
+        return released;
+    }
+
+    /**
+     * Objets rendus alors que la réserve était pleine (laissés au GC)
+     */
+    public long getDiscardedCount() {
+        return discarded;
+    }
+
+    /**
+     * Objets sortis et pas encore rendus
+     */
+    public int getInUse() {
+        return inUse;
+    }
+
+    public int getPeakInUse() {
+        return peakInUse;
+    }
+
+    /**
+     * Signale les objets jamais rendus (mode débogage)
+     * @return Nombre d'objets en fuite, 0 si la détection est désactivée
+     */
+    public int reportLeaks() {
+        if (outstanding == null || outstanding.isEmpty()) {
+            return 0;
+        }
+        System.err.println("Réserve " + name + " : " + outstanding.size() + " objet(s) jamais rendu(s)");
+        for (Throwable origin : new ArrayList<>(outstanding.values())) {
+            origin.printStackTrace();
+        }
+        return outstanding.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Pool[" + name + ": available=" + freeCount + "/" + maxSize
+            + ", inUse=" + inUse + " (peak " + peakInUse + ")"
+            + ", created=" + created + ", obtained=" + obtained
+            + ", discarded=" + discarded + "]";
+    }
+
+    // === RÉSERVES ENREGISTRÉES ===
+
+    public static List<ObjectPool<?>> GetPools() {
+        return POOLS;
+    }
+
+    /**
+     * Statistiques de toutes les réserves, une ligne par réserve
+     */
+    public static String StatsReport() {
+        StringBuilder sb = new StringBuilder();
+        for (ObjectPool<?> pool : POOLS) {
+            sb.append(pool).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Signale les fuites de toutes les réserves (mode débogage)
+     * @return Nombre total d'objets en fuite
+     */
+    public static int ReportLeaks() {
+        int leaks = 0;
+        for (ObjectPool<?> pool : POOLS) {
+            leaks += pool.reportLeaks();
+        }
+        return leaks;
+    }
+}
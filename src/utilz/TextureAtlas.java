@@ -0,0 +1,212 @@
+package utilz;
+
+// Java standard library imports
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Atlas de textures généré au build par tools.AtlasPacker
+ *
+ * FONCTIONNEMENT:
+ * - L'index /assets/atlas/&lt;groupe&gt;.atlas liste les pages et les régions
+ * - Chaque page est une seule BufferedImage, les régions sont des sous-rectangles
+ * - Les atlas sont chargés à la première demande puis conservés
+ *
+ * Utilisation :
+ * <pre>
+ * AtlasRegion region = TextureAtlas.get(TextureAtlas.ICMONS).findRegion("722");
+ * region.draw(g, x, y, width, height);
+ * </pre>
+ *
+ * @author Lounol72
+ */
+public class TextureAtlas {
+
+    public static final String ATLAS_DIR = LoadSave.ASSETS + "atlas/";
+    public static final String UI = "ui";
+    public static final String ICMONS = "icmons";
+
+    /** Groupes empaquetés et leur dossier source (mêmes groupes que tools.AtlasPacker, PNG uniquement) */
+    public static final String[][] PACKED_GROUPS = {
+        {UI, LoadSave.UI},
+        {ICMONS, LoadSave.ICMONS},
+    };
+
+    // Atlas chargés, par groupe (un atlas absent est mémorisé pour ne pas relire l'index)
+    private static final Map<String, TextureAtlas> LOADED = new ConcurrentHashMap<>();
+    private static final TextureAtlas MISSING = new TextureAtlas(new BufferedImage[0]);
+
+    private final BufferedImage[] pages;
+    private final Map<String, AtlasRegion> regions = new HashMap<>();
+
+    private TextureAtlas(BufferedImage[] pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * Retourne l'atlas d'un groupe, en le chargeant si nécessaire
+     * @param group Nom du groupe (UI, ICMONS)
+     * @return L'atlas, ou null s'il n'a pas été généré
+     */
+    public static TextureAtlas get(String group) {
+        TextureAtlas atlas = LOADED.computeIfAbsent(group, TextureAtlas::load);
+        return atlas == MISSING ? null : atlas;
+    }
+
+    /**
+     * Vérifie si l'atlas d'un groupe a été généré (lecture de l'index seulement, sans décodage)
+     * @param group Nom du groupe
+     * @return true si l'index de l'atlas est présent dans les ressources
+     */
+    public static boolean exists(String group) {
+        return TextureAtlas.class.getResource(ATLAS_DIR + group + ".atlas") != null;
+    }
+
+    /**
+     * Recherche une région par nom dans l'atlas d'un groupe
+     * @param group Nom du groupe
+     * @param name Nom de la région
+     * @return La région, ou null si l'atlas ou la région n'existe pas
+     */
+    public static AtlasRegion find(String group, String name) {
+        TextureAtlas atlas = get(group);
+        return atlas == null ? null : atlas.findRegion(name);
+    }
+
+    /**
+     * Recherche une région par nom
+     * @param name Chemin relatif au dossier du groupe, sans extension (ex: "Buttons/ButtonsAtlas")
+     * @return La région, ou null si elle n'existe pas
+     */
+    public AtlasRegion findRegion(String name) {
+        return regions.get(name);
+    }
+
+    public int getPageCount() {
+        return pages.length;
+    }
+
+    public int getRegionCount() {
+        return regions.size();
+    }
+
+    // === CHARGEMENT ===
+
+    private static TextureAtlas load(String group) {
+        String indexPath = ATLAS_DIR + group + ".atlas";
+        InputStream is = TextureAtlas.class.getResourceAsStream(indexPath);
+        if (is == null) {
+            return MISSING;
+        }
+
+        Map<Integer, String> pageFiles = new HashMap<>();
+        Map<String, int[]> regionBounds = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t");
+                if (parts[0].equals("page") && parts.length == 3) {
+                    pageFiles.put(Integer.parseInt(parts[1]), parts[2]);
+                } else if (parts[0].equals("region") && parts.length == 7) {
+                    regionBounds.put(parts[1], new int[] {
+                        Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]),
+                        Integer.parseInt(parts[5]), Integer.parseInt(parts[6])
+                    });
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Erreur lors de la lecture de l'atlas : " + indexPath);
+            e.printStackTrace();
+            return MISSING;
+        }
+
+        BufferedImage[] pages = new BufferedImage[pageFiles.size()];
+        for (Map.Entry<Integer, String> entry : pageFiles.entrySet()) {
+            BufferedImage page = LoadSave.GetSpriteAtlas(ATLAS_DIR + entry.getValue());
+            if (page == null || entry.getKey() >= pages.length) {
+                return MISSING;
+            }
+            pages[entry.getKey()] = page;
+        }
+
+        TextureAtlas atlas = new TextureAtlas(pages);
+        for (Map.Entry<String, int[]> entry : regionBounds.entrySet()) {
+            int[] b = entry.getValue();
+            atlas.regions.put(entry.getKey(), new AtlasRegion(entry.getKey(), pages[b[0]], b[1], b[2], b[3], b[4]));
+        }
+        return atlas;
+    }
+
+    /**
+     * Sous-rectangle nommé d'une page d'atlas
+     */
+    public static class AtlasRegion {
+        private final String name;
+        private final BufferedImage page;
+        private final int x, y, width, height;
+        private BufferedImage image;
+
+        AtlasRegion(String name, BufferedImage page, int x, int y, int width, int height) {
+            this.name = name;
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Dessine la région directement depuis la page (pas de copie de pixels)
+         */
+        public void draw(Graphics g, int dx, int dy, int dw, int dh) {
+            g.drawImage(page, dx, dy, dx + dw, dy + dh, x, y, x + width, y + height, null);
+        }
+
+        public void draw(Graphics g, int dx, int dy) {
+            draw(g, dx, dy, width, height);
+        }
+
+        /**
+         * Retourne la région sous forme d'image (vue partageant les pixels de la page)
+         * Pour le code existant qui manipule des BufferedImage
+         */
+        public BufferedImage getImage() {
+            if (image == null) {
+                image = page.getSubimage(x, y, width, height);
+            }
+            return image;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BufferedImage getPage() {
+            return page;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package utilz;
+
+// Java standard library imports
+import java.util.Arrays;
+
+import static utilz.Constants.TIMERS.UPS;
+import static utilz.Constants.TIMERS.WHEEL_BITS;
+import static utilz.Constants.TIMERS.WHEEL_LEVELS;
+
+/**
+ * Ordonnanceur de minuteries en roues hiérarchiques, cadencé par les updates du jeu
+ *
+ * FONCTIONNEMENT:
+ * - WHEEL_LEVELS roues de 2^WHEEL_BITS cases ; une case de la roue n couvre
+ *   2^(WHEEL_BITS * n) updates (avec 4 x 64 : 2^24 updates, ~23 h à 200 UPS)
+ * - Une minuterie est rangée dans la roue la plus fine qui couvre son échéance ;
+ *   quand une roue fine fait un tour, la case courante de la roue supérieure est
+ *   redistribuée vers les roues plus fines (cascade)
+ * - Seule la case courante de la roue fine est parcourue à chaque update : des
+ *   milliers de minuteries en attente ne coûtent rien tant qu'elles ne se déclenchent pas
+ * - Une échéance au-delà de l'horizon est rangée dans la dernière case de la roue
+ *   supérieure puis reclassée à chaque passage
+ *
+ * STOCKAGE:
+ * - Minuteries en tableaux de primitives (listes doublement chaînées d'index par case),
+ *   emplacements libres réutilisés : programmer et annuler sont en O(1) et n'allouent
+ *   rien une fois la capacité atteinte
+ * - Un identifiant (long) contient l'emplacement et sa génération : annuler une
+ *   minuterie déjà déclenchée ou annulée est sans effet
+ *
+ * À utiliser depuis la boucle de jeu uniquement (les rappels s'exécutent dans advance()).
+ *
+ * @author Lounol72
+ */
+public final class TimerWheel {
+
+    /** Identifiant invalide (aucune minuterie) */
+    public static final long NONE = -1L;
+
+    private static final int SLOTS = 1 << WHEEL_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long HORIZON = 1L << (WHEEL_BITS * WHEEL_LEVELS);
+    private static final int FREE = -1;
+    private static final int FIRING = -2;
+
+    private long tick;
+
+    // === ROUES : tête de la liste de chaque case (level * SLOTS + slot) ===
+    private final int[] head = new int[WHEEL_LEVELS * SLOTS];
+
+    // === MINUTERIES (colonnes indexées par emplacement) ===
+    private Runnable[] callback;
+    private long[] deadline;
+    private long[] period;      // 0 : minuterie unique
+    private int[] next;
+    private int[] prev;
+    private int[] bucket;       // Case courante, FREE si l'emplacement est libre, FIRING pendant le rappel
+    private int[] generation;
+    private int freeHead = -1;
+    private int used;           // Emplacements déjà servis au moins une fois
+    private int active;
+
+    // === STATISTIQUES ===
+    private long fired;
+    private long cascaded;
+
+    public TimerWheel() {
+        this(64);
+    }
+
+    /**
+     * @param capacity Nombre de minuteries prévu (la capacité double au besoin)
+     */
+    public TimerWheel(int capacity) {
+        Arrays.fill(head, -1);
+        callback = new Runnable[capacity];
+        deadline = new long[capacity];
+        period = new long[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        bucket = new int[capacity];
+        generation = new int[capacity];
+    }
+
+    // === PROGRAMMATION ===
+
+    /**
+     * Programme un rappel unique
+     * @param delayTicks Délai en updates (au moins 1 : le rappel part au plus tôt à l'update suivant)
+     * @param task Rappel
+     * @return Identifiant pour cancel()
+     */
+    public long schedule(long delayTicks, Runnable task) {
+        return add(Math.max(1, delayTicks), 0, task);
+    }
+
+    /**
+     * Programme un rappel répété
+     * @param delayTicks Délai avant le premier rappel (updates)
+     * @param periodTicks Intervalle entre deux rappels (updates, au moins 1)
+     * @param task Rappel
+     * @return Identifiant pour cancel()
+     */
+    public long scheduleRepeating(long delayTicks, long periodTicks, Runnable task) {
+        return add(Math.max(1, delayTicks), Math.max(1, periodTicks), task);
+    }
+
+    /**
+     * Annule une minuterie (sans effet si elle est déjà partie ou annulée)
+     * @return true si une minuterie en attente a été annulée
+     */
+    public boolean cancel(long id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return false;
+        }
+        if (bucket[index] == FIRING) {
+            period[index] = 0; // Annulée depuis son propre rappel : pas de nouvelle échéance
+            return true;
+        }
+        unlink(index);
+        release(index);
+        return true;
+    }
+
+    /**
+     * La minuterie est encore en attente
+     */
+    public boolean isPending(long id) {
+        int index = indexOf(id);
+        return index >= 0 && bucket[index] != FIRING;
+    }
+
+    /**
+     * Updates restants avant le déclenchement, -1 si la minuterie n'est plus en attente
+     */
+    public long remaining(long id) {
+        int index = indexOf(id);
+        return index < 0 ? -1 : Math.max(0, deadline[index] - tick);
+    }
+
+    // === AVANCE ===
+
+    /**
+     * Avance d'un update et déclenche les minuteries arrivées à échéance
+     */
+    public void advance() {
+        tick++;
+        int index = (int) (tick & MASK);
+        if (index == 0) {
+            // La roue fine a fait un tour : cascade des roues supérieures
+            for (int level = 1; level < WHEEL_LEVELS; level++) {
+                int slot = (int) ((tick >>> (WHEEL_BITS * level)) & MASK);
+                cascade(level * SLOTS + slot);
+                if (slot != 0) {
+                    break;
+                }
+            }
+        }
+        // Retrait un par un : un rappel peut annuler une autre minuterie de la même case
+        int t;
+        while ((t = head[index]) >= 0) {
+            unlink(t);
+            if (deadline[t] > tick) {
+                insert(t); // Échéance au-delà de l'horizon, reclassée
+            } else {
+                fire(t);
+            }
+        }
+    }
+
+    private void fire(int t) {
+        bucket[t] = FIRING;
+        fired++;
+        int gen = generation[t];
+        try {
+            callback[t].run();
+        } catch (RuntimeException e) {
+            System.err.println("Erreur dans une minuterie");
+            e.printStackTrace();
+        }
+        if (generation[t] != gen || bucket[t] != FIRING) {
+            return;
+        }
+        if (period[t] > 0) {
+            deadline[t] = tick + period[t];
+            insert(t);
+        } else {
+            release(t);
+        }
+    }
+
+    private void cascade(int b) {
+        int t;
+        while ((t = head[b]) >= 0) {
+            unlink(t);
+            insert(t);
+            cascaded++;
+        }
+    }
+
+    // === LISTES DES CASES ===
+
+    private long add(long delay, long repeat, Runnable task) {
+        int t = allocate();
+        callback[t] = task;
+        deadline[t] = tick + delay;
+        period[t] = repeat;
+        insert(t);
+        active++;
+        return ((long) generation[t] << 32) | t;
+    }
+
+    /**
+     * Range une minuterie dans la roue la plus fine qui couvre son échéance
+     */
+    private void insert(int t) {
+        long due = deadline[t];
+        long delta = due - tick;
+        int b;
+        if (delta >= HORIZON) {
+            // Dernière case parcourue du tour de la roue supérieure
+            int top = WHEEL_LEVELS - 1;
+            b = top * SLOTS + (int) (((tick >>> (WHEEL_BITS * top)) - 1) & MASK);
+        } else {
+            int level = 0;
+            while (delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+                level++;
+            }
+            b = level * SLOTS + (int) ((due >>> (WHEEL_BITS * level)) & MASK);
+        }
+        bucket[t] = b;
+        prev[t] = -1;
+        next[t] = head[b];
+        if (head[b] >= 0) {
+            prev[head[b]] = t;
+        }
+        head[b] = t;
+    }
+
+    private void unlink(int t) {
+        if (prev[t] >= 0) {
+            next[prev[t]] = next[t];
+        } else {
+            head[bucket[t]] = next[t];
+        }
+        if (next[t] >= 0) {
+            prev[next[t]] = prev[t];
+        }
+    }
+
+    // === EMPLACEMENTS ===
+
+    private int allocate() {
+        if (freeHead >= 0) {
+            int t = freeHead;
+            freeHead = next[t];
+            return t;
+        }
+        if (used == callback.length) {
+            int capacity = used * 2;
+            callback = Arrays.copyOf(callback, capacity);
+            deadline = Arrays.copyOf(deadline, capacity);
+            period = Arrays.copyOf(period, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            bucket = Arrays.copyOf(bucket, capacity);
+            generation = Arrays.copyOf(generation, capacity);
+        }
+        return used++;
+    }
+
+    private void release(int t) {
+        callback[t] = null;
+        bucket[t] = FREE;
+        generation[t]++;
+        next[t] = freeHead;
+        freeHead = t;
+        active--;
+    }
+
+    private int indexOf(long id) {
+        if (id == NONE) {
+            return -1;
+        }
+        int t = (int) id;
+        if (t < 0 || t >= used || generation[t] != (int) (id >>> 32) || bucket[t] == FREE) {
+            return -1;
+        }
+        return t;
+    }
+
+    // === ACCÈS ===
+
+    /**
+     * Nombre d'updates écoulés depuis la création
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public int getActiveCount() {
+        return active;
+    }
+
+    public long getFiredCount() {
+        return fired;
+    }
+
+    public long getCascadedCount() {
+        return cascaded;
+    }
+
+    /**
+     * Convertit une durée en updates (arrondi supérieur, au moins 1)
+     */
+    public static long MillisToTicks(long millis) {
+        return Math.max(1, (millis * UPS + 999) / 1000);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerWheel[tick=" + tick + ", active=" + active + ", fired=" + fired + ", cascaded=" + cascaded + "]";
+    }
+}